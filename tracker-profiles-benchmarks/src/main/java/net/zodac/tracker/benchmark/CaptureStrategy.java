@@ -0,0 +1,126 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javax.imageio.ImageIO;
+import net.zodac.tracker.util.ScreenshotTaker;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * The strategies for capturing an image of an entire web page compared by {@link ScreenshotStrategyBenchmark}.
+ */
+enum CaptureStrategy {
+
+    /**
+     * Scrolls through the web page one viewport at a time, pasting each viewport into the image, as done by
+     * {@link ScreenshotTaker#captureEntirePage(RemoteWebDriver)}.
+     */
+    VIEWPORT_PASTING,
+
+    /**
+     * Captures the entire web page in a single DevTools command, as done by {@link ScreenshotTaker#captureEntirePageWithDevTools(HasCdp)}.
+     */
+    DEVTOOLS_FULL_PAGE,
+
+    /**
+     * Captures the web page in viewport-sized tiles using DevTools commands, without scrolling, decoding and drawing each tile before capturing the
+     * next. This avoids holding the encoded image of the entire web page in memory at once.
+     */
+    TILED_STREAMING;
+
+    /**
+     * All {@link CaptureStrategy} values.
+     */
+    static final List<CaptureStrategy> ALL_VALUES = List.of(values());
+
+    private static final String SCREENSHOT_FORMAT = "png";
+
+    /**
+     * Captures an image of the entire web page loaded by the {@link RemoteWebDriver} using this {@link CaptureStrategy}.
+     *
+     * @param driver the {@link RemoteWebDriver} with the loaded web page
+     * @return the {@link BufferedImage} of the entire web page
+     * @throws IOException thrown if an error occurs decoding a captured image
+     */
+    BufferedImage capture(final RemoteWebDriver driver) throws IOException {
+        return switch (this) {
+            case VIEWPORT_PASTING -> ScreenshotTaker.captureEntirePage(driver);
+            case DEVTOOLS_FULL_PAGE -> decode(ScreenshotTaker.captureEntirePageWithDevTools((HasCdp) driver));
+            case TILED_STREAMING -> captureTiles((HasCdp) driver);
+        };
+    }
+
+    private static BufferedImage captureTiles(final HasCdp driver) throws IOException {
+        final Map<String, Object> layoutMetrics = driver.executeCdpCommand("Page.getLayoutMetrics", Map.of());
+        final Map<?, ?> contentSize = (Map<?, ?>) Objects.requireNonNull(layoutMetrics.get("cssContentSize"));
+        final Map<?, ?> layoutViewport = (Map<?, ?>) Objects.requireNonNull(layoutMetrics.get("cssLayoutViewport"));
+        final int width = ((Number) Objects.requireNonNull(contentSize.get("width"))).intValue();
+        final int height = ((Number) Objects.requireNonNull(contentSize.get("height"))).intValue();
+        final int tileHeight = ((Number) Objects.requireNonNull(layoutViewport.get("clientHeight"))).intValue();
+
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            for (int tileTop = 0; tileTop < height; tileTop += tileHeight) {
+                final Map<String, Object> clip = Map.of(
+                    "x", 0,
+                    "y", tileTop,
+                    "width", width,
+                    "height", Math.min(tileHeight, height - tileTop),
+                    "scale", 1
+                );
+                final Map<String, Object> tile = driver.executeCdpCommand("Page.captureScreenshot", Map.of(
+                    "format", SCREENSHOT_FORMAT,
+                    "captureBeyondViewport", true,
+                    "clip", clip
+                ));
+                graphics.drawImage(decode(Base64.getDecoder().decode(String.valueOf(tile.get("data")))), 0, tileTop, null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    private static BufferedImage decode(final byte[] encodedImage) throws IOException {
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(encodedImage));
+        if (image == null) {
+            throw new IOException("Unable to decode captured image");
+        }
+        return image;
+    }
+
+    /**
+     * Returns the {@link CaptureStrategy} in lowercase, with words separated by a hyphen.
+     *
+     * @return the lowercase {@link String} of the {@link CaptureStrategy}
+     */
+    String toLowerCase() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
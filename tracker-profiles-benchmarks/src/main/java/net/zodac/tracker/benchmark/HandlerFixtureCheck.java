@@ -0,0 +1,232 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.zodac.tracker.benchmark.jsoup.JsoupWebDriver;
+import net.zodac.tracker.benchmark.jsoup.JsoupWebElement;
+import net.zodac.tracker.framework.TrackerHandlerFactory;
+import net.zodac.tracker.framework.exception.RedactionException;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.statistics.ProfileStatistic;
+import net.zodac.tracker.framework.statistics.ProfileStatistics;
+import net.zodac.tracker.handler.AbstractTrackerHandler;
+import net.zodac.tracker.util.PatternMatcher;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Checks the selectors and redaction logic of each tracker handler against a saved profile page, using a {@link JsoupWebDriver} rather than a web
+ * browser. The profile pages are read from {@code HANDLER_FIXTURES_DIRECTORY}, which should contain a subdirectory named after each tracker with a
+ * {@value #PROFILE_PAGE_FILE_NAME} file, as saved by the application with {@code RECORD_PAGES} enabled.
+ *
+ * <p>
+ * Recorded profile pages have already been scrubbed of any sensitive information, so before redacting, a synthetic email address and IP address
+ * are added to every HTML element selected by {@link AbstractTrackerHandler#getElementsPotentiallyContainingSensitiveInformation()}, and by each
+ * {@link RedactionRule} that replaces all text of an HTML element. The redaction must then remove every one of these synthetic values.
+ *
+ * <p>
+ * For each tracker, the check fails if:
+ * <ul>
+ *     <li>A value for any {@link AbstractTrackerHandler#significantProfileStatistics()} cannot be extracted</li>
+ *     <li>The selector of any required {@link RedactionRule} matches no HTML element</li>
+ *     <li>None of the {@link AbstractTrackerHandler#getElementsPotentiallyContainingSensitiveInformation()} selectors match an HTML element</li>
+ *     <li>A synthetic email address or IP address, or any other email address or IP address, remains on the profile page after
+ *     {@link AbstractTrackerHandler#redactElements()}</li>
+ * </ul>
+ *
+ * <p>
+ * A required {@link RedactionRule} with a pattern (like a passkey) is expected to no longer match a recorded profile page, and no synthetic value
+ * can be generated for its pattern. This is logged, but is not considered a failure as long as the selector of the {@link RedactionRule} matches.
+ */
+public final class HandlerFixtureCheck {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String PROFILE_PAGE_FILE_NAME = "profile.html";
+    private static final long NANOS_PER_MILLI = Duration.ofMillis(1L).toNanos();
+    private static final String SYNTHETIC_EMAIL_ADDRESS = "fixture.check@example.com";
+    private static final String SYNTHETIC_IP_ADDRESS = "192.0.2.1";
+
+    private HandlerFixtureCheck() {
+
+    }
+
+    /**
+     * Checks each tracker handler with a saved profile page, and exits with a non-zero exit code if any check fails.
+     *
+     * @param args unused
+     */
+    public static void main(final String[] args) {
+        final String fixturesDirectory = System.getenv("HANDLER_FIXTURES_DIRECTORY");
+        if (fixturesDirectory == null || fixturesDirectory.isBlank()) {
+            throw new IllegalArgumentException("No directory of saved profile pages provided in HANDLER_FIXTURES_DIRECTORY");
+        }
+
+        final File[] trackerDirectories = Path.of(fixturesDirectory).toFile().listFiles(File::isDirectory);
+        if (trackerDirectories == null || trackerDirectories.length == 0) {
+            throw new IllegalArgumentException(String.format("No tracker directories found in '%s'", fixturesDirectory));
+        }
+        Arrays.sort(trackerDirectories, Comparator.comparing(File::getName));
+
+        final Collection<String> failedTrackers = new ArrayList<>();
+        final long startNanos = System.nanoTime();
+        int numberOfCheckedTrackers = 0;
+        for (final File trackerDirectory : trackerDirectories) {
+            final File profilePage = new File(trackerDirectory, PROFILE_PAGE_FILE_NAME);
+            if (!profilePage.isFile()) {
+                LOGGER.debug("No {} found for '{}', skipping", PROFILE_PAGE_FILE_NAME, trackerDirectory.getName());
+                continue;
+            }
+
+            numberOfCheckedTrackers++;
+            final List<String> failures = check(trackerDirectory.getName(), profilePage);
+            if (!failures.isEmpty()) {
+                failedTrackers.add(trackerDirectory.getName());
+                for (final String failure : failures) {
+                    LOGGER.error("\t- {}", failure);
+                }
+            }
+        }
+
+        LOGGER.info("");
+        LOGGER.info("Checked {} trackers in {}ms, {} failed: {}", numberOfCheckedTrackers, (System.nanoTime() - startNanos) / NANOS_PER_MILLI,
+            failedTrackers.size(), failedTrackers);
+        System.exit(failedTrackers.isEmpty() ? 0 : 1); // NOPMD: DoNotTerminateVM - exit code used to flag failed checks
+    }
+
+    private static List<String> check(final String trackerName, final File profilePage) {
+        LOGGER.info("[{}]", trackerName);
+        final long startNanos = System.nanoTime();
+        final List<String> failures = new ArrayList<>();
+
+        try {
+            final JsoupWebDriver driver = new JsoupWebDriver();
+            driver.get(profilePage.toURI().toString());
+            final AbstractTrackerHandler trackerHandler = TrackerHandlerFactory.getHandler(trackerName, driver);
+
+            checkProfileStatistics(trackerHandler, failures);
+            checkRedactionRuleSelectors(trackerHandler, driver, failures);
+            checkRedaction(trackerHandler, driver, failures);
+        } catch (final RuntimeException e) {
+            LOGGER.debug("\t- Unable to check tracker handler", e);
+            failures.add(String.format("Unable to check tracker handler: %s", e.getMessage()));
+        }
+
+        LOGGER.info("\t- Checked in {}ms", (System.nanoTime() - startNanos) / NANOS_PER_MILLI);
+        return failures;
+    }
+
+    private static void checkProfileStatistics(final AbstractTrackerHandler trackerHandler, final Collection<String> failures) {
+        final Map<ProfileStatistic, By> profileStatisticSelectors = trackerHandler.profileStatisticSelectors();
+        if (profileStatisticSelectors.isEmpty()) {
+            return;
+        }
+
+        final ProfileStatistics profileStatistics = trackerHandler.extractProfileStatistics();
+        LOGGER.info("\t- Extracted {}/{} profile statistics", profileStatistics.values().size(), profileStatisticSelectors.size());
+        for (final ProfileStatistic significantStatistic : trackerHandler.significantProfileStatistics()) {
+            if (!profileStatistics.values().containsKey(significantStatistic)) {
+                failures.add(String.format("No value found for significant profile statistic '%s'", significantStatistic));
+            }
+        }
+    }
+
+    private static void checkRedactionRuleSelectors(final AbstractTrackerHandler trackerHandler, final JsoupWebDriver driver,
+                                                    final Collection<String> failures) {
+        for (final RedactionRule redactionRule : trackerHandler.redactionRules()) {
+            if (redactionRule.required() && driver.findElements(redactionRule.selector()).isEmpty()) {
+                failures.add(String.format("Selector of required redaction rule '%s' matched no elements", redactionRule.name()));
+            }
+        }
+    }
+
+    private static void checkRedaction(final AbstractTrackerHandler trackerHandler, final JsoupWebDriver driver, final Collection<String> failures) {
+        final int numberOfSeededElements = seedSensitiveInformation(trackerHandler, driver, failures);
+        LOGGER.info("\t- Added synthetic sensitive information to {} elements", numberOfSeededElements);
+
+        try {
+            LOGGER.info("\t- Redacted {} elements", trackerHandler.redactElements());
+        } catch (final RedactionException e) {
+            // Selectors are already checked, so any unmatched pattern has already been redacted in the saved page
+            LOGGER.info("\t- {} (expected if the page was recorded with redaction rules applied)", e.getMessage());
+        } catch (final WebDriverException e) {
+            failures.add(String.format("Unable to redact profile page: %s", e.getMessage()));
+            return;
+        }
+
+        final String remainingHtml = driver.document().body().html();
+        if (remainingHtml.contains(SYNTHETIC_EMAIL_ADDRESS)) {
+            failures.add("Synthetic email address found after redaction");
+        }
+        if (remainingHtml.contains(SYNTHETIC_IP_ADDRESS)) {
+            failures.add("Synthetic IP address found after redaction");
+        }
+
+        final String remainingText = driver.document().body().text();
+        if (PatternMatcher.containsEmailAddress(remainingText)) {
+            failures.add("Email address found after redaction");
+        }
+        if (PatternMatcher.containsIpAddress(remainingText)) {
+            failures.add("IP address found after redaction");
+        }
+    }
+
+    // Rules with a pattern are not seeded, since a value matching an arbitrary pattern cannot be generated
+    private static int seedSensitiveInformation(final AbstractTrackerHandler trackerHandler, final JsoupWebDriver driver,
+                                                final Collection<String> failures) {
+        final Collection<By> sensitiveSelectors = trackerHandler.getElementsPotentiallyContainingSensitiveInformation();
+        final Collection<By> selectorsToSeed = new ArrayList<>(sensitiveSelectors);
+        for (final RedactionRule redactionRule : trackerHandler.redactionRules()) {
+            if (redactionRule.pattern() == null) {
+                selectorsToSeed.add(redactionRule.selector());
+            }
+        }
+
+        final Set<Element> elementsToSeed = new LinkedHashSet<>();
+        boolean sensitiveSelectorsMatched = false;
+        for (final By selector : selectorsToSeed) {
+            for (final WebElement element : driver.findElements(selector)) {
+                elementsToSeed.add(((JsoupWebElement) element).element());
+                sensitiveSelectorsMatched |= sensitiveSelectors.contains(selector);
+            }
+        }
+
+        if (!sensitiveSelectors.isEmpty() && !sensitiveSelectorsMatched) {
+            failures.add("Selectors of elements potentially containing sensitive information matched no elements");
+        }
+
+        for (final Element element : elementsToSeed) {
+            element.appendText(String.format(" %s %s", SYNTHETIC_EMAIL_ADDRESS, SYNTHETIC_IP_ADDRESS));
+        }
+        return elementsToSeed.size();
+    }
+}
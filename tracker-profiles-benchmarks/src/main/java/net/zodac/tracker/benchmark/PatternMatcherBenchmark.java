@@ -0,0 +1,111 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.zodac.tracker.util.PatternMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link PatternMatcher}, checking and redacting the text of every element of a profile page, as done when redacting sensitive
+ * information.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternMatcherBenchmark {
+
+    /**
+     * The name of the profile page fixture to benchmark against.
+     */
+    @Param({ProfileFixtures.GAZELLE, ProfileFixtures.UNIT3D})
+    public String fixtureName = ProfileFixtures.GAZELLE;
+
+    private String html = "";
+    private List<String> textNodes = List.of();
+
+    /**
+     * Loads the profile page fixture.
+     */
+    @Setup
+    public void setUp() {
+        html = ProfileFixtures.loadHtml(fixtureName);
+        textNodes = ProfileFixtures.loadTextNodes(fixtureName);
+    }
+
+    /**
+     * Benchmarks {@link PatternMatcher#containsEmailAddress(String)} against the text of every element of the page.
+     *
+     * @param blackhole the {@link Blackhole} consuming the results
+     */
+    @Benchmark
+    public void containsEmailAddress(final Blackhole blackhole) {
+        for (final String textNode : textNodes) {
+            blackhole.consume(PatternMatcher.containsEmailAddress(textNode));
+        }
+    }
+
+    /**
+     * Benchmarks {@link PatternMatcher#containsIpAddress(String)} against the text of every element of the page.
+     *
+     * @param blackhole the {@link Blackhole} consuming the results
+     */
+    @Benchmark
+    public void containsIpAddress(final Blackhole blackhole) {
+        for (final String textNode : textNodes) {
+            blackhole.consume(PatternMatcher.containsIpAddress(textNode));
+        }
+    }
+
+    /**
+     * Benchmarks {@link PatternMatcher#replaceEmailAndIpAddresses(String)} against the text of every element of the page.
+     *
+     * @param blackhole the {@link Blackhole} consuming the results
+     */
+    @Benchmark
+    public void replaceEmailAndIpAddressesPerElement(final Blackhole blackhole) {
+        for (final String textNode : textNodes) {
+            blackhole.consume(PatternMatcher.replaceEmailAndIpAddresses(textNode));
+        }
+    }
+
+    /**
+     * Benchmarks {@link PatternMatcher#replaceEmailAndIpAddresses(String)} against the full HTML of the page.
+     *
+     * @return the redacted HTML
+     */
+    @Benchmark
+    public String replaceEmailAndIpAddressesFullPage() {
+        return PatternMatcher.replaceEmailAndIpAddresses(html);
+    }
+}
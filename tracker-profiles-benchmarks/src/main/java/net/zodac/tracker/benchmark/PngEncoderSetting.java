@@ -0,0 +1,98 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The settings of the {@code .png} encoder compared by {@link ScreenshotStrategyBenchmark}. The compression quality is passed to the {@link ImageIO}
+ * {@code .png} encoder, where a higher quality means less compression (and a faster encode with a larger file).
+ */
+enum PngEncoderSetting {
+
+    /**
+     * The default settings of the {@link ImageIO} {@code .png} encoder, as used when saving screenshots.
+     */
+    DEFAULT(null),
+
+    /**
+     * The fastest encode, with no compression.
+     */
+    FASTEST(1.0F),
+
+    /**
+     * A balance between encoding speed and file size.
+     */
+    BALANCED(0.5F),
+
+    /**
+     * The smallest file, with maximum compression.
+     */
+    SMALLEST(0.0F);
+
+    /**
+     * All {@link PngEncoderSetting} values.
+     */
+    static final List<PngEncoderSetting> ALL_VALUES = List.of(values());
+
+    private static final String PNG_FORMAT = "png";
+
+    @Nullable
+    private final Float compressionQuality;
+
+    PngEncoderSetting(final @Nullable Float compressionQuality) {
+        this.compressionQuality = compressionQuality;
+    }
+
+    /**
+     * Encodes the image as a {@code .png} using this {@link PngEncoderSetting}.
+     *
+     * @param image the {@link BufferedImage} to encode
+     * @return the encoded {@code .png} image
+     * @throws IOException thrown if an error occurs encoding the image
+     */
+    byte[] encode(final BufferedImage image) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final Float quality = compressionQuality;
+        if (quality == null) {
+            ImageIO.write(image, PNG_FORMAT, outputStream);
+            return outputStream.toByteArray();
+        }
+
+        final ImageWriter imageWriter = ImageIO.getImageWritersByFormatName(PNG_FORMAT).next();
+        try (final ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            final ImageWriteParam imageWriteParam = imageWriter.getDefaultWriteParam();
+            imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            imageWriteParam.setCompressionQuality(quality);
+            imageWriter.setOutput(imageOutputStream);
+            imageWriter.write(null, new IIOImage(image, null, null), imageWriteParam);
+        } finally {
+            imageWriter.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class used to load the tracker profile page fixtures used by the benchmarks. The fixtures are large, realistic profile pages (including
+ * email addresses, IP addresses and passkeys) saved under {@value #FIXTURES_DIRECTORY} as a resource.
+ */
+final class ProfileFixtures {
+
+    /**
+     * The Gazelle-style profile page fixture.
+     */
+    static final String GAZELLE = "gazelle-profile";
+
+    /**
+     * The UNIT3D-style profile page fixture.
+     */
+    static final String UNIT3D = "unit3d-profile";
+
+    private static final String FIXTURES_DIRECTORY = "/fixtures/";
+    private static final Pattern TEXT_NODE = Pattern.compile(">([^<]+)<");
+
+    private ProfileFixtures() {
+
+    }
+
+    /**
+     * Loads the full HTML of the fixture.
+     *
+     * @param fixtureName the name of the fixture, without the file extension
+     * @return the HTML of the fixture
+     * @throws UncheckedIOException thrown if the fixture does not exist or cannot be read
+     */
+    static String loadHtml(final String fixtureName) {
+        final String resourceName = FIXTURES_DIRECTORY + fixtureName + ".html";
+        try (final InputStream inputStream = ProfileFixtures.class.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IOException(String.format("Unable to find fixture '%s'", resourceName));
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads the non-blank text of each HTML element of the fixture, in the order they appear on the page. This is the same text that would be
+     * checked for each {@link org.openqa.selenium.WebElement} when redacting a profile page.
+     *
+     * @param fixtureName the name of the fixture, without the file extension
+     * @return the text of each HTML element of the fixture
+     * @throws UncheckedIOException thrown if the fixture does not exist or cannot be read
+     */
+    static List<String> loadTextNodes(final String fixtureName) {
+        final List<String> textNodes = new ArrayList<>();
+        final Matcher matcher = TEXT_NODE.matcher(loadHtml(fixtureName));
+        while (matcher.find()) {
+            final String text = matcher.group(1).strip();
+            if (!text.isEmpty()) {
+                textNodes.add(text);
+            }
+        }
+        return List.copyOf(textNodes);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.driver.java.JavaWebDriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Benchmark comparing each {@link CaptureStrategy} against each {@link SyntheticPage}, in a headless web browser created in the same way as for a
+ * tracker. For each combination, the wall time and the peak heap memory used to capture the image are measured, then the captured image is encoded
+ * with each {@link PngEncoderSetting} to measure the encoding time and the encoded size.
+ *
+ * <p>
+ * Each capture is done once as a warm-up, then repeated {@code SCREENSHOT_BENCHMARK_ITERATIONS} times (default {@value #DEFAULT_ITERATIONS}),
+ * reloading the page before each capture so any lazily-loaded images are reset. The median times are reported, and all results are saved in
+ * {@code SCREENSHOT_BENCHMARK_OUTPUT_FILE} (default {@code /tmp/tracker-profiles-benchmark/screenshot-strategies.json}).
+ *
+ * <p>
+ * This is not a JMH benchmark, since each measurement depends on a web browser and the heap memory and encoded size must be reported alongside the
+ * times.
+ */
+public final class ScreenshotStrategyBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DEFAULT_ITERATIONS = "5";
+    private static final String DEFAULT_OUTPUT_FILE = File.separator + String.join(File.separator, "tmp", "tracker-profiles-benchmark",
+        "screenshot-strategies.json");
+    private static final long NANOS_PER_MILLI = Duration.ofMillis(1L).toNanos();
+    private static final long BYTES_PER_MEGABYTE = 1_024L * 1_024L;
+    private static final String RESULT_FORMAT = "\t- %-16s %-18s %5dx%-6d capture: %6dms, heap: %5dMB, %-8s encode: %6dms, size: %,d bytes";
+
+    private ScreenshotStrategyBenchmark() {
+
+    }
+
+    /**
+     * Executes the benchmark, then prints and saves the results.
+     *
+     * @param args unused
+     * @throws IOException thrown if an error occurs capturing, encoding or saving an image
+     */
+    public static void main(final String[] args) throws IOException {
+        final int iterations = Integer.parseInt(getOrDefault("SCREENSHOT_BENCHMARK_ITERATIONS", DEFAULT_ITERATIONS));
+        final Path outputFile = Paths.get(getOrDefault("SCREENSHOT_BENCHMARK_OUTPUT_FILE", DEFAULT_OUTPUT_FILE));
+        final Path pageDirectory = Files.createTempDirectory("synthetic-pages");
+
+        final List<ScreenshotStrategyResult> results = new ArrayList<>();
+        final RemoteWebDriver driver = JavaWebDriverFactory.createDriver(TrackerType.HEADLESS);
+        try {
+            for (final SyntheticPage syntheticPage : SyntheticPage.ALL_VALUES) {
+                final String pageUrl = syntheticPage.write(pageDirectory).toUri().toString();
+                for (final CaptureStrategy captureStrategy : CaptureStrategy.ALL_VALUES) {
+                    LOGGER.info("Benchmarking '{}' with '{}'", syntheticPage.toLowerCase(), captureStrategy.toLowerCase());
+                    results.addAll(benchmark(driver, pageUrl, syntheticPage, captureStrategy, iterations));
+                }
+            }
+        } finally {
+            driver.quit();
+        }
+
+        LOGGER.info("");
+        LOGGER.info(">>> Screenshot strategy results (median of {} iterations) <<<", iterations);
+        for (final ScreenshotStrategyResult result : results) {
+            LOGGER.info(String.format(RESULT_FORMAT, result.page(), result.strategy(), result.width(), result.height(), result.captureMillis(),
+                result.heapPeakBytes() / BYTES_PER_MEGABYTE, result.encoderSetting(), result.encodeMillis(), result.encodedBytes()));
+        }
+
+        Files.createDirectories(Objects.requireNonNull(outputFile.toAbsolutePath().getParent()));
+        Files.writeString(outputFile, PRETTY_GSON.toJson(results), StandardCharsets.UTF_8);
+        LOGGER.info("Results saved at: [{}]", outputFile.toAbsolutePath());
+    }
+
+    private static List<ScreenshotStrategyResult> benchmark(final RemoteWebDriver driver, final String pageUrl, final SyntheticPage syntheticPage,
+                                                            final CaptureStrategy captureStrategy, final int iterations) throws IOException {
+        driver.get(pageUrl);
+        BufferedImage image = captureStrategy.capture(driver);
+
+        final List<Long> captureNanos = new ArrayList<>();
+        long heapPeakBytes = 0L;
+        for (int i = 0; i < iterations; i++) {
+            driver.get(pageUrl);
+            System.gc(); // NOPMD: DoNotCallGarbageCollectionExplicitly - reduce noise in the heap measurement from earlier captures
+            final long heapUsedBytes = resetHeapPeak();
+            final long startNanos = System.nanoTime();
+            image = captureStrategy.capture(driver);
+            captureNanos.add(System.nanoTime() - startNanos);
+            heapPeakBytes = Math.max(heapPeakBytes, heapPeak() - heapUsedBytes);
+        }
+
+        final List<ScreenshotStrategyResult> results = new ArrayList<>();
+        for (final PngEncoderSetting pngEncoderSetting : PngEncoderSetting.ALL_VALUES) {
+            final List<Long> encodeNanos = new ArrayList<>();
+            long encodedBytes = 0L;
+            for (int i = 0; i < iterations; i++) {
+                final long startNanos = System.nanoTime();
+                encodedBytes = pngEncoderSetting.encode(image).length;
+                encodeNanos.add(System.nanoTime() - startNanos);
+            }
+
+            results.add(new ScreenshotStrategyResult(syntheticPage.toLowerCase(), captureStrategy.toLowerCase(), image.getWidth(), image.getHeight(),
+                medianMillis(captureNanos), heapPeakBytes, pngEncoderSetting.toString(), medianMillis(encodeNanos), encodedBytes));
+        }
+        return results;
+    }
+
+    // Resets the peak of each heap memory pool, returning the heap memory currently used
+    private static long resetHeapPeak() {
+        long heapUsedBytes = 0L;
+        for (final MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+                heapUsedBytes += memoryPool.getUsage().getUsed();
+            }
+        }
+        return heapUsedBytes;
+    }
+
+    // The sum of the peaks of each heap memory pool, which may be slightly higher than the actual peak if the pools peaked at different times
+    private static long heapPeak() {
+        long heapPeakBytes = 0L;
+        for (final MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                heapPeakBytes += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+        return heapPeakBytes;
+    }
+
+    private static long medianMillis(final List<Long> nanos) {
+        final List<Long> sortedNanos = nanos.stream().sorted().toList();
+        return sortedNanos.get(sortedNanos.size() / 2) / NANOS_PER_MILLI;
+    }
+
+    private static String getOrDefault(final String environmentVariableName, final String defaultValue) {
+        final String environmentVariable = System.getenv(environmentVariableName);
+        if (environmentVariable != null) {
+            return environmentVariable;
+        }
+        return defaultValue;
+    }
+}
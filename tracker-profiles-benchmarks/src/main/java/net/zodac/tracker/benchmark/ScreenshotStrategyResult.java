@@ -0,0 +1,36 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+/**
+ * The result of capturing a {@link SyntheticPage} with a {@link CaptureStrategy}, then encoding it with a {@link PngEncoderSetting}.
+ *
+ * @param page           the {@link SyntheticPage} that was captured
+ * @param strategy       the {@link CaptureStrategy} used to capture the page
+ * @param width          the width of the captured image, in pixels
+ * @param height         the height of the captured image, in pixels
+ * @param captureMillis  the median wall time to capture the image, in milliseconds
+ * @param heapPeakBytes  the largest increase in used heap memory while capturing the image, in bytes
+ * @param encoderSetting the {@link PngEncoderSetting} used to encode the image
+ * @param encodeMillis   the median wall time to encode the image, in milliseconds
+ * @param encodedBytes   the size of the encoded image, in bytes
+ */
+record ScreenshotStrategyResult(String page, String strategy, int width, int height, long captureMillis, long heapPeakBytes, String encoderSetting,
+                                long encodeMillis, long encodedBytes) {
+
+}
@@ -0,0 +1,81 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.zodac.tracker.util.PatternMatcher;
+import net.zodac.tracker.util.ScriptExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ScriptExecutor#escapeForJavaScriptString(String)}, used to embed the redacted HTML of an element within a script.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScriptExecutorBenchmark {
+
+    /**
+     * The name of the profile page fixture to benchmark against.
+     */
+    @Param({ProfileFixtures.GAZELLE, ProfileFixtures.UNIT3D})
+    public String fixtureName = ProfileFixtures.GAZELLE;
+
+    private String html = "";
+
+    /**
+     * Loads the profile page fixture.
+     */
+    @Setup
+    public void setUp() {
+        html = ProfileFixtures.loadHtml(fixtureName);
+    }
+
+    /**
+     * Benchmarks {@link ScriptExecutor#escapeForJavaScriptString(String)} against the full HTML of the page.
+     *
+     * @return the escaped HTML
+     */
+    @Benchmark
+    public String escapeForJavaScriptString() {
+        return ScriptExecutor.escapeForJavaScriptString(html);
+    }
+
+    /**
+     * Benchmarks the redaction and escaping of the full HTML of the page, as done when replacing the HTML of an element with redacted text.
+     *
+     * @return the redacted and escaped HTML
+     */
+    @Benchmark
+    public String redactAndEscape() {
+        return ScriptExecutor.escapeForJavaScriptString(PatternMatcher.replaceEmailAndIpAddresses(html));
+    }
+}
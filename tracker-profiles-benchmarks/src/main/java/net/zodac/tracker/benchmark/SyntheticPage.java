@@ -0,0 +1,114 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The synthetic web pages captured by {@link ScreenshotStrategyBenchmark}. Each page has a fixed header, and a number of sections that are each
+ * the height of the viewport, with images that are only loaded once scrolled into view.
+ */
+enum SyntheticPage {
+
+    /**
+     * A web page the height of the viewport, with no scrolling needed.
+     */
+    ONE_VIEWPORT(1),
+
+    /**
+     * A web page five times the height of the viewport, similar to most tracker profile pages.
+     */
+    FIVE_VIEWPORTS(5),
+
+    /**
+     * A web page twenty times the height of the viewport, similar to the longest tracker profile pages.
+     */
+    TWENTY_VIEWPORTS(20);
+
+    /**
+     * All {@link SyntheticPage} values.
+     */
+    static final List<SyntheticPage> ALL_VALUES = List.of(values());
+
+    private static final String FIXTURE_NAME = "synthetic-page";
+    private static final String SECTIONS_PLACEHOLDER = "<!-- SECTIONS -->";
+    private static final int IMAGES_PER_SECTION = 3;
+    private static final int STATISTICS_PER_SECTION = 6;
+    private static final int MAX_COLOUR_VALUE = 256;
+    private static final String IMAGE_ELEMENT_FORMAT = "<img class=\"lazy\" alt=\"Banner %d\" data-src=\"data:image/svg+xml;charset=utf-8,%s\">%n";
+    private static final String IMAGE_FORMAT = """
+        <svg xmlns='http://www.w3.org/2000/svg' width='320' height='200'><defs><linearGradient id='g'><stop offset='0' stop-color='rgb(%d,%d,%d)'/>\
+        <stop offset='1' stop-color='rgb(%d,%d,%d)'/></linearGradient></defs><rect width='320' height='200' fill='url(#g)'/>\
+        <text x='20' y='110' font-size='28' fill='white'>Banner %d</text></svg>""";
+
+    private final int viewportHeights;
+
+    SyntheticPage(final int viewportHeights) {
+        this.viewportHeights = viewportHeights;
+    }
+
+    /**
+     * Writes the HTML of the {@link SyntheticPage} to a file, so it can be loaded by a web browser.
+     *
+     * @param directory the {@link Path} to the directory to save the file in
+     * @return the {@link Path} of the saved file
+     * @throws IOException thrown if an error occurs saving the file to the file system
+     */
+    Path write(final Path directory) throws IOException {
+        final StringBuilder sections = new StringBuilder();
+        for (int section = 1; section <= viewportHeights; section++) {
+            sections.append(String.format("<div class=\"section\"><h2>Section %d</h2>%n", section))
+                .append("<p>Synthetic content for benchmark_user, with torrents, requests, forum posts and comments.</p>\n");
+            for (int image = 1; image <= IMAGES_PER_SECTION; image++) {
+                final int imageNumber = (section - 1) * IMAGES_PER_SECTION + image;
+                sections.append(String.format(IMAGE_ELEMENT_FORMAT, imageNumber, createImage(imageNumber)));
+            }
+            sections.append("<table>\n");
+            for (int statistic = 1; statistic <= STATISTICS_PER_SECTION; statistic++) {
+                sections.append(String.format("<tr><td>Statistic %d.%d</td><td>%,d</td></tr>%n", section, statistic, section * statistic * 1_234));
+            }
+            sections.append("</table></div>\n");
+        }
+
+        final String html = ProfileFixtures.loadHtml(FIXTURE_NAME).replace(SECTIONS_PLACEHOLDER, sections);
+        return Files.writeString(directory.resolve(toLowerCase() + ".html"), html, StandardCharsets.UTF_8);
+    }
+
+    // Each image has a different gradient, so the images cannot be trivially compressed
+    private static String createImage(final int imageNumber) {
+        final int seed = imageNumber * 37;
+        final String svg = String.format(IMAGE_FORMAT, seed % MAX_COLOUR_VALUE, (seed * 3) % MAX_COLOUR_VALUE, (seed * 7) % MAX_COLOUR_VALUE,
+            (seed * 11) % MAX_COLOUR_VALUE, (seed * 13) % MAX_COLOUR_VALUE, (seed * 17) % MAX_COLOUR_VALUE, imageNumber);
+        return URLEncoder.encode(svg, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Returns the {@link SyntheticPage} in lowercase, with words separated by a hyphen.
+     *
+     * @return the lowercase {@link String} of the {@link SyntheticPage}
+     */
+    String toLowerCase() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.zodac.tracker.framework.TrackerHandlerFactory;
+import net.zodac.tracker.framework.annotation.TrackerHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link TrackerHandlerFactory#findMatchingHandler(String)}, called for each tracker defined by the user. The handler classes are
+ * scanned once, when {@link TrackerHandlerFactory} is first loaded during the warmup iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackerHandlerFactoryBenchmark {
+
+    /**
+     * The tracker name to search for, covering handlers with a single or multiple {@link TrackerHandler} annotations, and a tracker with no
+     * handler.
+     */
+    @Param({"ABTorrents", "Unwalled", "PrivateHD", "UnknownTracker"})
+    public String trackerName = "";
+
+    /**
+     * Benchmarks {@link TrackerHandlerFactory#findMatchingHandler(String)}.
+     *
+     * @return the matching {@link TrackerHandler}
+     */
+    @Benchmark
+    public Optional<TrackerHandler> findMatchingHandler() {
+        return TrackerHandlerFactory.findMatchingHandler(trackerName);
+    }
+}
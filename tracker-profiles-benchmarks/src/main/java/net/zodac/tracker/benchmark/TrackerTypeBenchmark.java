@@ -0,0 +1,74 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.zodac.tracker.framework.TrackerType;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link TrackerType}, used when parsing the tracker execution order and printing the summary of each {@link TrackerType}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackerTypeBenchmark {
+
+    /**
+     * The input to search for, with the last value not matching any {@link TrackerType}.
+     */
+    @Param({"headless", "Cloudflare-Check", "NON-ENGLISH", "unknown"})
+    public String input = "";
+
+    /**
+     * Benchmarks {@link TrackerType#find(String)}.
+     *
+     * @return the matching {@link TrackerType}, or {@code null} if none is found
+     */
+    @Benchmark
+    @Nullable
+    public TrackerType find() {
+        return TrackerType.find(input);
+    }
+
+    /**
+     * Benchmarks {@link TrackerType#toCapitalised()} for all {@link TrackerType}s.
+     *
+     * @param blackhole the {@link Blackhole} consuming the results
+     */
+    @Benchmark
+    public void toCapitalised(final Blackhole blackhole) {
+        for (final TrackerType trackerType : TrackerType.ALL_VALUES) {
+            blackhole.consume(trackerType.toCapitalised());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark.jsoup;
+
+import java.util.List;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+/**
+ * Utility class used to evaluate Selenium {@link By} selectors against a parsed jsoup {@link Element}, with the same semantics as the
+ * {@code findElements} function used by {@link net.zodac.tracker.util.ScriptExecutor} in the web browser. Each {@link By} selector is converted to
+ * the {@code [using, value]} pair of the W3C WebDriver specification, so selectors like {@link By#id(String)} and {@link By#className(String)} are
+ * evaluated as CSS selectors, as they would be by a real web browser.
+ */
+final class JsoupLocators {
+
+    private static final String CSS_SELECTOR = "css selector";
+    private static final String XPATH = "xpath";
+    private static final String TAG_NAME = "tag name";
+    private static final String LINK_TEXT = "link text";
+    private static final String PARTIAL_LINK_TEXT = "partial link text";
+
+    private JsoupLocators() {
+
+    }
+
+    /**
+     * Finds all descendants of the {@code root} {@link Element} matching the {@link By} selector, in document order. As in a web browser, the
+     * {@code root} {@link Element} itself is never matched, but an absolute XPath expression is evaluated against the entire document.
+     *
+     * @param root     the {@link Element} (or {@link org.jsoup.nodes.Document}) to search within
+     * @param selector the {@link By} selector
+     * @return the matching {@link Element}s
+     * @throws InvalidSelectorException thrown if the {@link By} selector cannot be evaluated
+     */
+    static List<Element> find(final Element root, final By selector) {
+        if (!(selector instanceof final By.Remotable remotableSelector)) {
+            throw new InvalidSelectorException(String.format("Unable to evaluate selector without a web browser: %s", selector));
+        }
+
+        final By.Remotable.Parameters parameters = remotableSelector.getRemoteParameters();
+        return find(root, parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    /**
+     * Finds all descendants of the {@code root} {@link Element} matching the {@code [using, value]} locator, as passed to the scripts executed by
+     * {@link net.zodac.tracker.util.ScriptExecutor}.
+     *
+     * @param root  the {@link Element} (or {@link org.jsoup.nodes.Document}) to search within
+     * @param using the locator strategy (like {@code css selector} or {@code xpath})
+     * @param value the selector for the locator strategy
+     * @return the matching {@link Element}s
+     * @throws InvalidSelectorException thrown if the locator strategy is not supported, or the selector is invalid
+     */
+    static List<Element> find(final Element root, final String using, final String value) {
+        try {
+            final List<Element> elements = switch (using) {
+                case CSS_SELECTOR -> root.select(value);
+                case XPATH -> root.selectXpath(value);
+                case TAG_NAME -> root.getElementsByTag(value);
+                case LINK_TEXT -> root.getElementsByTag("a").stream().filter(link -> link.text().strip().equals(value)).toList();
+                case PARTIAL_LINK_TEXT -> root.getElementsByTag("a").stream().filter(link -> link.text().contains(value)).toList();
+                default -> throw new InvalidSelectorException(String.format("Unsupported locator strategy '%s'", using));
+            };
+            return elements.stream().filter(element -> !root.equals(element)).toList();
+        } catch (final Selector.SelectorParseException | IllegalArgumentException e) {
+            throw new InvalidSelectorException(String.format("Invalid %s: '%s'", using, value), e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark.jsoup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.zodac.tracker.util.ScriptExecutor;
+import org.jspecify.annotations.Nullable;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Lightweight implementation of {@link RemoteWebDriver} backed by a jsoup {@link Document}, so the selectors and redaction logic of a tracker
+ * handler can be executed against a saved web page in milliseconds, without starting a web browser.
+ *
+ * <p>
+ * Only the following are supported:
+ * <ul>
+ *     <li>Loading a web page from a {@code file:} URL, or from HTML using {@link #loadHtml(String)}</li>
+ *     <li>{@link #findElement(By)} and {@link #findElements(By)}, using CSS selectors, XPath, tag names or link text, returning
+ *     {@link JsoupWebElement}s</li>
+ *     <li>The scripts executed by {@link ScriptExecutor} to apply redaction rules, retrieve text, read or replace the HTML or text of an element,
+ *     remove an attribute, update an inline style, check the page is loaded, retrieve the viewport height or scroll the page</li>
+ * </ul>
+ *
+ * <p>
+ * Any other script or WebDriver command (like navigating back, or taking a screenshot) throws an {@link UnsupportedCommandException}. Scripts on
+ * the web page are never executed, and stylesheets are not applied.
+ */
+public final class JsoupWebDriver extends RemoteWebDriver {
+
+    private static final String BLANK_URL = "about:blank";
+    private static final long VIEWPORT_HEIGHT = 1_080L;
+    private static final Pattern GET_OUTER_HTML = Pattern.compile("return arguments\\[0]\\.outerHTML;?");
+    private static final Pattern SET_OUTER_HTML = Pattern.compile("arguments\\[0]\\.outerHTML = '(.*)';?", Pattern.DOTALL);
+    private static final Pattern SET_INNER_TEXT = Pattern.compile("arguments\\[0]\\.innerText = '(.*)';?", Pattern.DOTALL);
+    private static final Pattern REMOVE_ATTRIBUTE = Pattern.compile("arguments\\[0]\\.removeAttribute\\('(.*)'\\);?");
+    private static final Pattern SET_STYLE = Pattern.compile("arguments\\[0]\\.style\\.(\\w+) = '(.*)';?");
+    private static final Pattern SCROLL_TO = Pattern.compile("window\\.scrollTo\\(0, \\d+\\);(?: return window\\.scrollY;)?");
+    private static final Pattern JAVASCRIPT_ESCAPE = Pattern.compile("\\\\(.)", Pattern.DOTALL);
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z])");
+
+    // The scripts executed by ScriptExecutor are private to it, so they are identified by a statement unique to each script
+    private static final String APPLY_REDACTION_RULES_MARKER = "const [rules, boxMode] = arguments;";
+    private static final String RETRIEVE_TEXT_MARKER = "text[key] = element ? element.innerText : null;";
+
+    private Document document = Document.createShell(BLANK_URL);
+    private String currentUrl = BLANK_URL;
+
+    /**
+     * Constructor for a {@link JsoupWebDriver}, with a blank web page loaded.
+     */
+    public JsoupWebDriver() {
+        super();
+    }
+
+    /**
+     * Loads the web page at the {@code file:} URL.
+     *
+     * @param url the {@code file:} URL of the web page
+     * @throws UnsupportedCommandException thrown if the URL is not a {@code file:} URL
+     * @throws WebDriverException          thrown if the web page cannot be read
+     */
+    @Override
+    public void get(final String url) {
+        if (!url.startsWith("file:")) {
+            throw new UnsupportedCommandException(String.format("Unable to load '%s' without a web browser, only 'file:' URLs are supported", url));
+        }
+
+        try {
+            document = Jsoup.parse(new File(URI.create(url)), StandardCharsets.UTF_8.name(), url);
+            currentUrl = url;
+        } catch (final IOException | IllegalArgumentException e) {
+            throw new WebDriverException(String.format("Unable to load '%s'", url), e);
+        }
+    }
+
+    /**
+     * Loads the web page from its HTML, replacing the current web page.
+     *
+     * @param html the HTML of the web page
+     */
+    public void loadHtml(final String html) {
+        document = Jsoup.parse(html);
+        currentUrl = BLANK_URL;
+    }
+
+    /**
+     * The jsoup {@link Document} of the current web page, including any changes made by executed scripts.
+     *
+     * @return the {@link Document}
+     */
+    public Document document() {
+        return document;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        return document.title();
+    }
+
+    @Override
+    public String getPageSource() {
+        return document.outerHtml();
+    }
+
+    @Override
+    public List<WebElement> findElements(final By locator) {
+        return JsoupLocators.find(document, locator).stream().<WebElement>map(JsoupWebElement::new).toList();
+    }
+
+    @Override
+    public WebElement findElement(final By locator) {
+        final List<WebElement> elements = findElements(locator);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException(String.format("Unable to find element using: %s", locator));
+        }
+        return elements.getFirst();
+    }
+
+    /**
+     * Executes the script against the current web page, if it is one of the supported scripts executed by {@link ScriptExecutor}.
+     *
+     * @param script the script to execute
+     * @param args   the arguments of the script
+     * @return the result of the script, in the same form as would be returned by a web browser
+     * @throws UnsupportedCommandException thrown if the script is not supported
+     */
+    @Override
+    @Nullable
+    public Object executeScript(final String script, final Object... args) {
+        if (script.contains(APPLY_REDACTION_RULES_MARKER)) {
+            return applyRedactionRules((List<?>) args[0], (Boolean) args[1]);
+        }
+        if (script.contains(RETRIEVE_TEXT_MARKER)) {
+            return retrieveText((Map<?, ?>) args[0]);
+        }
+
+        final String strippedScript = script.strip();
+        return switch (strippedScript) {
+            case "return document.readyState" -> "complete";
+            case "return window.innerHeight;" -> VIEWPORT_HEIGHT;
+            case "window.stop();" -> null;
+            default -> executeElementScript(strippedScript, args);
+        };
+    }
+
+    @Nullable
+    private Object executeElementScript(final String script, final Object... args) {
+        if (SCROLL_TO.matcher(script).matches()) {
+            return 0L;
+        }
+        if (GET_OUTER_HTML.matcher(script).matches()) {
+            return element(args).outerHtml();
+        }
+
+        final Matcher setOuterHtml = SET_OUTER_HTML.matcher(script);
+        if (setOuterHtml.matches()) {
+            final Element element = element(args);
+            element.after(unescapeJavaScriptString(setOuterHtml.group(1)));
+            element.remove();
+            return null;
+        }
+
+        final Matcher setInnerText = SET_INNER_TEXT.matcher(script);
+        if (setInnerText.matches()) {
+            element(args).text(unescapeJavaScriptString(setInnerText.group(1)));
+            return null;
+        }
+
+        final Matcher removeAttribute = REMOVE_ATTRIBUTE.matcher(script);
+        if (removeAttribute.matches()) {
+            element(args).removeAttr(removeAttribute.group(1));
+            return null;
+        }
+
+        final Matcher setStyle = SET_STYLE.matcher(script);
+        if (setStyle.matches()) {
+            final Element element = element(args);
+            final String propertyName = CAMEL_CASE_BOUNDARY.matcher(setStyle.group(1)).replaceAll("$1-$2").toLowerCase(Locale.ROOT);
+            final String existingStyle = element.attr("style").strip();
+            final String separator = existingStyle.isEmpty() || existingStyle.endsWith(";") ? "" : ";";
+            element.attr("style", String.format("%s%s %s: %s;", existingStyle, separator, propertyName, setStyle.group(2)).strip());
+            return null;
+        }
+
+        throw new UnsupportedCommandException(String.format("Unable to execute script without a web browser: %s", script.lines().findFirst()
+            .orElse("")));
+    }
+
+    private Map<String, Object> applyRedactionRules(final List<?> rules, final boolean boxMode) {
+        final List<Long> matchCounts = new ArrayList<>();
+        final List<Long> remainingCounts = new ArrayList<>();
+        final List<WebElement> elementsToBox = new ArrayList<>();
+        for (final Object rule : rules) {
+            final List<?> ruleValues = (List<?>) rule;
+            final Object patternSource = ruleValues.get(1);
+            final Pattern pattern = patternSource == null
+                ? null
+                : Pattern.compile(String.valueOf(patternSource), String.valueOf(ruleValues.get(2)).contains("i") ? Pattern.CASE_INSENSITIVE : 0);
+            final String replacement = String.valueOf(ruleValues.get(3));
+
+            long matchCount = 0L;
+            long remainingCount = 0L;
+            for (final Element element : find((List<?>) ruleValues.getFirst())) {
+                if (pattern != null && !pattern.matcher(element.text()).find()) {
+                    continue;
+                }
+
+                if (boxMode) {
+                    matchCount++;
+                    elementsToBox.add(new JsoupWebElement(element));
+                } else if (pattern == null) {
+                    matchCount++;
+                    element.text(replacement);
+                } else {
+                    final boolean replaced = replaceInTextNodes(element, pattern, replacement);
+                    if (pattern.matcher(element.text()).find()) {
+                        remainingCount++;
+                    } else if (replaced) {
+                        matchCount++;
+                    }
+                }
+            }
+            matchCounts.add(matchCount);
+            remainingCounts.add(remainingCount);
+        }
+        return Map.of("matchCounts", matchCounts, "remainingCounts", remainingCounts, "elementsToBox", elementsToBox);
+    }
+
+    // Matches are replaced within each text node, so any child elements of the element are retained
+    private static boolean replaceInTextNodes(final Element element, final Pattern pattern, final String replacement) {
+        final AtomicBoolean replaced = new AtomicBoolean();
+        NodeTraversor.traverse((node, _) -> {
+            if (node instanceof final TextNode textNode) {
+                final String text = textNode.getWholeText();
+                final String redactedText = pattern.matcher(text).replaceAll(Matcher.quoteReplacement(replacement));
+                if (!redactedText.equals(text)) {
+                    textNode.text(redactedText);
+                    replaced.set(true);
+                }
+            }
+        }, element);
+        return replaced.get();
+    }
+
+    private Map<String, @Nullable String> retrieveText(final Map<?, ?> locators) {
+        final Map<String, @Nullable String> text = new HashMap<>();
+        for (final Map.Entry<?, ?> locator : locators.entrySet()) {
+            final List<Element> elements = find((List<?>) locator.getValue());
+            text.put(String.valueOf(locator.getKey()), elements.isEmpty() ? null : elements.getFirst().text());
+        }
+        return text;
+    }
+
+    private List<Element> find(final List<?> locator) {
+        return JsoupLocators.find(document, String.valueOf(locator.get(0)), String.valueOf(locator.get(1)));
+    }
+
+    private static Element element(final Object... args) {
+        if (args.length == 0 || !(args[0] instanceof final JsoupWebElement jsoupWebElement)) {
+            throw new IllegalArgumentException(String.format("Expected a %s as the first script argument", JsoupWebElement.class.getSimpleName()));
+        }
+        return jsoupWebElement.element();
+    }
+
+    private static String unescapeJavaScriptString(final String input) {
+        return JAVASCRIPT_ESCAPE.matcher(input).replaceAll(match -> "n".equals(match.group(1)) ? "\n" : Matcher.quoteReplacement(match.group(1)));
+    }
+
+    /**
+     * Any WebDriver command not implemented by this {@link JsoupWebDriver} requires a web browser, so is rejected.
+     *
+     * @param payload the WebDriver command
+     * @return never returns
+     * @throws UnsupportedCommandException always thrown
+     */
+    @Override
+    protected Response execute(final CommandPayload payload) {
+        throw new UnsupportedCommandException(String.format("Unable to execute '%s' command without a web browser", payload.getName()));
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        loadHtml("");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s)", getClass().getSimpleName(), currentUrl);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.benchmark.jsoup;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Implementation of {@link WebElement} backed by a jsoup {@link Element}, returned by {@link JsoupWebDriver}. Only the structure and text of the
+ * HTML element is available: there is no layout, so {@link #getRect()} is always empty, and only inline styles are used by {@link #isDisplayed()}
+ * and {@link #getCssValue(String)}. Any action that would require a web browser to navigate, like {@link #click()}, is not supported.
+ */
+public final class JsoupWebElement implements WebElement {
+
+    private static final Rectangle EMPTY_RECTANGLE = new Rectangle(0, 0, 0, 0);
+
+    private final Element element;
+
+    /**
+     * Constructor for a {@link JsoupWebElement}.
+     *
+     * @param element the jsoup {@link Element}
+     */
+    JsoupWebElement(final Element element) {
+        this.element = element;
+    }
+
+    /**
+     * The jsoup {@link Element} backing this {@link JsoupWebElement}, which is updated in place by any script executed by the
+     * {@link JsoupWebDriver}.
+     *
+     * @return the jsoup {@link Element}
+     */
+    public Element element() {
+        return element;
+    }
+
+    @Override
+    public void click() {
+        throw new UnsupportedCommandException(String.format("Unable to click %s without a web browser", this));
+    }
+
+    @Override
+    public void submit() {
+        throw new UnsupportedCommandException(String.format("Unable to submit %s without a web browser", this));
+    }
+
+    @Override
+    public void sendKeys(final CharSequence... keysToSend) {
+        element.attr("value", element.attr("value") + String.join("", keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        element.attr("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        return element.tagName();
+    }
+
+    @Override
+    @Nullable
+    public String getDomAttribute(final String name) {
+        return element.hasAttr(name) ? element.attr(name) : null;
+    }
+
+    @Override
+    @Nullable
+    public String getDomProperty(final String name) {
+        return switch (name) {
+            case "innerHTML" -> element.html();
+            case "outerHTML" -> element.outerHtml();
+            case "innerText", "textContent" -> element.text();
+            default -> getDomAttribute(name);
+        };
+    }
+
+    @Override
+    @Nullable
+    public String getAttribute(final String name) {
+        return getDomProperty(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return element.hasAttr("selected") || element.hasAttr("checked");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !element.hasAttr("disabled");
+    }
+
+    /**
+     * Retrieves the text of the HTML element and all of its descendants, with whitespace normalised as it would be by a web browser. Since
+     * stylesheets are not applied, the text of hidden descendants is also included.
+     *
+     * @return the text of the HTML element
+     */
+    @Override
+    public String getText() {
+        return element.text();
+    }
+
+    @Override
+    public List<WebElement> findElements(final By by) {
+        return JsoupLocators.find(element, by).stream().<WebElement>map(JsoupWebElement::new).toList();
+    }
+
+    @Override
+    public WebElement findElement(final By by) {
+        final List<WebElement> elements = findElements(by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException(String.format("Unable to find element within %s using: %s", this, by));
+        }
+        return elements.getFirst();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        if ("hidden".equalsIgnoreCase(element.attr("type"))) {
+            return false;
+        }
+
+        for (Element current = element; current != null; current = current.parent()) {
+            if (current.hasAttr("hidden") || "none".equalsIgnoreCase(inlineStyle(current, "display"))
+                || "hidden".equalsIgnoreCase(inlineStyle(current, "visibility"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        return EMPTY_RECTANGLE.getPoint();
+    }
+
+    @Override
+    public Dimension getSize() {
+        return EMPTY_RECTANGLE.getDimension();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return EMPTY_RECTANGLE;
+    }
+
+    @Override
+    public String getCssValue(final String propertyName) {
+        return inlineStyle(element, propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(final OutputType<X> target) {
+        throw new UnsupportedCommandException(String.format("Unable to take screenshot of %s without a web browser", this));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof final JsoupWebElement other && element.equals(other.element);
+    }
+
+    @Override
+    public int hashCode() {
+        return element.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<%s> (%s)", element.tagName(), element.cssSelector());
+    }
+
+    private static String inlineStyle(final Element element, final String propertyName) {
+        for (final String declaration : element.attr("style").split(";")) {
+            final String[] nameAndValue = declaration.split(":", 2);
+            if (nameAndValue.length == 2 && nameAndValue[0].strip().equalsIgnoreCase(propertyName)) {
+                return nameAndValue[1].strip();
+            }
+        }
+        return "";
+    }
+}
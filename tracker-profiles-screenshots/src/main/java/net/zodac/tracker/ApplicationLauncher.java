@@ -17,11 +17,20 @@
 
 package net.zodac.tracker;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.logging.Level;
+import net.zodac.tracker.framework.ApplicationConfiguration;
 import net.zodac.tracker.framework.Configuration;
 import net.zodac.tracker.framework.ExitState;
+import net.zodac.tracker.framework.telemetry.BrowserResourceSampler;
+import net.zodac.tracker.framework.telemetry.CommandProfiler;
+import net.zodac.tracker.framework.telemetry.MetricsServer;
+import net.zodac.tracker.framework.telemetry.NavigationTimings;
+import net.zodac.tracker.framework.telemetry.StepTimer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Main class, which launches the application.
@@ -37,6 +46,11 @@ public final class ApplicationLauncher {
     /**
      * Main method for the application. Configures any requirements then launches the application.
      *
+     * <p>
+     * If {@link ApplicationConfiguration#daemonInterval()} is set, the application is executed repeatedly with that interval until stopped, rather
+     * than exiting after a single run. If {@link ApplicationConfiguration#metricsPort()} is set, the metrics are exposed by a {@link MetricsServer}
+     * for the lifetime of the application.
+     *
      * @see ProfileScreenshotter
      */
     static void main() {
@@ -54,13 +68,64 @@ public final class ApplicationLauncher {
             exit(ExitState.FAILURE);
         }
 
+        final ApplicationConfiguration config = Configuration.get();
+        try (final MetricsServer _ = startMetricsServer(config.metricsPort())) {
+            if (config.daemonInterval() <= 0) {
+                exit(execute());
+            }
+
+            executeAsDaemon(config);
+        }
+    }
+
+    private static ExitState execute() {
         try {
-            final ExitState exitState = ProfileScreenshotter.executeProfileScreenshotter();
-            exit(exitState);
+            return ProfileScreenshotter.executeProfileScreenshotter();
         } catch (final Exception e) {
             LOGGER.debug("Error abruptly ended execution", e);
             LOGGER.error("Error abruptly ended execution: {}", e.getMessage());
-            exit(ExitState.FAILURE);
+            return ExitState.FAILURE;
+        }
+    }
+
+    // Each run is timed and profiled separately (and saved in its own dated output directory), but the metrics are cumulative for as long as the
+    // daemon is running
+    private static void executeAsDaemon(final ApplicationConfiguration config) {
+        final int intervalInMinutes = config.daemonInterval();
+        final String minutesPlural = intervalInMinutes == 1 ? "" : "s";
+        while (true) {
+            config.startNewRun();
+            StepTimer.reset();
+            BrowserResourceSampler.reset();
+            CommandProfiler.reset();
+            NavigationTimings.reset();
+            final ExitState exitState = execute();
+
+            LOGGER.info("");
+            LOGGER.info("Run completed with state {}, next run in {} minute{}", exitState, intervalInMinutes, minutesPlural);
+            try {
+                Thread.sleep(Duration.ofMinutes(intervalInMinutes));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug("Interrupted waiting for next run", e);
+                LOGGER.info("Daemon stopped");
+                return;
+            }
+        }
+    }
+
+    @Nullable
+    private static MetricsServer startMetricsServer(final int port) {
+        if (port <= 0) {
+            return null;
+        }
+
+        try {
+            return MetricsServer.start(port);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to start metrics server on port {}", port, e);
+            LOGGER.warn("Unable to start metrics server on port {}: {}", port, e.getMessage());
+            return null;
         }
     }
 
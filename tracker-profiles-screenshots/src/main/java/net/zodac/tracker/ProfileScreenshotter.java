@@ -17,9 +17,12 @@
 
 package net.zodac.tracker;
 
+import com.google.gson.JsonObject;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
@@ -27,10 +30,15 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 import net.zodac.tracker.framework.ApplicationConfiguration;
 import net.zodac.tracker.framework.Configuration;
 import net.zodac.tracker.framework.ExitState;
+import net.zodac.tracker.framework.LeakScanMode;
+import net.zodac.tracker.framework.OutputFormat;
+import net.zodac.tracker.framework.RedactionMode;
 import net.zodac.tracker.framework.TrackerCsvReader;
 import net.zodac.tracker.framework.TrackerDefinition;
 import net.zodac.tracker.framework.TrackerHandlerFactory;
@@ -40,15 +48,44 @@ import net.zodac.tracker.framework.exception.BrowserClosedException;
 import net.zodac.tracker.framework.exception.CancelledInputException;
 import net.zodac.tracker.framework.exception.DisabledTrackerException;
 import net.zodac.tracker.framework.exception.DriverAttachException;
+import net.zodac.tracker.framework.exception.LoginFailedException;
 import net.zodac.tracker.framework.exception.NoUserInputException;
+import net.zodac.tracker.framework.exception.RedactionException;
 import net.zodac.tracker.framework.exception.TranslationException;
+import net.zodac.tracker.framework.flow.PageState;
+import net.zodac.tracker.framework.flow.PageStateMachine;
+import net.zodac.tracker.framework.recorder.RecordedPage;
+import net.zodac.tracker.framework.render.DeferredRenderer;
+import net.zodac.tracker.framework.statistics.ProfileStatistics;
+import net.zodac.tracker.framework.statistics.ProfileStatisticsReader;
+import net.zodac.tracker.framework.statistics.ProfileStatisticsWriter;
+import net.zodac.tracker.framework.telemetry.BrowserResourceSampler;
+import net.zodac.tracker.framework.telemetry.CommandProfiler;
+import net.zodac.tracker.framework.telemetry.Metrics;
+import net.zodac.tracker.framework.telemetry.NavigationTiming;
+import net.zodac.tracker.framework.telemetry.NavigationTimings;
+import net.zodac.tracker.framework.telemetry.OtlpTraceExporter;
+import net.zodac.tracker.framework.telemetry.Step;
+import net.zodac.tracker.framework.telemetry.StepTimer;
+import net.zodac.tracker.framework.telemetry.TimelineReportWriter;
+import net.zodac.tracker.framework.telemetry.jfr.FlightRecording;
+import net.zodac.tracker.framework.telemetry.jfr.TrackerStartEvent;
+import net.zodac.tracker.framework.unredacted.UnredactedScreenshotWriter;
 import net.zodac.tracker.handler.AbstractTrackerHandler;
 import net.zodac.tracker.util.FileOpener;
+import net.zodac.tracker.util.LeakScanResult;
+import net.zodac.tracker.util.PageChanges;
 import net.zodac.tracker.util.ScreenshotTaker;
+import net.zodac.tracker.util.ScriptExecutor;
+import net.zodac.tracker.util.SnapshotTaker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 
 /**
@@ -71,6 +108,11 @@ public final class ProfileScreenshotter {
      * (after logging in and any other required actions). At this point, any sensitive information is redacted, and then a screenshot is taken by
      * {@link ScreenshotTaker}, then saved in the {@link ApplicationConfiguration#outputDirectory()}.
      *
+     * <p>
+     * If {@link ApplicationConfiguration#deferredRendering()} is enabled, a DOM snapshot is taken by {@link SnapshotTaker} instead, and the tracker
+     * is logged out immediately. The snapshots are rendered into screenshots by a {@link DeferredRenderer} in the background, and all renders are
+     * completed before execution finishes.
+     *
      * @return the exit code
      * @see ScreenshotTaker
      */
@@ -88,31 +130,177 @@ public final class ProfileScreenshotter {
             outputDirectory.mkdirs();
         }
 
+        startFlightRecording();
         printTrackersInfo(trackersByType);
         final Collection<String> successfulTrackers = new TreeSet<>();
         final Collection<String> unsuccessfulTrackers = new TreeSet<>();
+        final Map<String, LeakScanResult> leakScanResults = new TreeMap<>();
 
-        // Execute in the order specified
-        for (final TrackerType trackerType : CONFIG.trackerExecutionOrder()) {
-            if (!trackerType.isEnabled(trackersByType, CONFIG)) {
-                continue;
-            }
+        try (final DeferredRenderer deferredRenderer =
+                 new DeferredRenderer(CONFIG.rendererPoolSize(), CONFIG.browserMemoryBudget(), CONFIG.autoScaleRenderers())) {
+            // Execute in the order specified
+            for (final TrackerType trackerType : CONFIG.trackerExecutionOrder()) {
+                if (!trackerType.isEnabled(trackersByType, CONFIG)) {
+                    continue;
+                }
 
-            LOGGER.info("");
-            LOGGER.info(">>> Executing {} trackers <<<", trackerType.toCapitalised());
-            for (final TrackerDefinition trackerDefinition : trackersByType.getOrDefault(trackerType, Set.of())) {
-                final boolean successfullyTakenScreenshot = isAbleToTakeScreenshot(trackerDefinition);
-                if (successfullyTakenScreenshot) {
-                    successfulTrackers.add(trackerDefinition.name());
-                } else {
-                    unsuccessfulTrackers.add(trackerDefinition.name());
+                LOGGER.info("");
+                LOGGER.info(">>> Executing {} trackers <<<", trackerType.toCapitalised());
+                for (final TrackerDefinition trackerDefinition : trackersByType.getOrDefault(trackerType, Set.of())) {
+                    final boolean successfullyTakenScreenshot = isAbleToTakeScreenshot(trackerDefinition, deferredRenderer, leakScanResults);
+                    if (successfullyTakenScreenshot) {
+                        successfulTrackers.add(trackerDefinition.name());
+                    } else {
+                        unsuccessfulTrackers.add(trackerDefinition.name());
+                    }
                 }
             }
+
+            for (final String failedRender : deferredRenderer.awaitCompletion()) {
+                successfulTrackers.remove(failedRender);
+                unsuccessfulTrackers.add(failedRender);
+            }
         }
 
+        printLeakScanResults(leakScanResults);
+        writeTimelineReport();
+        writeCommandProfiles(successfulTrackers, unsuccessfulTrackers);
+        exportTraces();
+        dumpFlightRecording();
+        writeMetrics();
         return returnResultSummary(successfulTrackers, unsuccessfulTrackers);
     }
 
+    private static void writeTimelineReport() {
+        try {
+            final File timelineFile = TimelineReportWriter.write(CONFIG.outputDirectory());
+            LOGGER.debug("Step timings saved at: [{}]", timelineFile.getAbsolutePath());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save step timings", e);
+            LOGGER.warn("Unable to save step timings: {}", e.getMessage());
+        }
+    }
+
+    private static void startFlightRecording() {
+        if (!CONFIG.flightRecording()) {
+            return;
+        }
+
+        try {
+            FlightRecording.start();
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to start JDK Flight Recorder recording", e);
+            LOGGER.warn("Unable to start JDK Flight Recorder recording: {}", e.getMessage());
+        }
+    }
+
+    private static void dumpFlightRecording() {
+        try {
+            FlightRecording.stopAndDump(CONFIG.outputDirectory())
+                .ifPresent(recordingFile -> LOGGER.debug("JDK Flight Recorder recording saved at: [{}]", recordingFile.getAbsolutePath()));
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save JDK Flight Recorder recording", e);
+            LOGGER.warn("Unable to save JDK Flight Recorder recording: {}", e.getMessage());
+        }
+    }
+
+    private static void writeMetrics() {
+        if (CONFIG.metricsFile().isBlank()) {
+            return;
+        }
+
+        try {
+            final File metricsFile = Metrics.write(Path.of(CONFIG.metricsFile()));
+            LOGGER.debug("Metrics saved at: [{}]", metricsFile.getAbsolutePath());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save metrics to '{}'", CONFIG.metricsFile(), e);
+            LOGGER.warn("Unable to save metrics to '{}': {}", CONFIG.metricsFile(), e.getMessage());
+        }
+    }
+
+    private static void exportTraces() {
+        if (!CONFIG.exportTraces()) {
+            return;
+        }
+
+        final JsonObject traces = OtlpTraceExporter.createTraces();
+        try {
+            final File tracesFile = OtlpTraceExporter.write(traces, CONFIG.outputDirectory());
+            LOGGER.debug("Traces saved at: [{}]", tracesFile.getAbsolutePath());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save traces", e);
+            LOGGER.warn("Unable to save traces: {}", e.getMessage());
+        }
+
+        if (CONFIG.otlpEndpoint().isBlank()) {
+            return;
+        }
+
+        try {
+            OtlpTraceExporter.send(traces, CONFIG.otlpEndpoint());
+            LOGGER.debug("Traces sent to: [{}]", CONFIG.otlpEndpoint());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to send traces to '{}'", CONFIG.otlpEndpoint(), e);
+            LOGGER.warn("Unable to send traces to '{}': {}", CONFIG.otlpEndpoint(), e.getMessage());
+        }
+    }
+
+    private static void printLeakScanResults(final Map<String, LeakScanResult> leakScanResults) {
+        if (leakScanResults.isEmpty()) {
+            return;
+        }
+
+        final String trackersPlural = leakScanResults.size() == 1 ? "" : "s";
+        LOGGER.warn("");
+        LOGGER.warn("Possible unredacted sensitive information found for following tracker{}:", trackersPlural);
+        for (final Map.Entry<String, LeakScanResult> leakScanResult : leakScanResults.entrySet()) {
+            final LeakScanResult result = leakScanResult.getValue();
+            final String incompleteDescription = result.complete() ? "" : " (scan incomplete)";
+            LOGGER.warn("\t- {}: {}{}", leakScanResult.getKey(), result.findingsByType(), incompleteDescription);
+            for (final String location : result.locations()) {
+                LOGGER.warn("\t\t- {}", location);
+            }
+        }
+    }
+
+    private static void writeCommandProfiles(final Collection<String> successfulTrackers, final Collection<String> unsuccessfulTrackers) {
+        if (!CONFIG.profileWebDriverCommands() && CONFIG.commandCountBaseline().isBlank()) {
+            return;
+        }
+
+        try {
+            final File commandProfileFile = CommandProfiler.write(CONFIG.outputDirectory());
+            LOGGER.debug("WebDriver command profiles saved at: [{}]", commandProfileFile.getAbsolutePath());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save WebDriver command profiles", e);
+            LOGGER.warn("Unable to save WebDriver command profiles: {}", e.getMessage());
+        }
+
+        if (CONFIG.commandCountBaseline().isBlank()) {
+            return;
+        }
+
+        try {
+            final List<CommandProfiler.CommandCountRegression> regressions =
+                CommandProfiler.findRegressions(Path.of(CONFIG.commandCountBaseline()), CONFIG.commandCountTolerance());
+            if (regressions.isEmpty()) {
+                return;
+            }
+
+            final String trackersPlural = regressions.size() == 1 ? "" : "s";
+            LOGGER.warn("");
+            LOGGER.warn("WebDriver command count exceeded baseline for following tracker{}:", trackersPlural);
+            for (final CommandProfiler.CommandCountRegression regression : regressions) {
+                LOGGER.warn("\t- {}: {} commands (baseline {})", regression.trackerName(), regression.commandCount(), regression.baselineCount());
+                successfulTrackers.remove(regression.trackerName());
+                unsuccessfulTrackers.add(regression.trackerName());
+            }
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to compare against WebDriver command baseline '{}'", CONFIG.commandCountBaseline(), e);
+            LOGGER.warn("Unable to compare against WebDriver command baseline '{}': {}", CONFIG.commandCountBaseline(), e.getMessage());
+        }
+    }
+
     private static ExitState returnResultSummary(final Collection<String> successfulTrackers, final Collection<String> unsuccessfulTrackers) {
         if (successfulTrackers.isEmpty()) {
             final String trackersPlural = unsuccessfulTrackers.size() == 1 ? "" : "s";
@@ -197,35 +385,61 @@ public final class ProfileScreenshotter {
         }
     }
 
-    private static boolean isAbleToTakeScreenshot(final TrackerDefinition trackerDefinition) {
+    private static boolean isAbleToTakeScreenshot(final TrackerDefinition trackerDefinition, final DeferredRenderer deferredRenderer,
+                                                  final Map<String, LeakScanResult> leakScanResults) {
         LOGGER.info("");
         LOGGER.info("[{}]", trackerDefinition.name());
 
+        final String trackerType = TrackerHandlerFactory.findMatchingHandler(trackerDefinition.name())
+            .map(trackerHandler -> trackerHandler.type().toString())
+            .orElse("");
+
+        final TrackerStartEvent trackerStartEvent = new TrackerStartEvent();
+        trackerStartEvent.trackerName = trackerDefinition.name();
+        trackerStartEvent.trackerType = trackerType;
+        trackerStartEvent.commit();
+
+        final StepTimer.ActiveStep trackerStep = StepTimer.start(trackerDefinition.name(), Step.TRACKER);
+        if (!trackerType.isEmpty()) {
+            trackerStep.addAttribute(OtlpTraceExporter.ATTRIBUTE_TRACKER_TYPE, trackerType);
+        }
+
         // TODO: Add a retry option
         // TODO: On failure, take a screenshot and add to a subdirectory
-        try (final AbstractTrackerHandler trackerHandler = TrackerHandlerFactory.getHandler(trackerDefinition.name())) {
-            takeScreenshotOfProfilePage(trackerHandler, trackerDefinition);
+        try (final AbstractTrackerHandler trackerHandler = TrackerHandlerFactory.getHandler(trackerDefinition.name());
+             final BrowserResourceSampler _ = BrowserResourceSampler.start(trackerDefinition.name(), trackerHandler.driver())) {
+            takeScreenshotOfProfilePage(trackerHandler, trackerDefinition, deferredRenderer, leakScanResults);
+            trackerStep.addAttribute(OtlpTraceExporter.ATTRIBUTE_OUTCOME, OtlpTraceExporter.OUTCOME_SUCCESS);
             return true;
         } catch (final CancelledInputException e) {
             LOGGER.debug("\t- User cancelled manual input for tracker '{}'", trackerDefinition.name(), e);
             LOGGER.warn("\t- User cancelled manual input for tracker '{}'", trackerDefinition.name());
-            return false;
+            return failed(trackerStep, e);
         } catch (final DisabledTrackerException e) {
             LOGGER.debug("\t- Tracker '{}' is disabled: [{}]", trackerDefinition.name(), e.getMessage(), e);
             LOGGER.warn("\t- Tracker '{}' is disabled: [{}]", trackerDefinition.name(), e.getMessage());
-            return false;
+            return failed(trackerStep, e);
         } catch (final DriverAttachException e) {
             LOGGER.debug("\t- Unable to attach to Python Selenium web browser for tracker '{}'", trackerDefinition.name(), e);
             LOGGER.warn("\t- Unable to attach to Python Selenium web browser for tracker '{}'", trackerDefinition.name());
-            return false;
+            return failed(trackerStep, e);
+        } catch (final LoginFailedException e) {
+            LOGGER.debug("\t- Unable to log in to tracker '{}'", trackerDefinition.name(), e);
+            LOGGER.warn("\t- Unable to log in to tracker '{}' ({}): {}", trackerDefinition.name(), e.isRetryable() ? "retryable" : "not retryable",
+                e.getMessage());
+            return failed(trackerStep, e);
         } catch (final NoSuchElementException e) {
             LOGGER.debug("\t- No implementation for tracker '{}'", trackerDefinition.name(), e);
             LOGGER.warn("\t- No implementation for tracker '{}'", trackerDefinition.name());
-            return false;
+            return failed(trackerStep, e);
         } catch (final NoUserInputException e) {
             LOGGER.debug("\t- User provided no manual input for tracker '{}'", trackerDefinition.name(), e);
             LOGGER.warn("\t- User provided no manual input for tracker '{}'", trackerDefinition.name());
-            return false;
+            return failed(trackerStep, e);
+        } catch (final RedactionException e) {
+            LOGGER.debug("\t- Unable to redact sensitive information for tracker '{}'", trackerDefinition.name(), e);
+            LOGGER.warn("\t- Unable to redact sensitive information for tracker '{}': {}", trackerDefinition.name(), e.getMessage());
+            return failed(trackerStep, e);
         } catch (final TimeoutException e) {
             LOGGER.debug("\t- Timed out waiting to find required element for tracker '{}'", trackerDefinition.name(), e);
             if (e.getMessage() == null) {
@@ -234,13 +448,14 @@ public final class ProfileScreenshotter {
                 final String errorMessage = e.getMessage().split("\n")[0];
                 LOGGER.warn("\t- Timed out waiting to find required element for tracker '{}': {}", trackerDefinition.name(), errorMessage);
             }
-            return false;
+            return failed(trackerStep, e);
         } catch (final TranslationException e) {
             LOGGER.debug("\t- Unable to translate tracker '{}' to English", trackerDefinition.name(), e);
             LOGGER.warn("\t- Unable to translate tracker '{}' to English: {}", trackerDefinition.name(), e.getMessage());
-            return false;
+            return failed(trackerStep, e);
         } catch (final NoSuchSessionException | UnreachableBrowserException e) {
             LOGGER.debug("Browser unavailable, most likely user-cancelled", e);
+            trackerStep.addAttribute(OtlpTraceExporter.ATTRIBUTE_OUTCOME, e.getClass().getSimpleName());
             throw new BrowserClosedException(e);
         } catch (final Exception e) {
             LOGGER.debug("\t- Unexpected error taking screenshot of '{}'", trackerDefinition.name(), e);
@@ -252,50 +467,308 @@ public final class ProfileScreenshotter {
                 LOGGER.warn("\t- Unexpected error taking screenshot of '{}': {}", trackerDefinition.name(), errorMessage);
             }
 
-            return false;
+            return failed(trackerStep, e);
+        } finally {
+            trackerStep.close();
         }
     }
 
-    private static void takeScreenshotOfProfilePage(final AbstractTrackerHandler trackerHandler, final TrackerDefinition trackerDefinition)
+    // Records the type of the failure as the outcome of the tracker, so it is available in any exported traces
+    private static boolean failed(final StepTimer.ActiveStep trackerStep, final Exception e) {
+        trackerStep.addAttribute(OtlpTraceExporter.ATTRIBUTE_OUTCOME, e.getClass().getSimpleName());
+        return false;
+    }
+
+    // Browser-side timings are only diagnostic, so they are retrieved outside of any step without being profiled, and any failure is ignored
+    private static void recordNavigationTiming(final AbstractTrackerHandler trackerHandler, final String trackerName, final Step step) {
+        try {
+            final NavigationTiming navigationTiming = CommandProfiler.withoutProfiling(
+                () -> new ScriptExecutor(trackerHandler.driver()).retrieveNavigationTiming());
+            NavigationTimings.record(trackerName, step, navigationTiming);
+            LOGGER.debug("\t\t- TTFB: {}ms, DOMContentLoaded: {}ms, load: {}ms, {} resources ({} bytes)", Math.round(navigationTiming.ttfbMillis()),
+                Math.round(navigationTiming.domContentLoadedMillis()), Math.round(navigationTiming.loadMillis()), navigationTiming.resourceCount(),
+                navigationTiming.transferredBytes());
+        } catch (final IllegalStateException | WebDriverException e) {
+            LOGGER.debug("\t\t- Unable to retrieve navigation timing for tracker '{}'", trackerName, e);
+        }
+    }
+
+    private static void takeScreenshotOfProfilePage(final AbstractTrackerHandler trackerHandler, final TrackerDefinition trackerDefinition,
+                                                    final DeferredRenderer deferredRenderer, final Map<String, LeakScanResult> leakScanResults)
         throws IOException {
         // TODO: If screenshot already exists, skip tracker (based on env var)
 
-        LOGGER.info("\t- Opening tracker");
-        trackerHandler.openTracker();
-        trackerHandler.navigateToLoginPage(trackerDefinition.name());
+        try (final StepTimer.ActiveStep openStep = StepTimer.start(trackerDefinition.name(), Step.OPEN)) {
+            LOGGER.info("\t- Opening tracker");
+            trackerHandler.openTracker();
+            final String connectedUrl = trackerHandler.connectedUrl();
+            if (connectedUrl != null) {
+                openStep.addAttribute(OtlpTraceExporter.ATTRIBUTE_TRACKER_URL, connectedUrl);
+            }
+        }
+        recordNavigationTiming(trackerHandler, trackerDefinition.name(), Step.OPEN);
 
-        LOGGER.info("\t- Logging in as '{}'", trackerDefinition.username());
-        trackerHandler.login(trackerDefinition.username(), trackerDefinition.password(), trackerDefinition.name());
+        final ProfileStatistics profileStatistics;
+        try (final StepTimer.ActiveStep _ = navigateToProfilePage(trackerHandler, trackerDefinition)) {
+            trackerHandler.recordPage(RecordedPage.PROFILE);
+            profileStatistics = extractProfileStatistics(trackerHandler);
+        }
+        recordNavigationTiming(trackerHandler, trackerDefinition.name(), Step.PROFILE);
 
-        if (trackerHandler.canBannerBeCleared()) {
-            LOGGER.info("\t- Banner has been cleared");
+        final File previousScreenshot = findPreviousScreenshotIfUnchanged(trackerHandler, trackerDefinition, profileStatistics);
+        final File screenshot;
+        if (previousScreenshot == null) {
+            screenshot = redactAndTakeScreenshot(trackerHandler, trackerDefinition, deferredRenderer, leakScanResults);
+        } else {
+            screenshot = ScreenshotTaker.linkToPreviousScreenshot(previousScreenshot, trackerDefinition.name());
+            LOGGER.info("\t- Profile unchanged, linked previous screenshot at: [{}]", screenshot.getAbsolutePath());
         }
 
-        LOGGER.info("\t- Opening user profile page");
-        trackerHandler.openProfilePage();
+        if (profileStatistics != null) {
+            final File statisticsFile = ProfileStatisticsWriter.write(trackerDefinition.name(), profileStatistics.withScreenshot(screenshot));
+            LOGGER.info("\t- Statistics saved at: [{}]", statisticsFile.getAbsolutePath());
+        }
 
-        // TODO: Take both redacted and non-redacted screenshots?
-        if (!trackerHandler.getElementsPotentiallyContainingSensitiveInformation().isEmpty()) {
-            LOGGER.info("\t- Redacting elements with sensitive information");
-            final int numberOfRedactedElements = trackerHandler.redactElements();
-            if (numberOfRedactedElements != 0) {
-                final String redactedElementsPlural = numberOfRedactedElements == 1 ? "" : "s";
-                LOGGER.info("\t\t- Redacted the text of {} element{}", numberOfRedactedElements, redactedElementsPlural);
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.LOGOUT)) {
+            trackerHandler.logout();
+            LOGGER.info("\t- Logged out");
+        }
+
+        final File recordedPages = trackerHandler.saveRecordedPages(trackerDefinition.name(), trackerDefinition.username(),
+            trackerDefinition.password());
+        if (recordedPages != null) {
+            LOGGER.info("\t- Recorded pages saved at: [{}]", recordedPages.getAbsolutePath());
+        }
+
+        CommandProfiler.find(trackerDefinition.name()).ifPresent(trackerCommandProfile -> {
+            LOGGER.info("\t- Issued {} WebDriver commands", trackerCommandProfile.commandCount());
+            LOGGER.debug("\t\t- Command counts: {}", trackerCommandProfile.countsByCommand());
+        });
+    }
+
+    // Rather than assuming a fixed order of steps, each transition is only performed when its page state is found on the web page. The profile
+    // step is started when the profile page is opened, and is returned so it also covers the work done on the profile page
+    private static StepTimer.ActiveStep navigateToProfilePage(final AbstractTrackerHandler trackerHandler,
+                                                              final TrackerDefinition trackerDefinition) {
+        final String trackerName = trackerDefinition.name();
+        final Map<PageState, By> pageStateSelectors = trackerHandler.pageStateSelectors();
+        final AtomicReference<StepTimer.@Nullable ActiveStep> profileStep = new AtomicReference<>();
+        final PageStateMachine pageStateMachine = new PageStateMachine(new ScriptExecutor(trackerHandler.driver()), pageStateSelectors)
+            .on(PageState.CLOUDFLARE_CHALLENGE, PageState.LOGIN_PAGE, () -> {
+                try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.OPEN)) {
+                    trackerHandler.passCloudflareCheck(trackerName);
+                }
+            })
+            .on(PageState.HOME, PageState.LOGIN_PAGE, () -> {
+                try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.OPEN)) {
+                    trackerHandler.navigateToLoginPage(trackerName);
+                }
+            })
+            .on(PageState.CAPTCHA, PageState.LOGIN_PAGE, () -> {
+                try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.LOGIN)) {
+                    trackerHandler.solveCaptcha(trackerName);
+                }
+            })
+            .on(PageState.LOGIN_PAGE, PageState.LOGGED_IN, () -> {
+                try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.LOGIN)) {
+                    trackerHandler.recordPage(RecordedPage.LOGIN);
+                    LOGGER.info("\t- Logging in as '{}'", trackerDefinition.username());
+                    trackerHandler.login(trackerDefinition.username(), trackerDefinition.password(), trackerName);
+                    trackerHandler.recordPage(RecordedPage.HOME);
+                }
+            })
+            .on(PageState.BANNER, PageState.LOGGED_IN, () -> clearBanner(trackerHandler, trackerName))
+            .on(PageState.LOGGED_IN, PageState.PROFILE_PAGE, () -> {
+                // Trackers without a banner selector still expect their banner to be cleared once, straight after logging in
+                if (!pageStateSelectors.containsKey(PageState.BANNER)) {
+                    clearBanner(trackerHandler, trackerName);
+                }
+
+                if (profileStep.get() == null) {
+                    profileStep.set(StepTimer.start(trackerName, Step.PROFILE));
+                }
+                LOGGER.info("\t- Opening user profile page");
+                trackerHandler.openProfilePage(trackerDefinition.username());
+            });
+
+        // The Cloudflare verification check may only be shown after the web page has loaded, so it is awaited rather than skipped
+        if (pageStateSelectors.containsKey(PageState.CLOUDFLARE_CHALLENGE)) {
+            pageStateMachine.awaiting(PageState.CLOUDFLARE_CHALLENGE);
+        }
+
+        try {
+            pageStateMachine.runUntil(PageState.PROFILE_PAGE);
+        } catch (final RuntimeException e) {
+            final StepTimer.ActiveStep startedProfileStep = profileStep.get();
+            if (startedProfileStep != null) {
+                startedProfileStep.close();
+            }
+            throw e;
+        }
+
+        final StepTimer.ActiveStep startedProfileStep = profileStep.get();
+        return startedProfileStep == null ? StepTimer.start(trackerName, Step.PROFILE) : startedProfileStep;
+    }
+
+    private static void clearBanner(final AbstractTrackerHandler trackerHandler, final String trackerName) {
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.BANNER)) {
+            if (trackerHandler.canBannerBeCleared()) {
+                LOGGER.info("\t- Banner has been cleared");
             }
         }
+    }
 
+    private static File redactAndTakeScreenshot(final AbstractTrackerHandler trackerHandler, final TrackerDefinition trackerDefinition,
+                                                final DeferredRenderer deferredRenderer, final Map<String, LeakScanResult> leakScanResults)
+        throws IOException {
         if (trackerHandler.hasFixedHeader()) {
             LOGGER.info("\t- Header has been updated to not be fixed");
         }
 
-        if (CONFIG.enableTranslationToEnglish() && trackerHandler.isNotEnglish(trackerDefinition.username())) {
-            LOGGER.info("\t- Profile page has been translated to English");
+        // Taken before any redaction, and any changes to the page are tracked so the redacted screenshot can reuse the unchanged tiles
+        final ScriptExecutor scriptExecutor = new ScriptExecutor(trackerHandler.driver());
+        final BufferedImage unredactedImage;
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.CAPTURE)) {
+            unredactedImage = takeUnredactedScreenshot(trackerHandler, trackerDefinition);
+        }
+        final long unredactedPageHeight = unredactedImage == null ? 0L : scriptExecutor.startTrackingChanges();
+
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.REDACT)) {
+            if (!trackerHandler.getElementsPotentiallyContainingSensitiveInformation().isEmpty() || !trackerHandler.redactionRules().isEmpty()) {
+                LOGGER.info("\t- Redacting elements with sensitive information");
+                final int numberOfRedactedElements = trackerHandler.redactElements();
+                if (numberOfRedactedElements != 0) {
+                    final String redactedElementsPlural = numberOfRedactedElements == 1 ? "" : "s";
+                    final String redactionDescription = CONFIG.redactionMode() == RedactionMode.BOX ? "Boxed" : "Redacted the text of";
+                    LOGGER.info("\t\t- {} {} element{}", redactionDescription, numberOfRedactedElements, redactedElementsPlural);
+                }
+            }
         }
 
-        final File screenshot = ScreenshotTaker.takeScreenshot(trackerHandler.driver(), trackerDefinition.name());
-        LOGGER.info("\t- Screenshot saved at: [{}]", screenshot.getAbsolutePath());
+        boolean isTranslated = false;
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.TRANSLATE)) {
+            if (CONFIG.enableTranslationToEnglish() && trackerHandler.isNotEnglish(trackerDefinition.username())) {
+                LOGGER.info("\t- Profile page has been translated to English");
+                isTranslated = true;
+            }
+        }
+
+        if (CONFIG.leakScanMode() != LeakScanMode.OFF) {
+            final LeakScanResult leakScanResult;
+            try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.REDACT)) {
+                leakScanResult = trackerHandler.scanForLeaks(CONFIG.leakScanMode());
+            }
+            if (!leakScanResult.isEmpty()) {
+                final String action = CONFIG.leakScanMode() == LeakScanMode.REDACT ? "Redacted" : "Flagged";
+                LOGGER.warn("\t\t- {} possible sensitive information: {}", action, leakScanResult.findingsByType());
+                leakScanResults.put(trackerDefinition.name(), leakScanResult);
+            } else if (!leakScanResult.complete()) {
+                LOGGER.warn("\t\t- Unable to scan the entire page for sensitive information after {} elements", leakScanResult.nodesScanned());
+                leakScanResults.put(trackerDefinition.name(), leakScanResult);
+            }
+        }
+
+        // The boxes are only located once all text has been replaced (including by the leak scan), so they match the final layout of the page
+        final PageChanges pageChanges = unredactedImage == null ? null : scriptExecutor.stopTrackingChanges();
+        final List<Rectangle> redactionBoxes = trackerHandler.redactionBoxes();
+        final List<File> screenshots = new ArrayList<>();
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.CAPTURE)) {
+            for (final OutputFormat outputFormat : trackerDefinition.outputFormats()) {
+                // PDFs are printed in a single call, so only PNGs are worth deferring
+                if (outputFormat == OutputFormat.PNG && CONFIG.deferredRendering() && SnapshotTaker.isSupported(trackerHandler.driver())) {
+                    trackerHandler.redactTextOfBoxedElements();
+                    final File snapshot = SnapshotTaker.takeSnapshot(trackerHandler.driver(), trackerDefinition.name());
+                    LOGGER.info("\t- Snapshot saved at: [{}], queued for rendering", snapshot.getAbsolutePath());
+                    screenshots.add(deferredRenderer.submit(snapshot, trackerDefinition.name()));
+                    continue;
+                }
+
+                // The tiles of the unredacted screenshot can only be reused if the layout of the page has not changed
+                final File screenshot;
+                if (outputFormat == OutputFormat.PNG && unredactedImage != null && pageChanges != null && !isTranslated
+                    && pageChanges.pageHeight() == unredactedPageHeight) {
+                    screenshot = ScreenshotTaker.takeScreenshotReusingUnchangedTiles(trackerHandler.driver(), trackerDefinition.name(),
+                        unredactedImage, pageChanges, redactionBoxes);
+                } else {
+                    // A box drawn over a PDF would leave the text beneath it in the file, so the text is replaced instead
+                    if (outputFormat == OutputFormat.PDF) {
+                        trackerHandler.redactTextOfBoxedElements();
+                    }
+                    screenshot = ScreenshotTaker.takeScreenshot(trackerHandler.driver(), trackerDefinition.name(), outputFormat, redactionBoxes);
+                }
+                LOGGER.info("\t- Screenshot saved at: [{}]", screenshot.getAbsolutePath());
+                screenshots.add(screenshot);
+            }
+        }
+
+        return screenshots.getFirst();
+    }
+
+    @Nullable
+    private static BufferedImage takeUnredactedScreenshot(final AbstractTrackerHandler trackerHandler, final TrackerDefinition trackerDefinition)
+        throws IOException {
+        if (!CONFIG.captureUnredactedScreenshots()) {
+            return null;
+        }
+
+        final BufferedImage unredactedImage = ScreenshotTaker.captureEntirePage(trackerHandler.driver());
+        final File unredactedScreenshot;
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerDefinition.name(), Step.ENCODE)) {
+            unredactedScreenshot = UnredactedScreenshotWriter.write(unredactedImage, trackerDefinition.name());
+        }
+        LOGGER.info("\t- Unredacted screenshot saved at: [{}]", unredactedScreenshot.getAbsolutePath());
+        return unredactedImage;
+    }
+
+    @Nullable
+    private static File findPreviousScreenshotIfUnchanged(final AbstractTrackerHandler trackerHandler, final TrackerDefinition trackerDefinition,
+                                                          final @Nullable ProfileStatistics profileStatistics) {
+        if (!CONFIG.skipUnchangedScreenshots() || profileStatistics == null) {
+            return null;
+        }
+
+        final Optional<ProfileStatistics> previousProfileStatistics = ProfileStatisticsReader.readLatest(trackerDefinition.name());
+        if (previousProfileStatistics.isEmpty()) {
+            LOGGER.debug("\t\t- No previous statistics found for '{}'", trackerDefinition.name());
+            return null;
+        }
+
+        final ProfileStatistics previous = previousProfileStatistics.get();
+        final String previousScreenshotPath = previous.screenshot();
+        if (previousScreenshotPath == null) {
+            LOGGER.debug("\t\t- No previous screenshot found for '{}'", trackerDefinition.name());
+            return null;
+        }
+
+        final File previousScreenshot = new File(previousScreenshotPath);
+        if (!previousScreenshot.exists()) {
+            LOGGER.debug("\t\t- Previous screenshot '{}' no longer exists", previousScreenshot);
+            return null;
+        }
+
+        if (!profileStatistics.isUnchangedFrom(previous, trackerHandler.significantProfileStatistics())) {
+            LOGGER.debug("\t\t- Profile statistics have changed since '{}'", previous.capturedAt());
+            return null;
+        }
+
+        return previousScreenshot;
+    }
+
+    @Nullable
+    private static ProfileStatistics extractProfileStatistics(final AbstractTrackerHandler trackerHandler) {
+        if (!CONFIG.enableProfileStatistics() || trackerHandler.profileStatisticSelectors().isEmpty()) {
+            return null;
+        }
+
+        final ProfileStatistics profileStatistics = trackerHandler.extractProfileStatistics();
+        if (profileStatistics.isEmpty()) {
+            LOGGER.warn("\t\t- Unexpectedly found no profile statistics");
+            return null;
+        }
 
-        trackerHandler.logout();
-        LOGGER.info("\t- Logged out");
+        final int numberOfStatistics = profileStatistics.values().size();
+        final String statisticsPlural = numberOfStatistics == 1 ? "" : "s";
+        LOGGER.info("\t- Extracted {} profile statistic{}", numberOfStatistics, statisticsPlural);
+        return profileStatistics;
     }
 }
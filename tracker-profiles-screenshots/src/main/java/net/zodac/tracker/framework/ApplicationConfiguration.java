@@ -20,54 +20,120 @@ package net.zodac.tracker.framework;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
 
 // TODO: Add ability to enable/disable XXX trackers
 
 /**
  * Utility file that loads the application configuration from environment variables.
  *
- * @param browserDataStoragePath     the file path in which to store browser data (profiles, caches, etc.)
- * @param browserDimensions          the dimensions in the format {@code width,height} for the {@code Selenium} web browser
- * @param csvCommentSymbol           the {@code char} defining a comment row in the CSV file
- * @param forceUiBrowser             whether to use a UI-based browser or not
- * @param enableTranslationToEnglish whether to translate non-English {@link TrackerType}s to English
- * @param openOutputDirectory        whether to open the screenshot directory when execution is completed
- * @param outputDirectory            the output {@link Path} to the directory within which the screenshots will be saved
- * @param trackerExecutionOrder      the execution order of the different {@link TrackerType}s
- * @param trackerInputFilePath       the {@link Path} to the input tracker CSV file
+ * @param autoScaleRenderers            whether to adjust the number of snapshots rendered at the same time based on the cgroup limits
+ * @param browserDataStoragePath        the file path in which to store browser data (profiles, caches, etc.)
+ * @param browserDimensions             the dimensions in the format {@code width,height} for the {@code Selenium} web browser
+ * @param browserMemoryBudget           the maximum total web browser memory (in MB) before no more are created for rendering ({@code 0} for no limit)
+ * @param captureUnredactedScreenshots  whether to also save a screenshot of the profile page before any sensitive information is redacted
+ * @param commandCountBaseline          the path to a previous WebDriver command report, used to fail any tracker issuing more commands than before
+ * @param commandCountTolerance         the percentage by which the number of WebDriver commands may grow beyond the {@code commandCountBaseline}
+ * @param csvCommentSymbol              the {@code char} defining a comment row in the CSV file
+ * @param daemonInterval                the number of minutes between runs when running as a daemon (or {@code 0} to run once and exit)
+ * @param deferredRendering             whether to save a DOM snapshot of the profile page, to be rendered once the tracker session is closed
+ * @param enableProfileStatistics       whether to extract the user's statistics from the profile page and save them alongside the screenshot
+ * @param forceUiBrowser                whether to use a UI-based browser or not
+ * @param enableTranslationToEnglish    whether to translate non-English {@link TrackerType}s to English
+ * @param exportTraces                  whether to export the timed steps and WebDriver commands of the run as OpenTelemetry (OTLP-JSON) traces
+ * @param flightRecording               whether to record the execution with the JDK Flight Recorder
+ * @param leakScanMode                  the {@link LeakScanMode} used when scanning the entire profile page for any unredacted sensitive information
+ * @param metricsFile                   the path of a Prometheus {@code .prom} file to save the metrics to at the end of each run (if not empty)
+ * @param metricsPort                   the port to expose the Prometheus metrics on (or {@code 0} to disable)
+ * @param openOutputDirectory           whether to open the screenshot directory when execution is completed
+ * @param otlpEndpoint                  the base URL of an OTLP HTTP collector to send the traces to (if not empty)
+ * @param outputDirectoryNameFormat     the date-time format of the name of each run's output directory
+ * @param outputDirectoryParentPath     the {@link Path} to the directory within which each run's output directory will be created
+ * @param outputFormats                 the default {@link OutputFormat}s for each profile page, unless overridden for a tracker in the CSV file
+ * @param profileWebDriverCommands      whether to record the number and latency of each WebDriver command issued for each tracker
+ * @param recordPages                   whether to record the login, home and profile pages of each tracker as stand-in fixtures
+ * @param redactionMode                 the {@link RedactionMode} used to hide sensitive information on the profile page
+ * @param rendererPoolSize              the number of headless web browsers used to render DOM snapshots, if {@code deferredRendering} is enabled
+ * @param skipUnchangedScreenshots      whether to link the previous screenshot rather than take a new one, if the profile statistics are unchanged
+ *                                      (requires {@code enableProfileStatistics})
+ * @param statisticsDirectory           the {@link Path} to the directory within which the time series of each tracker's statistics will be saved
+ * @param timeZone                      the {@link ZoneId} used to resolve the name of each run's output directory
+ * @param trackerExecutionOrder         the execution order of the different {@link TrackerType}s
+ * @param trackerInputFilePath          the {@link Path} to the input tracker CSV file
+ * @param trackerUrlOverrides           the URL to use instead of a tracker's real URLs (like a local stand-in site), keyed by lower-case tracker name
+ * @param unredactedDirectoryParentPath the {@link Path} to the private directory within which each run's unredacted screenshots will be saved
+ * @param unredactedEncryptionPassword  the password used to encrypt the unredacted screenshots, or an empty {@link String} to save them unencrypted
  */
 public record ApplicationConfiguration(
+    boolean autoScaleRenderers,
     String browserDataStoragePath,
     String browserDimensions,
+    int browserMemoryBudget,
+    boolean captureUnredactedScreenshots,
+    String commandCountBaseline,
+    int commandCountTolerance,
     char csvCommentSymbol,
+    int daemonInterval,
+    boolean deferredRendering,
+    boolean enableProfileStatistics,
     boolean enableTranslationToEnglish,
+    boolean exportTraces,
+    boolean flightRecording,
     boolean forceUiBrowser,
+    LeakScanMode leakScanMode,
+    String metricsFile,
+    int metricsPort,
     boolean openOutputDirectory,
-    Path outputDirectory,
+    String otlpEndpoint,
+    String outputDirectoryNameFormat,
+    Path outputDirectoryParentPath,
+    List<OutputFormat> outputFormats,
+    boolean profileWebDriverCommands,
+    boolean recordPages,
+    RedactionMode redactionMode,
+    int rendererPoolSize,
+    boolean skipUnchangedScreenshots,
+    Path statisticsDirectory,
+    ZoneId timeZone,
     List<TrackerType> trackerExecutionOrder,
-    Path trackerInputFilePath
+    Path trackerInputFilePath,
+    Map<String, String> trackerUrlOverrides,
+    Path unredactedDirectoryParentPath,
+    String unredactedEncryptionPassword
 ) {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final AtomicReference<@Nullable String> RUN_DIRECTORY_NAME = new AtomicReference<>();
+    private static final int MAXIMUM_PORT = 65_535;
 
     // Default values
     private static final String BROWSER_DATA_STORAGE_PATH = File.separator + "tmp" + File.separator + "chrome-home";
     private static final String DEFAULT_BROWSER_WIDTH = "1680";
     private static final String DEFAULT_BROWSER_HEIGHT = "1050";
+    private static final int DEFAULT_COMMAND_COUNT_TOLERANCE = 10;
     private static final String DEFAULT_CSV_COMMENT_SYMBOL = "#";
+    private static final String DEFAULT_LEAK_SCAN_MODE = "flag";
     private static final String DEFAULT_OUTPUT_DIRECTORY_NAME_FORMAT = "yyyy-MM-dd";
     private static final String DEFAULT_OUTPUT_DIRECTORY_PARENT_PATH = File.separator + "app" + File.separator + "screenshots";
+    private static final String DEFAULT_OUTPUT_FORMATS = "png";
+    private static final String DEFAULT_REDACTION_MODE = "text";
+    private static final int DEFAULT_RENDERER_POOL_SIZE = 2;
+    private static final String DEFAULT_STATISTICS_DIRECTORY_NAME = "statistics";
     private static final String DEFAULT_TIMEZONE = "UTC";
+    private static final String DEFAULT_UNREDACTED_DIRECTORY_NAME = "unredacted";
     private static final String DEFAULT_TRACKER_EXECUTION_ORDER = "headless,manual,non-english,cloudflare-check";
     private static final String DEFAULT_TRACKER_INPUT_FILE_PATH = DEFAULT_OUTPUT_DIRECTORY_PARENT_PATH + File.separator + "trackers.csv";
 
@@ -78,21 +144,94 @@ public record ApplicationConfiguration(
      */
     public static ApplicationConfiguration load() {
         final ApplicationConfiguration applicationConfiguration = new ApplicationConfiguration(
+            getBooleanEnvironmentVariable("AUTO_SCALE_RENDERERS", false),
             BROWSER_DATA_STORAGE_PATH,
             getBrowserDimensions(),
+            getNonNegativeIntegerEnvironmentVariable("BROWSER_MEMORY_BUDGET", 0),
+            getBooleanEnvironmentVariable("CAPTURE_UNREDACTED_SCREENSHOTS", false),
+            getOrDefault("COMMAND_COUNT_BASELINE", ""),
+            getNonNegativeIntegerEnvironmentVariable("COMMAND_COUNT_TOLERANCE", DEFAULT_COMMAND_COUNT_TOLERANCE),
             getCsvCommentSymbol(),
+            getNonNegativeIntegerEnvironmentVariable("DAEMON_INTERVAL", 0),
+            getBooleanEnvironmentVariable("DEFERRED_RENDERING", false),
+            getBooleanEnvironmentVariable("ENABLE_PROFILE_STATISTICS", false),
             getBooleanEnvironmentVariable("ENABLE_TRANSLATION_TO_ENGLISH", true),
+            getBooleanEnvironmentVariable("EXPORT_TRACES", false),
+            getBooleanEnvironmentVariable("FLIGHT_RECORDING", false),
             getBooleanEnvironmentVariable("FORCE_UI_BROWSER", false),
+            getLeakScanMode(),
+            getOrDefault("METRICS_FILE", ""),
+            getMetricsPort(),
             getBooleanEnvironmentVariable("OPEN_OUTPUT_DIRECTORY", false),
-            getOutputDirectory(),
+            getOrDefault("OTLP_ENDPOINT", ""),
+            getOrDefault("OUTPUT_DIRECTORY_NAME_FORMAT", DEFAULT_OUTPUT_DIRECTORY_NAME_FORMAT),
+            Paths.get(getOrDefault("OUTPUT_DIRECTORY_PARENT_PATH", DEFAULT_OUTPUT_DIRECTORY_PARENT_PATH)),
+            OutputFormat.parse(getOrDefault("OUTPUT_FORMATS", DEFAULT_OUTPUT_FORMATS)),
+            getBooleanEnvironmentVariable("PROFILE_WEBDRIVER_COMMANDS", false),
+            getBooleanEnvironmentVariable("RECORD_PAGES", false),
+            getRedactionMode(),
+            getIntegerEnvironmentVariable("RENDERER_POOL_SIZE", DEFAULT_RENDERER_POOL_SIZE),
+            getBooleanEnvironmentVariable("SKIP_UNCHANGED_SCREENSHOTS", false),
+            getStatisticsDirectory(),
+            ZoneId.of(getOrDefault("TIMEZONE", DEFAULT_TIMEZONE)),
             getTrackerExecutionOrder(),
-            getTrackerInputFilePath()
+            getTrackerInputFilePath(),
+            getTrackerUrlOverrides(),
+            getUnredactedDirectoryParentPath(),
+            getOrDefault("UNREDACTED_ENCRYPTION_PASSWORD", "")
         );
 
+        // Resolves the output directory of the first run, which also validates the output directory name format
+        applicationConfiguration.startNewRun();
         applicationConfiguration.print();
+
+        // Unchanged screenshots are found by comparing against the previously saved statistics, which are only saved if statistics are enabled
+        if (applicationConfiguration.skipUnchangedScreenshots() && !applicationConfiguration.enableProfileStatistics()) {
+            LOGGER.warn("SKIP_UNCHANGED_SCREENSHOTS has no effect unless ENABLE_PROFILE_STATISTICS is also enabled");
+        }
         return applicationConfiguration;
     }
 
+    /**
+     * Resolves the output directory for a new run, using the current date and time. Should be called at the start of each run when the
+     * application is running as a daemon, otherwise every run would be saved in the output directory of the first run.
+     *
+     * @see #outputDirectory()
+     * @see #unredactedDirectory()
+     */
+    public void startNewRun() {
+        final LocalDateTime currentDateTime = LocalDateTime.now(timeZone);
+        RUN_DIRECTORY_NAME.set(currentDateTime.format(DateTimeFormatter.ofPattern(outputDirectoryNameFormat, Locale.getDefault())));
+    }
+
+    /**
+     * The output {@link Path} to the directory within which the screenshots of the current run will be saved.
+     *
+     * @return the output directory of the current run
+     * @see #startNewRun()
+     */
+    public Path outputDirectory() {
+        return outputDirectoryParentPath.resolve(runDirectoryName());
+    }
+
+    /**
+     * The {@link Path} to the private directory within which the unredacted screenshots of the current run will be saved.
+     *
+     * @return the unredacted directory of the current run
+     * @see #startNewRun()
+     */
+    public Path unredactedDirectory() {
+        return unredactedDirectoryParentPath.resolve(runDirectoryName());
+    }
+
+    private String runDirectoryName() {
+        final String runDirectoryName = RUN_DIRECTORY_NAME.get();
+        if (runDirectoryName == null) {
+            throw new IllegalStateException("Output directory has not been resolved for the current run");
+        }
+        return runDirectoryName;
+    }
+
     private static String getBrowserDimensions() {
         final String browserWidth = getOrDefault("BROWSER_WIDTH", DEFAULT_BROWSER_WIDTH);
         final String browserHeight = getOrDefault("BROWSER_HEIGHT", DEFAULT_BROWSER_HEIGHT);
@@ -103,6 +242,24 @@ public record ApplicationConfiguration(
         return getOrDefault("CSV_COMMENT_SYMBOL", DEFAULT_CSV_COMMENT_SYMBOL).charAt(0);
     }
 
+    private static LeakScanMode getLeakScanMode() {
+        final String leakScanModeRaw = getOrDefault("LEAK_SCAN_MODE", DEFAULT_LEAK_SCAN_MODE);
+        final LeakScanMode leakScanMode = LeakScanMode.find(leakScanModeRaw);
+        if (leakScanMode == null) {
+            throw new IllegalArgumentException(String.format("Invalid leak scan mode found: '%s'", leakScanModeRaw));
+        }
+        return leakScanMode;
+    }
+
+    private static RedactionMode getRedactionMode() {
+        final String redactionModeRaw = getOrDefault("REDACTION_MODE", DEFAULT_REDACTION_MODE);
+        final RedactionMode redactionMode = RedactionMode.find(redactionModeRaw);
+        if (redactionMode == null) {
+            throw new IllegalArgumentException(String.format("Invalid redaction mode found: '%s'", redactionModeRaw));
+        }
+        return redactionMode;
+    }
+
     private static List<TrackerType> getTrackerExecutionOrder() {
         final String executionOrderRaw = getOrDefault("TRACKER_EXECUTION_ORDER", DEFAULT_TRACKER_EXECUTION_ORDER);
         final String[] executionOrderTokens = executionOrderRaw.split(",");
@@ -127,14 +284,38 @@ public record ApplicationConfiguration(
         return List.copyOf(trackerExecutionOrder);
     }
 
-    private static Path getOutputDirectory() {
-        final String timeZone = getOrDefault("TIMEZONE", DEFAULT_TIMEZONE);
-        final String outputDirectoryNameFormat = getOrDefault("OUTPUT_DIRECTORY_NAME_FORMAT", DEFAULT_OUTPUT_DIRECTORY_NAME_FORMAT);
+    private static Path getStatisticsDirectory() {
+        final String outputDirectoryParentPath = getOrDefault("OUTPUT_DIRECTORY_PARENT_PATH", DEFAULT_OUTPUT_DIRECTORY_PARENT_PATH);
+        final String defaultStatisticsDirectory = Paths.get(outputDirectoryParentPath, DEFAULT_STATISTICS_DIRECTORY_NAME).toString();
+        return Paths.get(getOrDefault("STATISTICS_DIRECTORY", defaultStatisticsDirectory));
+    }
+
+    private static Path getUnredactedDirectoryParentPath() {
         final String outputDirectoryParentPath = getOrDefault("OUTPUT_DIRECTORY_PARENT_PATH", DEFAULT_OUTPUT_DIRECTORY_PARENT_PATH);
+        final String defaultUnredactedDirectoryParentPath = Paths.get(outputDirectoryParentPath, DEFAULT_UNREDACTED_DIRECTORY_NAME).toString();
+        return Paths.get(getOrDefault("UNREDACTED_DIRECTORY_PARENT_PATH", defaultUnredactedDirectoryParentPath));
+    }
 
-        final LocalDate currentDate = LocalDate.now(ZoneId.of(timeZone));
-        final String outputDirectoryName = currentDate.format(DateTimeFormatter.ofPattern(outputDirectoryNameFormat, Locale.getDefault()));
-        return Paths.get(outputDirectoryParentPath, outputDirectoryName);
+    private static Map<String, String> getTrackerUrlOverrides() {
+        final String trackerUrlOverridesRaw = getOrDefault("TRACKER_URL_OVERRIDES", "");
+        if (trackerUrlOverridesRaw.isBlank()) {
+            return Map.of();
+        }
+
+        final Map<String, String> trackerUrlOverrides = new LinkedHashMap<>();
+        for (final String trackerUrlOverrideToken : trackerUrlOverridesRaw.split(",")) {
+            final String[] trackerNameAndUrl = trackerUrlOverrideToken.split("=", 2);
+            if (trackerNameAndUrl.length != 2 || trackerNameAndUrl[0].isBlank() || trackerNameAndUrl[1].isBlank()) {
+                throw new IllegalArgumentException(String.format("Invalid tracker URL override found, expected 'name=url': '%s'",
+                    trackerUrlOverrideToken));
+            }
+
+            final String trackerName = trackerNameAndUrl[0].strip().toLowerCase(Locale.ROOT);
+            if (trackerUrlOverrides.put(trackerName, trackerNameAndUrl[1].strip()) != null) {
+                throw new IllegalArgumentException(String.format("Duplicate tracker URL override found: '%s'", trackerNameAndUrl[0].strip()));
+            }
+        }
+        return Map.copyOf(trackerUrlOverrides);
     }
 
     private static Path getTrackerInputFilePath() {
@@ -145,6 +326,41 @@ public record ApplicationConfiguration(
         return Boolean.parseBoolean(getOrDefault(environmentVariableName, Boolean.toString(defaultValue)));
     }
 
+    private static int getIntegerEnvironmentVariable(final String environmentVariableName, final int defaultValue) {
+        final int value = parseIntegerEnvironmentVariable(environmentVariableName, defaultValue);
+        if (value <= 0) {
+            throw new IllegalArgumentException(String.format("Require a positive value for %s, found: %d", environmentVariableName, value));
+        }
+        return value;
+    }
+
+    // For settings where 0 is used to disable the feature
+    private static int getNonNegativeIntegerEnvironmentVariable(final String environmentVariableName, final int defaultValue) {
+        final int value = parseIntegerEnvironmentVariable(environmentVariableName, defaultValue);
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Require a non-negative value for %s, found: %d", environmentVariableName, value));
+        }
+        return value;
+    }
+
+    private static int getMetricsPort() {
+        final int metricsPort = getNonNegativeIntegerEnvironmentVariable("METRICS_PORT", 0);
+        if (metricsPort > MAXIMUM_PORT) {
+            throw new IllegalArgumentException(String.format("Require a port between 0 and %d for METRICS_PORT, found: %d", MAXIMUM_PORT,
+                metricsPort));
+        }
+        return metricsPort;
+    }
+
+    private static int parseIntegerEnvironmentVariable(final String environmentVariableName, final int defaultValue) {
+        final String environmentVariable = getOrDefault(environmentVariableName, Integer.toString(defaultValue));
+        try {
+            return Integer.parseInt(environmentVariable.strip());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: '%s'", environmentVariableName, environmentVariable), e);
+        }
+    }
+
     private static String getOrDefault(final String environmentVariableName, final String defaultValue) {
         final String environmentVariable = System.getenv(environmentVariableName);
         if (environmentVariable != null) {
@@ -155,14 +371,40 @@ public record ApplicationConfiguration(
 
     private void print() {
         LOGGER.debug("Loaded application configuration:");
+        LOGGER.debug("\t- autoScaleRenderers={}", autoScaleRenderers);
         LOGGER.debug("\t- browserDataStoragePath={}", browserDataStoragePath);
         LOGGER.debug("\t- browserDimensions={}", browserDimensions);
+        LOGGER.debug("\t- browserMemoryBudget={}", browserMemoryBudget);
+        LOGGER.debug("\t- captureUnredactedScreenshots={}", captureUnredactedScreenshots);
+        LOGGER.debug("\t- commandCountBaseline={}", commandCountBaseline);
+        LOGGER.debug("\t- commandCountTolerance={}", commandCountTolerance);
         LOGGER.debug("\t- csvCommentSymbol={}", csvCommentSymbol);
+        LOGGER.debug("\t- daemonInterval={}", daemonInterval);
+        LOGGER.debug("\t- deferredRendering={}", deferredRendering);
+        LOGGER.debug("\t- enableProfileStatistics={}", enableProfileStatistics);
         LOGGER.debug("\t- enableTranslationToEnglish={}", enableTranslationToEnglish);
+        LOGGER.debug("\t- exportTraces={}", exportTraces);
+        LOGGER.debug("\t- flightRecording={}", flightRecording);
         LOGGER.debug("\t- forceUiBrowser={}", forceUiBrowser);
+        LOGGER.debug("\t- leakScanMode={}", leakScanMode);
+        LOGGER.debug("\t- metricsFile={}", metricsFile);
+        LOGGER.debug("\t- metricsPort={}", metricsPort);
         LOGGER.debug("\t- openOutputDirectory={}", openOutputDirectory);
-        LOGGER.debug("\t- outputDirectory={}", outputDirectory);
+        LOGGER.debug("\t- otlpEndpoint={}", otlpEndpoint);
+        LOGGER.debug("\t- outputDirectoryNameFormat={}", outputDirectoryNameFormat);
+        LOGGER.debug("\t- outputDirectoryParentPath={}", outputDirectoryParentPath);
+        LOGGER.debug("\t- outputFormats={}", outputFormats);
+        LOGGER.debug("\t- profileWebDriverCommands={}", profileWebDriverCommands);
+        LOGGER.debug("\t- recordPages={}", recordPages);
+        LOGGER.debug("\t- redactionMode={}", redactionMode);
+        LOGGER.debug("\t- rendererPoolSize={}", rendererPoolSize);
+        LOGGER.debug("\t- skipUnchangedScreenshots={}", skipUnchangedScreenshots);
+        LOGGER.debug("\t- statisticsDirectory={}", statisticsDirectory);
+        LOGGER.debug("\t- timeZone={}", timeZone);
         LOGGER.debug("\t- trackerExecutionOrder={}", trackerExecutionOrder);
         LOGGER.debug("\t- trackerInputFilePath={}", trackerInputFilePath);
+        LOGGER.debug("\t- trackerUrlOverrides={}", trackerUrlOverrides);
+        LOGGER.debug("\t- unredactedDirectoryParentPath={}", unredactedDirectoryParentPath);
+        LOGGER.debug("\t- unredactedEncryptionPassword={}", unredactedEncryptionPassword.isEmpty() ? "" : "********");
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework;
+
+import java.util.Collection;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Enum defining how the entire profile page of a tracker is scanned for sensitive information that was not redacted.
+ */
+public enum LeakScanMode {
+
+    /**
+     * The profile page is not scanned.
+     */
+    OFF,
+
+    /**
+     * Any sensitive information found is reported, but the profile page is not changed.
+     */
+    FLAG,
+
+    /**
+     * Any sensitive information found is reported, and replaced in the profile page.
+     */
+    REDACT;
+
+    /**
+     * All available {@link LeakScanMode}s.
+     *
+     * <p>
+     * Should be used instead of {@link LeakScanMode#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<LeakScanMode> ALL_VALUES = List.of(values());
+
+    /**
+     * Finds a {@link LeakScanMode} based on the input {@link String}. The search is case-insensitive.
+     *
+     * @param input the {@link LeakScanMode} as a {@link String}
+     * @return the matching {@link LeakScanMode}, or {@code null} if none is found
+     */
+    @Nullable
+    public static LeakScanMode find(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(leakScanMode -> leakScanMode.name().equalsIgnoreCase(input.strip()))
+            .findAny()
+            .orElse(null);
+    }
+}
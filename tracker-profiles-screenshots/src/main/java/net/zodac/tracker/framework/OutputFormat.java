@@ -0,0 +1,107 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Enum defining the output formats in which the profile page of a tracker can be saved.
+ */
+public enum OutputFormat {
+
+    /**
+     * A full-page {@code .png} image, stitched together from the browser viewport.
+     */
+    PNG("png"),
+
+    /**
+     * A single-page vector {@code .pdf} document, printed from the browser.
+     */
+    PDF("pdf");
+
+    /**
+     * All available {@link OutputFormat}s.
+     *
+     * <p>
+     * Should be used instead of {@link OutputFormat#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<OutputFormat> ALL_VALUES = List.of(values());
+
+    private final String fileExtension;
+
+    OutputFormat(final String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Finds a {@link OutputFormat} based on the input {@link String}. The search is case-insensitive.
+     *
+     * @param input the {@link OutputFormat} as a {@link String}
+     * @return the matching {@link OutputFormat}, or {@code null} if none is found
+     */
+    @Nullable
+    public static OutputFormat find(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(outputFormat -> outputFormat.fileExtension.equalsIgnoreCase(input.strip()))
+            .findAny()
+            .orElse(null);
+    }
+
+    /**
+     * Parses a comma-separated {@link String} of {@link OutputFormat}s, like {@code png,pdf}. The search is case-insensitive.
+     *
+     * @param input the comma-separated {@link OutputFormat}s
+     * @return the {@link List} of {@link OutputFormat}s, in the order they were defined
+     * @throws IllegalArgumentException thrown if no {@link OutputFormat} is provided, or if any value is invalid or duplicated
+     */
+    public static List<OutputFormat> parse(final String input) {
+        final Collection<OutputFormat> outputFormats = new LinkedHashSet<>();
+        for (final String outputFormatToken : input.split(",")) {
+            final OutputFormat outputFormat = find(outputFormatToken);
+            if (outputFormat == null) {
+                throw new IllegalArgumentException(String.format("Invalid output format found: '%s'", outputFormatToken));
+            }
+
+            if (!outputFormats.add(outputFormat)) {
+                throw new IllegalArgumentException(String.format("Duplicate output format found: '%s'", outputFormatToken));
+            }
+        }
+
+        return List.copyOf(outputFormats);
+    }
+
+    /**
+     * The file extension used when saving in this {@link OutputFormat}.
+     *
+     * @return the file extension (without a leading {@code .})
+     */
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.getDefault());
+    }
+}
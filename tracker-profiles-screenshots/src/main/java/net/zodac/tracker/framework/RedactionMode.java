@@ -0,0 +1,63 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework;
+
+import java.util.Collection;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Enum defining how sensitive information is redacted from the profile page of a tracker.
+ */
+public enum RedactionMode {
+
+    /**
+     * The text of the sensitive element is replaced in the web page, with the remaining HTML kept as-is.
+     */
+    TEXT,
+
+    /**
+     * The web page is not changed. Instead, the location of each sensitive element is retrieved, and an opaque box is painted over it in the
+     * screenshot.
+     */
+    BOX;
+
+    /**
+     * All available {@link RedactionMode}s.
+     *
+     * <p>
+     * Should be used instead of {@link RedactionMode#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<RedactionMode> ALL_VALUES = List.of(values());
+
+    /**
+     * Finds a {@link RedactionMode} based on the input {@link String}. The search is case-insensitive.
+     *
+     * @param input the {@link RedactionMode} as a {@link String}
+     * @return the matching {@link RedactionMode}, or {@code null} if none is found
+     */
+    @Nullable
+    public static RedactionMode find(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(redactionMode -> redactionMode.name().equalsIgnoreCase(input.strip()))
+            .findAny()
+            .orElse(null);
+    }
+}
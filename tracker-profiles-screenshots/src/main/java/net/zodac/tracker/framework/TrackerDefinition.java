@@ -17,6 +17,7 @@
 
 package net.zodac.tracker.framework;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import org.apache.commons.csv.CSVRecord;
@@ -24,16 +25,22 @@ import org.apache.commons.csv.CSVRecord;
 /**
  * Simple class to hold the information for a given tracker.
  *
- * @param name     the tracker name
- * @param username the user's username
- * @param password the user's password
+ * @param name          the tracker name
+ * @param username      the user's username
+ * @param password      the user's password
+ * @param outputFormats the {@link OutputFormat}s to save the profile page in
  */
-public record TrackerDefinition(String name, String username, String password)
+public record TrackerDefinition(String name, String username, String password, List<OutputFormat> outputFormats)
     implements Comparable<TrackerDefinition> {
 
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+
     /**
      * Converts a {@link CSVRecord} from {@link TrackerCsvReader} into a {@link TrackerDefinition} instance.
      *
+     * <p>
+     * The {@code outputFormats} column is optional. If it is not set (or is empty), the {@link ApplicationConfiguration#outputFormats()} are used.
+     *
      * @param csvRecord the {@link CSVRecord} holding a single tracker's information
      * @return the {@link TrackerDefinition}
      */
@@ -41,10 +48,19 @@ public record TrackerDefinition(String name, String username, String password)
         return new TrackerDefinition(
             csvRecord.get("trackerName"),
             csvRecord.get("username"),
-            csvRecord.get("password")
+            csvRecord.get("password"),
+            getOutputFormats(csvRecord)
         );
     }
 
+    private static List<OutputFormat> getOutputFormats(final CSVRecord csvRecord) {
+        if (!csvRecord.isSet("outputFormats") || csvRecord.get("outputFormats").isBlank()) {
+            return CONFIG.outputFormats();
+        }
+
+        return OutputFormat.parse(csvRecord.get("outputFormats"));
+    }
+
     @Override
     public int compareTo(final TrackerDefinition other) {
         return name.toLowerCase(Locale.getDefault()).compareTo(other.name.toLowerCase(Locale.getDefault()));
@@ -52,14 +68,17 @@ public record TrackerDefinition(String name, String username, String password)
 
     @Override
     public boolean equals(final Object obj) {
-        if (!(obj instanceof TrackerDefinition(final String otherName, final String otherUsername, final String otherPassword))) {
+        if (!(obj instanceof TrackerDefinition(
+            final String otherName, final String otherUsername, final String otherPassword, final List<OutputFormat> otherOutputFormats
+        ))) {
             return false;
         }
-        return Objects.equals(name, otherName) && Objects.equals(username, otherUsername) && Objects.equals(password, otherPassword);
+        return Objects.equals(name, otherName) && Objects.equals(username, otherUsername) && Objects.equals(password, otherPassword)
+            && Objects.equals(outputFormats, otherOutputFormats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, username, password);
+        return Objects.hash(name, username, password, outputFormats);
     }
 }
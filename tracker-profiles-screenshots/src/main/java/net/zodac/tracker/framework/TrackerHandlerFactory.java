@@ -29,12 +29,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -44,7 +46,12 @@ import net.zodac.tracker.framework.annotation.TrackerHandlers;
 import net.zodac.tracker.framework.driver.java.JavaWebDriverFactory;
 import net.zodac.tracker.framework.driver.python.PythonWebDriverFactory;
 import net.zodac.tracker.framework.exception.DisabledTrackerException;
+import net.zodac.tracker.framework.telemetry.CommandProfiler;
+import net.zodac.tracker.framework.telemetry.Metrics;
+import net.zodac.tracker.framework.telemetry.jfr.DriverCreatedEvent;
 import net.zodac.tracker.handler.AbstractTrackerHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
@@ -53,6 +60,8 @@ import org.openqa.selenium.remote.RemoteWebDriver;
  */
 public final class TrackerHandlerFactory {
 
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
     private static final Set<Class<?>> TRACKER_HANDLER_CLASSES = findAllClassesUsingClassLoader(AbstractTrackerHandler.class.getPackageName());
 
     private TrackerHandlerFactory() {
@@ -86,6 +95,15 @@ public final class TrackerHandlerFactory {
      * execution will be done in the background. Otherwise, a browser window will open for each tracker, and all UI actions will be visible for
      * debugging.
      *
+     * <p>
+     * If the tracker has a URL defined in {@link ApplicationConfiguration#trackerUrlOverrides()}, it is used instead of the URLs in the
+     * {@link TrackerHandler#url()}.
+     *
+     * <p>
+     * If {@link ApplicationConfiguration#profileWebDriverCommands()} or {@link ApplicationConfiguration#exportTraces()} is {@code true}, or a
+     * {@link ApplicationConfiguration#commandCountBaseline()} is provided, the {@link RemoteWebDriver} is decorated to record each WebDriver
+     * command issued for the tracker.
+     *
      * @param trackerName the name of the tracker for which we want a {@link AbstractTrackerHandler}
      * @return an instance of the matching {@link AbstractTrackerHandler}
      * @throws DisabledTrackerException thrown if a {@link AbstractTrackerHandler} exists but is annotated by {@link TrackerDisabled}
@@ -93,9 +111,34 @@ public final class TrackerHandlerFactory {
      * @throws NoSuchElementException   thrown if no valid {@link AbstractTrackerHandler} implementation could be found
      */
     public static AbstractTrackerHandler getHandler(final String trackerName) {
+        final Map.Entry<Class<?>, TrackerHandler> matchingTrackerHandler = findEnabledHandler(trackerName);
+        final TrackerHandler annotation = matchingTrackerHandler.getValue();
+        return makeNewInstance(matchingTrackerHandler.getKey(), getTrackerUrls(annotation, trackerName),
+            () -> getRemoteWebDriver(annotation.type(), trackerName));
+    }
+
+    /**
+     * Finds an implementation of {@link AbstractTrackerHandler} that matches the wanted {@code trackerName}, and returns an instance of it using the
+     * provided {@link RemoteWebDriver}, rather than creating a new web browser. This allows the logic of the {@link AbstractTrackerHandler} to be
+     * executed against a lightweight implementation of {@link RemoteWebDriver}.
+     *
+     * @param trackerName the name of the tracker for which we want a {@link AbstractTrackerHandler}
+     * @param driver      the {@link RemoteWebDriver} to be used by the {@link AbstractTrackerHandler}
+     * @return an instance of the matching {@link AbstractTrackerHandler}
+     * @throws DisabledTrackerException thrown if a {@link AbstractTrackerHandler} exists but is annotated by {@link TrackerDisabled}
+     * @throws IllegalStateException    thrown if an error occurred when instantiating the {@link AbstractTrackerHandler}
+     * @throws NoSuchElementException   thrown if no valid {@link AbstractTrackerHandler} implementation could be found
+     * @see #getHandler(String)
+     */
+    public static AbstractTrackerHandler getHandler(final String trackerName, final RemoteWebDriver driver) {
+        final Map.Entry<Class<?>, TrackerHandler> matchingTrackerHandler = findEnabledHandler(trackerName);
+        return makeNewInstance(matchingTrackerHandler.getKey(), getTrackerUrls(matchingTrackerHandler.getValue(), trackerName), () -> driver);
+    }
+
+    private static Map.Entry<Class<?>, TrackerHandler> findEnabledHandler(final String trackerName) {
         final var matchingTrackerHandlerOptional = TRACKER_HANDLER_CLASSES.stream()
             .flatMap(handler -> Arrays.stream(handler.getAnnotationsByType(TrackerHandler.class))
-                .map(annotation -> Map.entry(handler, annotation))
+                .map(annotation -> Map.<Class<?>, TrackerHandler>entry(handler, annotation))
             )
             .filter(entry -> entry.getValue().name().equalsIgnoreCase(trackerName))
             .findAny();
@@ -105,29 +148,50 @@ public final class TrackerHandlerFactory {
             throw new NoSuchElementException(errorMessage);
         }
 
-        final var matchingTrackerHandler = matchingTrackerHandlerOptional.get();
+        final Map.Entry<Class<?>, TrackerHandler> matchingTrackerHandler = matchingTrackerHandlerOptional.get();
         final Class<?> trackerHandler = matchingTrackerHandler.getKey();
         if (trackerHandler.isAnnotationPresent(TrackerDisabled.class)) {
             throw new DisabledTrackerException(Objects.requireNonNull(trackerHandler.getAnnotation(TrackerDisabled.class)).reason());
         }
+        return matchingTrackerHandler;
+    }
 
-        final TrackerHandler annotation = matchingTrackerHandler.getValue();
-        return makeNewInstance(trackerHandler, Arrays.asList(annotation.url()), annotation.type());
+    private static List<String> getTrackerUrls(final TrackerHandler annotation, final String trackerName) {
+        final String overrideUrl = CONFIG.trackerUrlOverrides().get(trackerName.toLowerCase(Locale.ROOT));
+        if (overrideUrl == null) {
+            return Arrays.asList(annotation.url());
+        }
+
+        LOGGER.debug("\t- Overriding URL for '{}': {}", trackerName, overrideUrl);
+        return List.of(overrideUrl);
     }
 
-    private static AbstractTrackerHandler makeNewInstance(final Class<?> trackerHandler, final List<String> urls, final TrackerType trackerType) {
+    private static AbstractTrackerHandler makeNewInstance(final Class<?> trackerHandler, final List<String> urls,
+                                                          final Supplier<RemoteWebDriver> driverSupplier) {
         try {
             // TODO: Should the constructor handle the creation of a driver instead of here?
             final Constructor<?> constructorWithDriverAndUrls = trackerHandler.getDeclaredConstructor(RemoteWebDriver.class, Collection.class);
-            final RemoteWebDriver driver = getRemoteWebDriver(trackerType);
-            return (AbstractTrackerHandler) constructorWithDriverAndUrls.newInstance(driver, urls);
+            return (AbstractTrackerHandler) constructorWithDriverAndUrls.newInstance(driverSupplier.get(), urls);
         } catch (final IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException e) {
             throw new IllegalStateException(String.format("Error instantiating an instance of '%s'", trackerHandler), e);
         }
     }
 
-    private static RemoteWebDriver getRemoteWebDriver(final TrackerType trackerType) {
-        return trackerType == TrackerType.CLOUDFLARE_CHECK ? PythonWebDriverFactory.createDriver() : JavaWebDriverFactory.createDriver(trackerType);
+    private static RemoteWebDriver getRemoteWebDriver(final TrackerType trackerType, final String trackerName) {
+        final DriverCreatedEvent driverCreatedEvent = new DriverCreatedEvent();
+        driverCreatedEvent.begin();
+        final RemoteWebDriver driver = trackerType == TrackerType.CLOUDFLARE_CHECK
+            ? PythonWebDriverFactory.createDriver()
+            : JavaWebDriverFactory.createDriver(trackerType);
+        driverCreatedEvent.trackerName = trackerName;
+        driverCreatedEvent.trackerType = trackerType.toString();
+        driverCreatedEvent.commit();
+        Metrics.browserOpened();
+
+        if (CONFIG.profileWebDriverCommands() || CONFIG.exportTraces() || !CONFIG.commandCountBaseline().isBlank()) {
+            return CommandProfiler.decorate(driver, trackerName);
+        }
+        return driver;
     }
 
     private static Set<Class<?>> findAllClassesUsingClassLoader(final String packageName) {
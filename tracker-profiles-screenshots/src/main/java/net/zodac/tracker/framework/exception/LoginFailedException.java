@@ -0,0 +1,62 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.exception;
+
+import java.io.Serial;
+import net.zodac.tracker.framework.login.LoginFailure;
+import net.zodac.tracker.framework.login.LoginFailureSignature;
+
+/**
+ * Exception used to indicate that the login to a tracker failed, as identified by a {@link LoginFailureSignature} on the web page.
+ */
+public class LoginFailedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4207391886314775127L;
+
+    private final LoginFailure loginFailure;
+
+    /**
+     * Constructor that takes the matching {@link LoginFailureSignature}.
+     *
+     * @param loginFailureSignature the {@link LoginFailureSignature} found on the web page
+     */
+    public LoginFailedException(final LoginFailureSignature loginFailureSignature) {
+        super(String.format("%s (%s)", loginFailureSignature.name(), loginFailureSignature.loginFailure()));
+        loginFailure = loginFailureSignature.loginFailure();
+    }
+
+    /**
+     * The reason that the login failed.
+     *
+     * @return the {@link LoginFailure}
+     */
+    public LoginFailure loginFailure() {
+        return loginFailure;
+    }
+
+    /**
+     * Whether the login may succeed if it is attempted again later.
+     *
+     * @return {@code true} if the login can be retried later
+     * @see LoginFailure#isRetryable()
+     */
+    public boolean isRetryable() {
+        return loginFailure.isRetryable();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.flow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enum defining the states that a tracker web page can be in while navigating to the user's profile page. The states are declared in order of
+ * precedence: when more than one state is found on the web page, the {@link PageStateMachine} takes the transition of the first one. Obstacles
+ * (which must be cleared before anything else on the web page can be used) come first, followed by the states closest to the profile page, so the
+ * cheapest remaining path is always taken.
+ */
+public enum PageState {
+
+    /**
+     * A Cloudflare verification check, which must be passed by the user. This has the highest precedence, since the tracker's own selectors (like
+     * the login form) may already be found while the verification check is still shown.
+     */
+    CLOUDFLARE_CHALLENGE(true),
+
+    /**
+     * A captcha that must be solved by the user before logging in. The selector should only match an unsolved captcha.
+     */
+    CAPTCHA(true),
+
+    /**
+     * A banner (like a cookie banner) that covers the web page and must be closed.
+     */
+    BANNER(true),
+
+    /**
+     * The user's profile page.
+     */
+    PROFILE_PAGE(false),
+
+    /**
+     * Any web page of the tracker after the user has logged in.
+     */
+    LOGGED_IN(false),
+
+    /**
+     * The login page of the tracker, with the login form.
+     */
+    LOGIN_PAGE(false),
+
+    /**
+     * The home page of the tracker, for trackers that do not redirect to the login page.
+     */
+    HOME(false);
+
+    /**
+     * All available {@link PageState}s.
+     *
+     * <p>
+     * Should be used instead of {@link PageState#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<PageState> ALL_VALUES = List.of(values());
+
+    private final boolean obstacle;
+
+    PageState(final boolean obstacle) {
+        this.obstacle = obstacle;
+    }
+
+    /**
+     * Whether the {@link PageState} is an obstacle that must be cleared. An obstacle is only found if its HTML element is visible, since it is
+     * commonly hidden rather than removed from the web page once cleared.
+     *
+     * @return {@code true} if the {@link PageState} is an obstacle
+     */
+    public boolean isObstacle() {
+        return obstacle;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.getDefault());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.flow;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.zodac.tracker.util.ScriptExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Drives a tracker web page to a wanted {@link PageState}, rather than assuming a fixed sequence of steps. On each tick, all {@link PageState}
+ * selectors are checked in a single script execution, and the transition of the {@link PageState} with the highest precedence is performed. This
+ * means a session that is already logged in goes straight to the profile page, and obstacles like a Cloudflare verification check or a cookie banner
+ * are handled whenever they appear.
+ *
+ * <p>
+ * If the wanted {@link PageState} has no selector, it is considered reached once a transition targeting it has been performed.
+ *
+ * <p>
+ * A {@link PageState} may be found again later (like a banner that reappears after logging in), so only consecutive transitions from the same
+ * {@link PageState} are limited. The total number of transitions is also limited, so two {@link PageState}s leading to each other cannot loop
+ * forever.
+ *
+ * <p>
+ * A {@link PageState} that is only shown some time after the web page has loaded (like a Cloudflare verification check) can be awaited, so a
+ * transition is not decided before it has had a chance to appear.
+ */
+public final class PageStateMachine {
+
+    private static final Duration DEFAULT_WAIT_FOR_PAGE_STATE = Duration.of(10L, ChronoUnit.SECONDS);
+    private static final Duration DEFAULT_TICK = Duration.of(250L, ChronoUnit.MILLIS);
+    private static final int MAX_CONSECUTIVE_TRANSITIONS_PER_STATE = 2;
+    private static final int MAX_TRANSITIONS = 10;
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final ScriptExecutor scriptExecutor;
+    private final Map<PageState, By> stateSelectors;
+    private final Map<PageState, Transition> transitions = new EnumMap<>(PageState.class);
+
+    @Nullable
+    private PageState awaitedState;
+
+    /**
+     * Constructor for a {@link PageStateMachine}.
+     *
+     * @param scriptExecutor the {@link ScriptExecutor} for the tracker web page
+     * @param stateSelectors the {@link By} selectors used to identify each {@link PageState}
+     */
+    public PageStateMachine(final ScriptExecutor scriptExecutor, final Map<PageState, By> stateSelectors) {
+        this.scriptExecutor = scriptExecutor;
+        this.stateSelectors = Map.copyOf(stateSelectors);
+    }
+
+    /**
+     * Defines the transition to perform when the web page is in the {@code from} {@link PageState}.
+     *
+     * @param from   the {@link PageState} the transition starts from
+     * @param to     the {@link PageState} the transition is expected to lead to
+     * @param action the action performing the transition
+     * @return this {@link PageStateMachine}
+     */
+    public PageStateMachine on(final PageState from, final PageState to, final Runnable action) {
+        transitions.put(from, new Transition(to, action));
+        return this;
+    }
+
+    /**
+     * Until the {@link PageState} has been found once, waits up to {@link #DEFAULT_WAIT_FOR_PAGE_STATE} for it to be found before each transition
+     * is decided. The wait ends early if the wanted {@link PageState} is found, and the transition is decided as normal if the awaited
+     * {@link PageState} is not found in time.
+     *
+     * @param pageState the {@link PageState} to wait for
+     * @return this {@link PageStateMachine}
+     */
+    public PageStateMachine awaiting(final PageState pageState) {
+        awaitedState = pageState;
+        return this;
+    }
+
+    /**
+     * Performs transitions until the {@code goal} {@link PageState} is reached.
+     *
+     * @param goal the wanted {@link PageState}
+     * @throws IllegalStateException thrown if the transition for a {@link PageState} is performed too many times in a row without leaving that
+     *                               {@link PageState}, or if too many transitions are performed in total
+     * @throws TimeoutException      thrown if no {@link PageState} with a transition is found within {@link #DEFAULT_WAIT_FOR_PAGE_STATE}
+     */
+    public void runUntil(final PageState goal) {
+        PageState previousState = null;
+        int consecutiveTransitions = 0;
+        int totalTransitions = 0;
+        waitForAwaitedState(goal);
+        long deadlineNanos = System.nanoTime() + DEFAULT_WAIT_FOR_PAGE_STATE.toNanos();
+
+        while (true) {
+            final Set<PageState> foundStates = scriptExecutor.findPageStates(stateSelectors);
+            if (foundStates.contains(goal)) {
+                LOGGER.trace("\t\t- Reached page state '{}'", goal);
+                return;
+            }
+
+            final PageState currentState = highestPrecedence(foundStates);
+            if (currentState == null) {
+                if (System.nanoTime() > deadlineNanos) {
+                    throw new TimeoutException(String.format("Unable to identify page state while waiting for '%s', found: %s", goal, foundStates));
+                }
+                ScriptExecutor.explicitWait(DEFAULT_TICK);
+                continue;
+            }
+
+            consecutiveTransitions = currentState == previousState ? consecutiveTransitions + 1 : 1;
+            previousState = currentState;
+            if (consecutiveTransitions > MAX_CONSECUTIVE_TRANSITIONS_PER_STATE) {
+                throw new IllegalStateException(String.format("Unable to leave page state '%s' while waiting for '%s'", currentState, goal));
+            }
+            if (++totalTransitions > MAX_TRANSITIONS) {
+                throw new IllegalStateException(String.format("Unable to reach page state '%s' after %d transitions", goal, MAX_TRANSITIONS));
+            }
+
+            final Transition transition = Objects.requireNonNull(transitions.get(currentState));
+            LOGGER.debug("\t\t- Found page state '{}' (all states: {}), moving to '{}'", currentState, foundStates, transition.to());
+            transition.action().run();
+
+            if (transition.to() == goal && !stateSelectors.containsKey(goal)) {
+                return;
+            }
+            waitForAwaitedState(goal);
+            deadlineNanos = System.nanoTime() + DEFAULT_WAIT_FOR_PAGE_STATE.toNanos();
+        }
+    }
+
+    private void waitForAwaitedState(final PageState goal) {
+        final PageState pageState = awaitedState;
+        if (pageState == null) {
+            return;
+        }
+
+        final long deadlineNanos = System.nanoTime() + DEFAULT_WAIT_FOR_PAGE_STATE.toNanos();
+        while (System.nanoTime() <= deadlineNanos) {
+            final Set<PageState> foundStates = scriptExecutor.findPageStates(stateSelectors);
+            if (foundStates.contains(pageState)) {
+                awaitedState = null;
+                return;
+            }
+            if (foundStates.contains(goal)) {
+                return;
+            }
+            ScriptExecutor.explicitWait(DEFAULT_TICK);
+        }
+        LOGGER.trace("\t\t- Page state '{}' not found, continuing", pageState);
+    }
+
+    @Nullable
+    private PageState highestPrecedence(final Set<PageState> foundStates) {
+        return PageState.ALL_VALUES
+            .stream()
+            .filter(pageState -> foundStates.contains(pageState) && transitions.containsKey(pageState))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private record Transition(PageState to, Runnable action) {
+
+    }
+}
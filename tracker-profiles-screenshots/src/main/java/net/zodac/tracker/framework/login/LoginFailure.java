@@ -0,0 +1,83 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.login;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enum defining the reasons that a login to a tracker can fail, as identified by a {@link LoginFailureSignature} on the web page shown after the
+ * login credentials are submitted.
+ */
+public enum LoginFailure {
+
+    /**
+     * The username or password was rejected by the tracker.
+     */
+    INVALID_CREDENTIALS(false),
+
+    /**
+     * The account has been disabled, banned or suspended by the tracker.
+     */
+    ACCOUNT_DISABLED(false),
+
+    /**
+     * The tracker is down for maintenance, or is otherwise offline.
+     */
+    MAINTENANCE(true),
+
+    /**
+     * The tracker is refusing logins because there have been too many attempts.
+     */
+    RATE_LIMITED(true),
+
+    /**
+     * The request was blocked by Cloudflare before it reached the tracker.
+     */
+    CLOUDFLARE_BLOCKED(true);
+
+    /**
+     * All available {@link LoginFailure}s.
+     *
+     * <p>
+     * Should be used instead of {@link LoginFailure#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<LoginFailure> ALL_VALUES = List.of(values());
+
+    private final boolean retryable;
+
+    LoginFailure(final boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    /**
+     * Whether the login may succeed if it is attempted again later, without any change to the login credentials.
+     *
+     * @return {@code true} if the login can be retried later
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.getDefault());
+    }
+}
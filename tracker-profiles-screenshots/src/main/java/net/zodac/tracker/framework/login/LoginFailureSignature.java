@@ -0,0 +1,63 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.login;
+
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+
+/**
+ * A declarative signature of an error page shown by a tracker when a login fails. All {@link LoginFailureSignature}s are evaluated together in the
+ * browser while waiting for the login to complete, so a failed login is identified as soon as the error page is shown, rather than after waiting
+ * for the post-login HTML element to time out.
+ *
+ * @param name         a descriptive name for the signature, used for logging
+ * @param loginFailure the {@link LoginFailure} that the signature identifies
+ * @param selector     the {@link By} selector for the HTML elements to check
+ * @param pattern      the {@link Pattern} to find in the text of any matching HTML element, or {@code null} if the HTML element being present is
+ *                     enough
+ * @see net.zodac.tracker.util.ScriptExecutor#waitForLogin(By, java.util.List, java.time.Duration)
+ */
+public record LoginFailureSignature(String name, LoginFailure loginFailure, By selector, @Nullable Pattern pattern) {
+
+    /**
+     * Creates a {@link LoginFailureSignature} which matches if any HTML element is found by the {@link By} selector.
+     *
+     * @param name         a descriptive name for the signature
+     * @param loginFailure the {@link LoginFailure} that the signature identifies
+     * @param selector     the {@link By} selector for the HTML element
+     * @return the {@link LoginFailureSignature}
+     */
+    public static LoginFailureSignature elementPresent(final String name, final LoginFailure loginFailure, final By selector) {
+        return new LoginFailureSignature(name, loginFailure, selector, null);
+    }
+
+    /**
+     * Creates a {@link LoginFailureSignature} which matches if the text of any HTML element found by the {@link By} selector contains the
+     * {@link Pattern}. The {@link Pattern} must only use syntax that is shared by Java and JavaScript.
+     *
+     * @param name         a descriptive name for the signature
+     * @param loginFailure the {@link LoginFailure} that the signature identifies
+     * @param selector     the {@link By} selector for the HTML elements
+     * @param pattern      the {@link Pattern} to find in the text of the HTML elements
+     * @return the {@link LoginFailureSignature}
+     */
+    public static LoginFailureSignature textMatches(final String name, final LoginFailure loginFailure, final By selector, final Pattern pattern) {
+        return new LoginFailureSignature(name, loginFailure, selector, pattern);
+    }
+}
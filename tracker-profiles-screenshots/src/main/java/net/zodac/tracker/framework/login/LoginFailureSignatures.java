@@ -0,0 +1,66 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.login;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.openqa.selenium.By;
+
+/**
+ * Utility class with common {@link LoginFailureSignature}s.
+ */
+public final class LoginFailureSignatures {
+
+    private static final By BODY = By.tagName("body");
+    private static final By CLOUDFLARE_ERROR = By.id("cf-error-details");
+
+    /**
+     * {@link LoginFailureSignature}s for error pages that are shared by most trackers, and are checked for every tracker after any
+     * {@link LoginFailureSignature}s defined by the tracker's handler. The signatures are checked in order, with the first match being used.
+     *
+     * <p>
+     * Cloudflare challenge pages are deliberately not included, since they can resolve by themselves (or be solved manually) while waiting for the
+     * login to complete. Only Cloudflare error pages, which will not change without a new request, are treated as a failed login.
+     */
+    public static final List<LoginFailureSignature> GENERIC = List.of(
+        LoginFailureSignature.textMatches("Cloudflare block", LoginFailure.CLOUDFLARE_BLOCKED, CLOUDFLARE_ERROR,
+            Pattern.compile("you have been blocked|access denied", Pattern.CASE_INSENSITIVE)),
+        LoginFailureSignature.elementPresent("Cloudflare error", LoginFailure.MAINTENANCE, CLOUDFLARE_ERROR),
+        LoginFailureSignature.textMatches("Invalid credentials", LoginFailure.INVALID_CREDENTIALS, BODY, Pattern.compile(
+            "(?:invalid|incorrect|wrong) (?:username|user name|password|login|credentials)"
+                + "|username (?:or|and) password (?:is|was|were|are) (?:invalid|incorrect|wrong)|do not match our records|login failed",
+            Pattern.CASE_INSENSITIVE)),
+        LoginFailureSignature.textMatches("Account disabled", LoginFailure.ACCOUNT_DISABLED, BODY,
+            Pattern.compile("account (?:has been |is )?(?:disabled|banned|suspended)|you (?:have been|are) banned(?! from logging in)",
+                Pattern.CASE_INSENSITIVE)),
+        LoginFailureSignature.textMatches("Too many attempts", LoginFailure.RATE_LIMITED, BODY,
+            Pattern.compile("too many (?:failed )?(?:login )?(?:attempts|requests)", Pattern.CASE_INSENSITIVE)),
+        LoginFailureSignature.textMatches("Maintenance", LoginFailure.MAINTENANCE, BODY,
+            Pattern.compile("(?:down for|under(?:going)?|scheduled) maintenance|site (?:is )?(?:currently )?offline", Pattern.CASE_INSENSITIVE))
+    );
+
+    /**
+     * {@link LoginFailureSignature} for the temporary IP ban shown by Gazelle-based trackers after too many failed logins.
+     */
+    public static final LoginFailureSignature GAZELLE_LOGIN_BAN = LoginFailureSignature.textMatches("Gazelle login ban", LoginFailure.RATE_LIMITED,
+        BODY, Pattern.compile("you are banned from logging in", Pattern.CASE_INSENSITIVE));
+
+    private LoginFailureSignatures() {
+
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.navigation;
+
+import java.util.regex.Pattern;
+import org.openqa.selenium.By;
+
+/**
+ * A parameter of a {@link UrlTemplate} that is resolved from the {@code href} of a link on the logged-in web page. Links in hover menus are still
+ * part of the web page, so their {@code href} can be read without any interaction.
+ *
+ * @param name     the name of the parameter, used as the {@code {name}} placeholder in the {@link UrlTemplate}
+ * @param selector the {@link By} selector for the link
+ * @param pattern  the {@link Pattern} used to extract the value from the {@code href}, using its first capturing group
+ */
+public record UrlParameter(String name, By selector, Pattern pattern) {
+
+    /**
+     * Creates a {@link UrlParameter} which extracts the value of a query parameter from the {@code href} of a link.
+     *
+     * @param name           the name of the parameter, used as the {@code {name}} placeholder in the {@link UrlTemplate}
+     * @param selector       the {@link By} selector for the link
+     * @param queryParameter the name of the query parameter in the {@code href}
+     * @return the {@link UrlParameter}
+     */
+    public static UrlParameter fromQuery(final String name, final By selector, final String queryParameter) {
+        return new UrlParameter(name, selector, Pattern.compile("[?&]" + Pattern.quote(queryParameter) + "=([^&#]+)"));
+    }
+}
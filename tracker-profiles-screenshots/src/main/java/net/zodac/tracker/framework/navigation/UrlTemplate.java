@@ -0,0 +1,80 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.navigation;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A template for the URL of a tracker web page (like the user's profile page), so the web page can be opened directly rather than through a chain
+ * of hover menus and clicks. The template is a path relative to the URL used to connect to the tracker, with {@code {name}} placeholders for:
+ * <ul>
+ *     <li>{@value #USERNAME_PARAMETER}: the username of the account</li>
+ *     <li>The name of any {@link UrlParameter}, resolved from the logged-in web page</li>
+ * </ul>
+ *
+ * @param path       the path of the web page, with placeholders
+ * @param parameters the {@link UrlParameter}s resolved from the logged-in web page
+ */
+public record UrlTemplate(String path, List<UrlParameter> parameters) {
+
+    /**
+     * The placeholder name for the username of the account.
+     */
+    public static final String USERNAME_PARAMETER = "username";
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    /**
+     * Creates a {@link UrlTemplate}.
+     *
+     * @param path       the path of the web page, with placeholders
+     * @param parameters the {@link UrlParameter}s resolved from the logged-in web page
+     * @return the {@link UrlTemplate}
+     */
+    public static UrlTemplate of(final String path, final UrlParameter... parameters) {
+        return new UrlTemplate(path, List.of(parameters));
+    }
+
+    /**
+     * Replaces each placeholder in the {@link #path()} with its URL-encoded value.
+     *
+     * @param values the values of the placeholders, keyed by name
+     * @return the resolved path, or {@code null} if the value of any placeholder is not available
+     */
+    @Nullable
+    public String resolve(final Map<String, String> values) {
+        final Matcher matcher = PLACEHOLDER_PATTERN.matcher(path);
+        final StringBuilder resolvedPath = new StringBuilder();
+        while (matcher.find()) {
+            final String value = values.get(matcher.group(1));
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            final String encodedValue = URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+            matcher.appendReplacement(resolvedPath, Matcher.quoteReplacement(encodedValue));
+        }
+        matcher.appendTail(resolvedPath);
+        return resolvedPath.toString();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.recorder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.util.PatternMatcher;
+import net.zodac.tracker.util.ScriptExecutor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Records the web pages visited during a real tracker execution, so they can be replayed by the offline stand-in trackers. Each
+ * {@link RecordedPage} is kept in memory until {@link #save(String, String, String)} is called, at which point the user's credentials and any other
+ * sensitive information are scrubbed from the HTML.
+ *
+ * <p>
+ * The recordings are saved in a {@value #RECORDINGS_DIRECTORY_NAME} directory within the {@link ApplicationConfiguration#outputDirectory()}, with a
+ * subdirectory for each tracker. Each subdirectory contains the HTML of each {@link RecordedPage}, along with a {@value #FIXTURE_FILE_NAME} file
+ * listing the recorded pages and the time to first byte of each, which the stand-in trackers use as the latency of the page.
+ */
+public final class PageRecorder {
+
+    /**
+     * The text used in place of the tracker's origin (scheme, host and port) in any recorded URL, to be replaced by the stand-in tracker.
+     */
+    public static final String ORIGIN_PLACEHOLDER = "{{origin}}";
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String RECORDINGS_DIRECTORY_NAME = "recorded-pages";
+    private static final String FIXTURE_FILE_NAME = "fixture.json";
+    private static final String RECORDED_USERNAME = "benchmark_user";
+
+    private final ScriptExecutor scriptExecutor;
+    private final Map<RecordedPage, Recording> recordings = new EnumMap<>(RecordedPage.class);
+
+    /**
+     * Constructor for a {@link PageRecorder}.
+     *
+     * @param driver the {@link RemoteWebDriver} of the tracker being recorded
+     */
+    public PageRecorder(final RemoteWebDriver driver) {
+        scriptExecutor = new ScriptExecutor(driver);
+    }
+
+    /**
+     * Records the current web page as the {@link RecordedPage}, replacing any previous recording of the same {@link RecordedPage}.
+     *
+     * @param recordedPage   the {@link RecordedPage} to record the current web page as
+     * @param redactionRules the {@link RedactionRule}s of the tracker, applied to the recording but not to the web page itself
+     * @see ScriptExecutor#retrieveHtmlForRecording(List, String)
+     */
+    public void record(final RecordedPage recordedPage, final List<RedactionRule> redactionRules) {
+        final String html = scriptExecutor.retrieveHtmlForRecording(redactionRules, ORIGIN_PLACEHOLDER);
+        final long latencyMillis = Math.max(0L, Math.round(scriptExecutor.retrieveNavigationTiming().ttfbMillis()));
+        recordings.put(recordedPage, new Recording(html, latencyMillis));
+    }
+
+    /**
+     * Checks whether any {@link RecordedPage} has been recorded.
+     *
+     * @return {@code true} if at least one {@link RecordedPage} has been recorded
+     */
+    public boolean hasRecordings() {
+        return !recordings.isEmpty();
+    }
+
+    /**
+     * Saves all recorded {@link RecordedPage}s for the tracker. The {@code username} is replaced by a placeholder username, the {@code password} is
+     * redacted, and any email addresses, IP addresses or passkeys are redacted.
+     *
+     * @param trackerName the name of the tracker (used as the directory name)
+     * @param username    the user's username for the tracker
+     * @param password    the user's password for the tracker
+     * @return the directory that the recordings were saved in
+     * @throws IOException thrown if an error occurs saving the recordings to the file system
+     * @see PatternMatcher#replaceAllSensitiveInformation(String)
+     */
+    public File save(final String trackerName, final String username, final String password) throws IOException {
+        final Path recordingDirectory = CONFIG.outputDirectory().toAbsolutePath().resolve(RECORDINGS_DIRECTORY_NAME).resolve(trackerName);
+        Files.createDirectories(recordingDirectory);
+
+        final JsonObject pages = new JsonObject();
+        for (final Map.Entry<RecordedPage, Recording> recording : recordings.entrySet()) {
+            final String fileName = recording.getKey().fileName();
+            Files.writeString(recordingDirectory.resolve(fileName), scrub(recording.getValue().html(), username, password), StandardCharsets.UTF_8);
+
+            final JsonObject page = new JsonObject();
+            page.addProperty("latencyMillis", recording.getValue().latencyMillis());
+            pages.add(fileName, page);
+        }
+
+        final JsonObject fixture = new JsonObject();
+        fixture.addProperty("trackerName", trackerName);
+        fixture.addProperty("recordedAt", Instant.now().toString());
+        fixture.add("pages", pages);
+        Files.writeString(recordingDirectory.resolve(FIXTURE_FILE_NAME), PRETTY_GSON.toJson(fixture), StandardCharsets.UTF_8);
+        return recordingDirectory.toFile();
+    }
+
+    // The username is replaced rather than redacted, since it may be part of a URL (like the profile page) that the stand-in tracker expects
+    private static String scrub(final String html, final String username, final String password) {
+        String scrubbedHtml = password.isEmpty() ? html : redactPassword(html, password);
+        if (!username.isBlank()) {
+            scrubbedHtml = Pattern.compile("\\b" + Pattern.quote(username) + "\\b", Pattern.CASE_INSENSITIVE)
+                .matcher(scrubbedHtml)
+                .replaceAll(Matcher.quoteReplacement(RECORDED_USERNAME));
+        }
+        return PatternMatcher.replaceAllSensitiveInformation(scrubbedHtml);
+    }
+
+    // Only text and attribute values are redacted, so a password that is also part of the markup (like a tag or attribute name) cannot corrupt it
+    private static String redactPassword(final String html, final String password) {
+        final Document document = Jsoup.parse(html);
+        document.outputSettings().prettyPrint(false);
+        NodeTraversor.traverse((node, _) -> {
+            if (node instanceof final TextNode textNode) {
+                textNode.text(textNode.getWholeText().replace(password, PatternMatcher.DEFAULT_REDACTION_TEXT));
+            } else if (node instanceof final Element element) {
+                for (final Attribute attribute : element.attributes()) {
+                    attribute.setValue(attribute.getValue().replace(password, PatternMatcher.DEFAULT_REDACTION_TEXT));
+                }
+            }
+        }, document);
+        return document.outerHtml();
+    }
+
+    private record Recording(String html, long latencyMillis) {
+
+    }
+}
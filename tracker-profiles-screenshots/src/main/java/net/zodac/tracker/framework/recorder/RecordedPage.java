@@ -0,0 +1,73 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.recorder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enum defining the web pages of a tracker that can be recorded by a {@link PageRecorder}. The file names match those used by the stand-in
+ * trackers, so a recording can replace the stand-in page of the same type.
+ */
+public enum RecordedPage {
+
+    /**
+     * The login page, before any credentials are entered.
+     */
+    LOGIN("login.html"),
+
+    /**
+     * The page shown once logged in.
+     */
+    HOME("home.html"),
+
+    /**
+     * The user's profile page.
+     */
+    PROFILE("profile.html");
+
+    /**
+     * All available {@link RecordedPage}s.
+     *
+     * <p>
+     * Should be used instead of {@link RecordedPage#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<RecordedPage> ALL_VALUES = List.of(values());
+
+    private final String fileName;
+
+    RecordedPage(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * The file name used when saving a recording of this {@link RecordedPage}.
+     *
+     * @return the file name
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.getDefault());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.redaction;
+
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+
+/**
+ * A declarative rule defining how sensitive information (like a passkey or an RSS key) is redacted from a tracker's profile page. All
+ * {@link RedactionRule}s for a tracker are evaluated together in the browser, rather than finding and updating each element from Java.
+ *
+ * @param name        a descriptive name for the rule, used for logging
+ * @param selector    the {@link By} selector for the HTML elements to redact
+ * @param pattern     the {@link Pattern} of the sensitive text within each HTML element, or {@code null} to replace all text of the element
+ * @param replacement the text to replace the sensitive text with
+ * @param required    whether the rule must match at least one HTML element, otherwise the redaction is considered to have failed
+ * @see net.zodac.tracker.util.ScriptExecutor#applyRedactionRules(java.util.List)
+ */
+public record RedactionRule(String name, By selector, @Nullable Pattern pattern, String replacement, boolean required) {
+
+    /**
+     * Creates a required {@link RedactionRule} which replaces all text of the matching HTML elements.
+     *
+     * @param name        a descriptive name for the rule
+     * @param selector    the {@link By} selector for the HTML elements to redact
+     * @param replacement the text to replace all text of the HTML elements with
+     * @return the {@link RedactionRule}
+     */
+    public static RedactionRule replaceText(final String name, final By selector, final String replacement) {
+        return new RedactionRule(name, selector, null, replacement, true);
+    }
+
+    /**
+     * Creates a copy of this {@link RedactionRule} which does not need to match any HTML elements.
+     *
+     * @return the optional {@link RedactionRule}
+     */
+    public RedactionRule optional() {
+        return new RedactionRule(name, selector, pattern, replacement, false);
+    }
+}
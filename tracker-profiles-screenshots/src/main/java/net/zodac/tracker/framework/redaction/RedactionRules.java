@@ -0,0 +1,64 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.redaction;
+
+import net.zodac.tracker.util.PatternMatcher;
+import org.openqa.selenium.By;
+
+/**
+ * Utility class defining common {@link RedactionRule}s, which are shared by trackers using the same codebase.
+ */
+public final class RedactionRules {
+
+    private static final String PASSKEY_PREFIX = "Passkey: ";
+
+    /**
+     * Redacts the passkey in the user statistics list of {@code Gazelle}-based trackers, which is an {@literal <}{@code li}{@literal >} with text
+     * prefixed by {@value #PASSKEY_PREFIX}. All text is replaced with the prefix and {@value PatternMatcher#DEFAULT_REDACTION_TEXT}.
+     */
+    public static final RedactionRule GAZELLE_PASSKEY = passkeyListItem(
+        By.xpath(String.format("//ul[contains(@class, 'stats')]/li[contains(text(), '%s')]", PASSKEY_PREFIX))
+    );
+
+    private RedactionRules() {
+
+    }
+
+    /**
+     * Redacts the passkey in an {@literal <}{@code li}{@literal >} with text prefixed by {@value #PASSKEY_PREFIX}. All text is replaced with the
+     * prefix and {@value PatternMatcher#DEFAULT_REDACTION_TEXT}.
+     *
+     * @param selector the {@link By} selector for the {@literal <}{@code li}{@literal >}
+     * @return the {@link RedactionRule}
+     */
+    public static RedactionRule passkeyListItem(final By selector) {
+        return RedactionRule.replaceText("passkey", selector, PASSKEY_PREFIX + PatternMatcher.DEFAULT_REDACTION_TEXT);
+    }
+
+    /**
+     * Redacts the value of a table row, where the first {@literal <}{@code td}{@literal >} has the text {@code label}, and the second
+     * {@literal <}{@code td}{@literal >} contains the sensitive value. The value is replaced with {@value PatternMatcher#DEFAULT_REDACTION_TEXT}.
+     *
+     * @param name  a descriptive name for the rule
+     * @param label the text of the first {@literal <}{@code td}{@literal >} in the table row
+     * @return the {@link RedactionRule}
+     */
+    public static RedactionRule tableRowValue(final String name, final String label) {
+        return RedactionRule.replaceText(name, By.xpath(String.format("//tr[td[text()='%s']]/td[2]", label)), PatternMatcher.DEFAULT_REDACTION_TEXT);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.render;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Utility class used to read the CPU and memory limits of the application's cgroup (v2). When the application is not running in a cgroup with
+ * limits (like on a laptop), the limits of the host are used where possible.
+ */
+public final class CgroupResources {
+
+    private static final Path CGROUP_ROOT = Path.of("/sys/fs/cgroup");
+    private static final Path PROCESS_CGROUP_FILE = Path.of("/proc/self/cgroup");
+    private static final String CGROUP_V2_PREFIX = "0::";
+    private static final String UNLIMITED = "max";
+    private static final String PRESSURE_PREFIX = "some ";
+    private static final String PRESSURE_AVERAGE_PREFIX = "avg10=";
+
+    private CgroupResources() {
+
+    }
+
+    /**
+     * The number of CPU cores available to the application, from {@code cpu.max}.
+     *
+     * @return the number of CPU cores (possibly fractional), or the number of available processors if the cgroup has no CPU limit
+     */
+    public static double cpuLimit() {
+        final int availableProcessors = Runtime.getRuntime().availableProcessors();
+        final String cpuMax = readFirstLine("cpu.max");
+        if (cpuMax.isEmpty()) {
+            return availableProcessors;
+        }
+
+        final String[] quotaAndPeriod = cpuMax.split(" ");
+        if (quotaAndPeriod.length != 2 || UNLIMITED.equals(quotaAndPeriod[0])) {
+            return availableProcessors;
+        }
+
+        try {
+            return Math.min(availableProcessors, Double.parseDouble(quotaAndPeriod[0]) / Double.parseDouble(quotaAndPeriod[1]));
+        } catch (final NumberFormatException e) {
+            return availableProcessors;
+        }
+    }
+
+    /**
+     * The memory limit of the cgroup, from {@code memory.max}.
+     *
+     * @return the memory limit in bytes, or {@link OptionalLong#empty()} if the cgroup has no memory limit
+     */
+    public static OptionalLong memoryLimitBytes() {
+        final String memoryMax = readFirstLine("memory.max");
+        return UNLIMITED.equals(memoryMax) ? OptionalLong.empty() : parseLong(memoryMax);
+    }
+
+    /**
+     * The current memory usage of the cgroup, from {@code memory.current}.
+     *
+     * @return the memory usage in bytes, or {@link OptionalLong#empty()} if it cannot be read
+     */
+    public static OptionalLong memoryCurrentBytes() {
+        return parseLong(readFirstLine("memory.current"));
+    }
+
+    /**
+     * The memory pressure of the cgroup, from {@code memory.pressure}. This is the percentage of time over the last 10 seconds in which at least
+     * one process was stalled waiting for memory.
+     *
+     * @return the memory pressure percentage, or {@code 0} if it cannot be read
+     */
+    public static double memoryPressure() {
+        final String somePressure = readLines("memory.pressure").stream()
+            .filter(line -> line.startsWith(PRESSURE_PREFIX))
+            .findFirst()
+            .orElse("");
+
+        for (final String field : somePressure.split(" ")) {
+            if (field.startsWith(PRESSURE_AVERAGE_PREFIX)) {
+                try {
+                    return Double.parseDouble(field.substring(PRESSURE_AVERAGE_PREFIX.length()));
+                } catch (final NumberFormatException e) {
+                    return 0.0D;
+                }
+            }
+        }
+        return 0.0D;
+    }
+
+    private static String readFirstLine(final String fileName) {
+        final List<String> lines = readLines(fileName);
+        return lines.isEmpty() ? "" : lines.getFirst().strip();
+    }
+
+    private static List<String> readLines(final String fileName) {
+        final Path cgroupFile = cgroupDirectory().resolve(fileName);
+        final Path file = Files.isReadable(cgroupFile) ? cgroupFile : CGROUP_ROOT.resolve(fileName);
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            return List.of();
+        }
+    }
+
+    // Inside a container the cgroup is usually mounted at the root, but on a host the application's cgroup is a subdirectory
+    private static Path cgroupDirectory() {
+        try {
+            return Files.readAllLines(PROCESS_CGROUP_FILE, StandardCharsets.UTF_8).stream()
+                .filter(line -> line.startsWith(CGROUP_V2_PREFIX))
+                .findFirst()
+                .map(line -> CGROUP_ROOT.resolve(line.substring(CGROUP_V2_PREFIX.length()).replaceFirst("^/", "")))
+                .orElse(CGROUP_ROOT);
+        } catch (final IOException e) {
+            return CGROUP_ROOT;
+        }
+    }
+
+    private static OptionalLong parseLong(final String value) {
+        try {
+            return value.isEmpty() ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+        } catch (final NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
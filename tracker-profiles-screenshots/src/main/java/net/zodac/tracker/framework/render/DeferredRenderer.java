@@ -0,0 +1,256 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.render;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.zodac.tracker.framework.OutputFormat;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.driver.java.JavaWebDriverFactory;
+import net.zodac.tracker.framework.telemetry.BrowserResourceSampler;
+import net.zodac.tracker.framework.telemetry.Metrics;
+import net.zodac.tracker.framework.telemetry.Step;
+import net.zodac.tracker.framework.telemetry.StepTimer;
+import net.zodac.tracker.util.ScreenshotTaker;
+import net.zodac.tracker.util.SnapshotTaker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Renders DOM snapshots (taken by {@link SnapshotTaker}) into screenshots, using a pool of local headless web browsers. This allows the tracker's
+ * web browser to be logged out and closed as soon as the snapshot is taken, with the CPU-bound rendering of the screenshot done in the background
+ * while the next tracker is being executed.
+ *
+ * <p>
+ * The web browsers are only created when a snapshot is first submitted, and are reused for subsequent snapshots. A web browser is never shared by
+ * two renders at the same time. If a web browser fails while rendering (like a crashed or disconnected session), it is closed, and a new web browser
+ * is created for the next render.
+ */
+public final class DeferredRenderer implements AutoCloseable {
+
+    private static final Duration IDLE_DRIVER_WAIT = Duration.ofSeconds(1L);
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final ExecutorService executorService;
+    private final int memoryBudgetMegabytes;
+    private final ParallelismGovernor parallelismGovernor;
+    private final BlockingQueue<RemoteWebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final Queue<RemoteWebDriver> allDrivers = new ConcurrentLinkedQueue<>();
+    private final Map<String, Future<File>> pendingRenders = new LinkedHashMap<>();
+    private final Object driverLock = new Object();
+    private int numberOfDrivers; // Guarded by driverLock, and includes any web browser still being created
+
+    /**
+     * Constructor for a {@link DeferredRenderer}.
+     *
+     * @param poolSize              the maximum number of snapshots to render at the same time (and the maximum number of web browsers to create)
+     * @param memoryBudgetMegabytes the maximum total memory of all web browsers in MB, above which no new web browsers are created for rendering
+     *                              (or {@code 0} for no limit)
+     * @param autoScale             whether to adjust the number of snapshots rendered at the same time (up to {@code poolSize}) based on the
+     *                              available resources, using a {@link ParallelismGovernor}
+     */
+    public DeferredRenderer(final int poolSize, final int memoryBudgetMegabytes, final boolean autoScale) {
+        executorService = Executors.newFixedThreadPool(poolSize);
+        this.memoryBudgetMegabytes = memoryBudgetMegabytes;
+        parallelismGovernor = new ParallelismGovernor(poolSize, autoScale);
+    }
+
+    /**
+     * Submits a snapshot to be rendered into a screenshot in the background. The screenshot will be saved in the same location as a screenshot
+     * taken by {@link ScreenshotTaker#takeScreenshot(RemoteWebDriver, String)}.
+     *
+     * @param snapshot    the {@link File} of the DOM snapshot
+     * @param trackerName the name of the tracker (used as the file name)
+     * @return the {@link File} that the screenshot will be saved to, once rendered
+     * @see #awaitCompletion()
+     */
+    public File submit(final File snapshot, final String trackerName) {
+        Metrics.encodeQueued();
+        pendingRenders.put(trackerName, executorService.submit(() -> {
+            try {
+                parallelismGovernor.acquire();
+                final long startNanos = System.nanoTime();
+                try {
+                    return render(snapshot, trackerName);
+                } finally {
+                    parallelismGovernor.release(Duration.ofNanos(System.nanoTime() - startNanos));
+                }
+            } finally {
+                deleteSnapshot(snapshot, trackerName);
+                Metrics.encodeCompleted();
+            }
+        }));
+        return ScreenshotTaker.screenshotFile(trackerName, OutputFormat.PNG);
+    }
+
+    /**
+     * Waits for all submitted snapshots to be rendered.
+     *
+     * @return the names of any trackers whose snapshot could not be rendered
+     */
+    public Collection<String> awaitCompletion() {
+        final Collection<String> failedTrackers = new TreeSet<>();
+        if (pendingRenders.isEmpty()) {
+            return failedTrackers;
+        }
+
+        final String snapshotsPlural = pendingRenders.size() == 1 ? "" : "s";
+        LOGGER.info("");
+        LOGGER.info(">>> Rendering {} snapshot{} <<<", pendingRenders.size(), snapshotsPlural);
+
+        for (final Map.Entry<String, Future<File>> pendingRender : pendingRenders.entrySet()) {
+            final String trackerName = pendingRender.getKey();
+            try {
+                final File screenshot = pendingRender.getValue().get();
+                LOGGER.info("\t- [{}] Screenshot saved at: [{}]", trackerName, screenshot.getAbsolutePath());
+            } catch (final ExecutionException e) {
+                LOGGER.debug("\t- [{}] Unable to render snapshot", trackerName, e);
+                LOGGER.warn("\t- [{}] Unable to render snapshot: {}", trackerName, e.getCause().getMessage());
+                failedTrackers.add(trackerName);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug("\t- [{}] Interrupted waiting for snapshot to render", trackerName, e);
+                LOGGER.warn("\t- [{}] Interrupted waiting for snapshot to render", trackerName);
+                failedTrackers.add(trackerName);
+            }
+        }
+
+        pendingRenders.clear();
+        return failedTrackers;
+    }
+
+    private File render(final File snapshot, final String trackerName) throws IOException, InterruptedException {
+        final RemoteWebDriver driver = borrowDriver();
+        boolean isDriverReusable = true;
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.RENDER)) {
+            driver.get(snapshot.toURI().toString());
+            final File screenshot = ScreenshotTaker.screenshotFile(trackerName, OutputFormat.PNG);
+            Files.write(screenshot.toPath(), ScreenshotTaker.captureEntirePageWithDevTools((HasCdp) driver));
+            return screenshot;
+        } catch (final WebDriverException e) {
+            // The web browser may have crashed or lost its session, so it is replaced rather than failing every later render
+            isDriverReusable = false;
+            discardDriver(driver);
+            throw e;
+        } finally {
+            if (isDriverReusable) {
+                idleDrivers.offer(driver);
+            }
+        }
+    }
+
+    // The snapshot contains the text of the web page, so it is never kept, even if it could not be rendered
+    private static void deleteSnapshot(final File snapshot, final String trackerName) {
+        try {
+            Files.deleteIfExists(snapshot.toPath());
+        } catch (final IOException e) {
+            LOGGER.debug("\t- [{}] Unable to delete snapshot: {}", trackerName, snapshot.getAbsolutePath(), e);
+            LOGGER.warn("\t- [{}] Unable to delete snapshot: {}", trackerName, snapshot.getAbsolutePath());
+        }
+    }
+
+    // The decision to create a web browser is made under a lock, so two renders cannot both create one when the memory budget only allows one.
+    // While waiting for an idle web browser, the decision is retried, in case the web browsers have since been discarded.
+    private RemoteWebDriver borrowDriver() throws InterruptedException {
+        while (true) {
+            synchronized (driverLock) {
+                final RemoteWebDriver idleDriver = idleDrivers.poll();
+                if (idleDriver != null) {
+                    return idleDriver;
+                }
+
+                // At least one web browser is always created, otherwise no snapshot could ever be rendered
+                if (numberOfDrivers == 0 || BrowserResourceSampler.hasMemoryForNewBrowser(memoryBudgetMegabytes)) {
+                    numberOfDrivers++;
+                    break;
+                }
+            }
+
+            LOGGER.trace("Web browser memory budget reached, waiting for an existing web browser to render snapshot");
+            final RemoteWebDriver releasedDriver = idleDrivers.poll(IDLE_DRIVER_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            if (releasedDriver != null) {
+                return releasedDriver;
+            }
+        }
+
+        LOGGER.trace("Creating new web browser for rendering snapshots");
+        try {
+            final RemoteWebDriver driver = JavaWebDriverFactory.createDriver(TrackerType.HEADLESS);
+            Metrics.browserOpened();
+            allDrivers.add(driver);
+            return driver;
+        } catch (final RuntimeException e) {
+            synchronized (driverLock) {
+                numberOfDrivers--;
+            }
+            throw e;
+        }
+    }
+
+    private void discardDriver(final RemoteWebDriver driver) {
+        allDrivers.remove(driver);
+        synchronized (driverLock) {
+            numberOfDrivers--;
+        }
+
+        try {
+            driver.quit();
+        } catch (final WebDriverException e) {
+            LOGGER.debug("Unable to close failed rendering web browser", e);
+        } finally {
+            Metrics.browserClosed();
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        for (final RemoteWebDriver driver : allDrivers) {
+            try {
+                driver.quit();
+            } catch (final WebDriverException e) {
+                LOGGER.debug("Unable to close rendering web browser", e);
+            } finally {
+                Metrics.browserClosed();
+            }
+        }
+        allDrivers.clear();
+        idleDrivers.clear();
+        synchronized (driverLock) {
+            numberOfDrivers = 0;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.render;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.OptionalLong;
+import net.zodac.tracker.framework.telemetry.BrowserResourceSampler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Limits the number of snapshots rendered at the same time by a {@link DeferredRenderer}. When auto-scaling is enabled, the limit starts at
+ * {@code 1} and is adjusted during the run:
+ * <ul>
+ *     <li>It grows by one at a time, up to the lowest of the maximum number of workers, the cgroup CPU limit and the number of web browsers that
+ *     fit in the remaining cgroup memory (based on the largest peak web browser memory seen by {@link BrowserResourceSampler})</li>
+ *     <li>It is halved when the cgroup is under memory pressure, is close to its memory limit, or a render takes much longer than usual</li>
+ * </ul>
+ *
+ * <p>
+ * When auto-scaling is disabled, the limit is always the maximum number of workers.
+ *
+ * @see CgroupResources
+ */
+public final class ParallelismGovernor {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration ADJUSTMENT_INTERVAL = Duration.ofSeconds(1L);
+    private static final double MEMORY_PRESSURE_THRESHOLD = 10.0D;
+    private static final double MEMORY_USAGE_THRESHOLD = 0.9D;
+    private static final double LATENCY_SPIKE_FACTOR = 2.0D;
+    private static final int MINIMUM_LATENCY_SAMPLES = 5;
+    private static final int MAXIMUM_LATENCY_SAMPLES = 20;
+
+    private final int maximumWorkers;
+    private final boolean autoScale;
+    private final Deque<Long> recentLatencyNanos = new ArrayDeque<>();
+    private int workerLimit;
+    private int activeWorkers;
+    private long lastAdjustmentNanos;
+    private boolean latencySpike;
+
+    /**
+     * Constructor for a {@link ParallelismGovernor}.
+     *
+     * @param maximumWorkers the maximum number of snapshots to render at the same time
+     * @param autoScale      whether to adjust the number of snapshots rendered at the same time based on the available resources
+     */
+    public ParallelismGovernor(final int maximumWorkers, final boolean autoScale) {
+        this.maximumWorkers = Math.max(1, maximumWorkers);
+        this.autoScale = autoScale;
+        workerLimit = autoScale ? 1 : this.maximumWorkers;
+        lastAdjustmentNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits until a worker is available, then reserves it. Must be followed by {@link #release(Duration)}.
+     *
+     * @throws InterruptedException thrown if interrupted while waiting for a worker
+     */
+    public synchronized void acquire() throws InterruptedException {
+        adjust();
+        while (activeWorkers >= workerLimit) {
+            wait(ADJUSTMENT_INTERVAL.toMillis());
+            adjust();
+        }
+        activeWorkers++;
+    }
+
+    /**
+     * Releases a worker reserved by {@link #acquire()}.
+     *
+     * @param latency the time taken by the worker to render the snapshot
+     */
+    public synchronized void release(final Duration latency) {
+        activeWorkers--;
+        recordLatency(latency.toNanos());
+        adjust();
+        notifyAll();
+    }
+
+    /**
+     * The current number of snapshots that may be rendered at the same time.
+     *
+     * @return the worker limit
+     */
+    public synchronized int workerLimit() {
+        return workerLimit;
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        if (recentLatencyNanos.size() >= MINIMUM_LATENCY_SAMPLES) {
+            final long[] sortedLatencies = recentLatencyNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            final long medianLatencyNanos = sortedLatencies[sortedLatencies.length / 2];
+            latencySpike = latencySpike || latencyNanos > LATENCY_SPIKE_FACTOR * medianLatencyNanos;
+        }
+
+        recentLatencyNanos.addLast(latencyNanos);
+        if (recentLatencyNanos.size() > MAXIMUM_LATENCY_SAMPLES) {
+            recentLatencyNanos.removeFirst();
+        }
+    }
+
+    private void adjust() {
+        final long nowNanos = System.nanoTime();
+        if (!autoScale || nowNanos - lastAdjustmentNanos < ADJUSTMENT_INTERVAL.toNanos()) {
+            return;
+        }
+        lastAdjustmentNanos = nowNanos;
+
+        final int previousWorkerLimit = workerLimit;
+        final String reason;
+        if (isUnderMemoryPressure()) {
+            workerLimit = Math.max(1, workerLimit / 2);
+            reason = "memory pressure";
+        } else if (latencySpike) {
+            workerLimit = Math.max(1, workerLimit / 2);
+            reason = "render latency spike";
+        } else {
+            workerLimit = Math.min(workerLimit + 1, calculateCeiling());
+            reason = "available resources";
+        }
+        latencySpike = false;
+
+        if (workerLimit != previousWorkerLimit) {
+            LOGGER.debug("Adjusted rendering workers from {} to {} ({})", previousWorkerLimit, workerLimit, reason);
+            notifyAll();
+        }
+    }
+
+    private int calculateCeiling() {
+        final int cpuCeiling = Math.max(1, (int) Math.floor(CgroupResources.cpuLimit()));
+        final int memoryCeiling = calculateMemoryCeiling();
+        return Math.min(maximumWorkers, Math.min(cpuCeiling, memoryCeiling));
+    }
+
+    // The number of web browsers that fit in the remaining memory, on top of the web browsers already rendering
+    private int calculateMemoryCeiling() {
+        final OptionalLong memoryLimitBytes = CgroupResources.memoryLimitBytes();
+        final OptionalLong memoryCurrentBytes = CgroupResources.memoryCurrentBytes();
+        final long browserPeakBytes = BrowserResourceSampler.largestPeakRssBytes();
+        if (memoryLimitBytes.isEmpty() || memoryCurrentBytes.isEmpty() || browserPeakBytes <= 0L) {
+            return maximumWorkers;
+        }
+
+        final long remainingBytes = Math.max(0L, memoryLimitBytes.getAsLong() - memoryCurrentBytes.getAsLong());
+        return Math.max(1, activeWorkers + (int) (remainingBytes / browserPeakBytes));
+    }
+
+    private static boolean isUnderMemoryPressure() {
+        if (CgroupResources.memoryPressure() > MEMORY_PRESSURE_THRESHOLD) {
+            return true;
+        }
+
+        final OptionalLong memoryLimitBytes = CgroupResources.memoryLimitBytes();
+        final OptionalLong memoryCurrentBytes = CgroupResources.memoryCurrentBytes();
+        return memoryLimitBytes.isPresent() && memoryCurrentBytes.isPresent()
+            && memoryCurrentBytes.getAsLong() > MEMORY_USAGE_THRESHOLD * memoryLimitBytes.getAsLong();
+    }
+}
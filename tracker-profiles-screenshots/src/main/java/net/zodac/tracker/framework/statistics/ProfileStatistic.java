@@ -0,0 +1,81 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.statistics;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Enum defining the statistics that can be extracted from the profile page of a tracker.
+ */
+public enum ProfileStatistic {
+
+    /**
+     * The total amount of data uploaded by the user.
+     */
+    UPLOAD("upload"),
+
+    /**
+     * The total amount of data downloaded by the user.
+     */
+    DOWNLOAD("download"),
+
+    /**
+     * The ratio of uploaded data to downloaded data.
+     */
+    RATIO("ratio"),
+
+    /**
+     * The amount of data that can be downloaded before the user's ratio falls below the tracker's requirement.
+     */
+    BUFFER("buffer"),
+
+    /**
+     * The bonus points (or seed bonus) of the user.
+     */
+    BONUS_POINTS("bonusPoints"),
+
+    /**
+     * The user class (or rank) of the user.
+     */
+    USER_CLASS("userClass");
+
+    /**
+     * All available {@link ProfileStatistic}s.
+     *
+     * <p>
+     * Should be used instead of {@link ProfileStatistic#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<ProfileStatistic> ALL_VALUES = List.of(values());
+
+    private final String jsonName;
+
+    ProfileStatistic(final String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * The name of the field when the {@link ProfileStatistic} is written as JSON.
+     *
+     * @return the JSON field name
+     */
+    public String jsonName() {
+        return jsonName;
+    }
+}
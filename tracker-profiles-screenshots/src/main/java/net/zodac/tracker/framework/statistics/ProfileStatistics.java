@@ -0,0 +1,151 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.statistics;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The {@link ProfileStatistic}s extracted from a tracker's profile page at a point in time.
+ *
+ * @param capturedAt the {@link Instant} (in ISO-8601 format) that the statistics were extracted
+ * @param values     the extracted value for each {@link ProfileStatistic}, as displayed on the profile page
+ * @param screenshot the absolute path to the screenshot of the profile page, or {@code null} if no screenshot has been saved
+ */
+public record ProfileStatistics(String capturedAt, Map<ProfileStatistic, String> values, @Nullable String screenshot) {
+
+    private static final String CAPTURED_AT_JSON_NAME = "capturedAt";
+    private static final String SCREENSHOT_JSON_NAME = "screenshot";
+    private static final Pattern LABEL_PREFIX = Pattern.compile("^[\\p{L} ]+:\\s*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Creates a {@link ProfileStatistics} instance from the raw text extracted from the profile page. Any label prefixing the value (like
+     * {@code Uploaded: 1.00 TB}) is removed, and any {@code null} or blank values are discarded.
+     *
+     * @param rawValues the text of each {@link ProfileStatistic} on the profile page
+     * @return the {@link ProfileStatistics}
+     */
+    public static ProfileStatistics fromRawValues(final Map<ProfileStatistic, String> rawValues) {
+        final Map<ProfileStatistic, String> values = new EnumMap<>(ProfileStatistic.class);
+
+        for (final Map.Entry<ProfileStatistic, String> rawValue : rawValues.entrySet()) {
+            if (rawValue.getValue() == null) {
+                continue;
+            }
+
+            final String normalisedValue = WHITESPACE.matcher(rawValue.getValue()).replaceAll(" ").strip();
+            final String value = LABEL_PREFIX.matcher(normalisedValue).replaceFirst("");
+            if (!value.isBlank()) {
+                values.put(rawValue.getKey(), value);
+            }
+        }
+
+        return new ProfileStatistics(Instant.now().toString(), Collections.unmodifiableMap(values), null);
+    }
+
+    /**
+     * Converts a {@link JsonObject} previously created by {@link #toJson()} back into a {@link ProfileStatistics} instance.
+     *
+     * @param jsonObject the {@link JsonObject} to convert
+     * @return the {@link ProfileStatistics}
+     */
+    public static ProfileStatistics fromJson(final JsonObject jsonObject) {
+        final Map<ProfileStatistic, String> values = new EnumMap<>(ProfileStatistic.class);
+        for (final ProfileStatistic profileStatistic : ProfileStatistic.ALL_VALUES) {
+            final JsonElement value = jsonObject.get(profileStatistic.jsonName());
+            if (value != null && !value.isJsonNull()) {
+                values.put(profileStatistic, value.getAsString());
+            }
+        }
+
+        final JsonElement capturedAt = jsonObject.get(CAPTURED_AT_JSON_NAME);
+        final JsonElement screenshot = jsonObject.get(SCREENSHOT_JSON_NAME);
+        return new ProfileStatistics(
+            capturedAt == null ? "" : capturedAt.getAsString(),
+            Collections.unmodifiableMap(values),
+            screenshot == null || screenshot.isJsonNull() ? null : screenshot.getAsString()
+        );
+    }
+
+    /**
+     * Checks whether the values of the {@code significantStatistics} are unchanged from a {@code previous} {@link ProfileStatistics}. If none of the
+     * {@code significantStatistics} were found for this {@link ProfileStatistics}, it is considered to have changed, since we cannot confirm that it
+     * has not.
+     *
+     * @param previous              the previous {@link ProfileStatistics} to compare against
+     * @param significantStatistics the {@link ProfileStatistic}s whose values are meaningful when comparing
+     * @return {@code true} if all {@code significantStatistics} have the same value as the {@code previous} {@link ProfileStatistics}
+     */
+    public boolean isUnchangedFrom(final ProfileStatistics previous, final Collection<ProfileStatistic> significantStatistics) {
+        final boolean hasAnySignificantStatistic = significantStatistics.stream().anyMatch(values::containsKey);
+        if (!hasAnySignificantStatistic) {
+            return false;
+        }
+
+        return significantStatistics
+            .stream()
+            .allMatch(profileStatistic -> Objects.equals(values.get(profileStatistic), previous.values().get(profileStatistic)));
+    }
+
+    /**
+     * Checks whether any {@link ProfileStatistic}s were found on the profile page.
+     *
+     * @return {@code true} if no {@link ProfileStatistic}s were found
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Converts the {@link ProfileStatistics} into a {@link JsonObject}. Any {@link ProfileStatistic} that was not found is excluded.
+     *
+     * @return the {@link JsonObject}
+     * @see ProfileStatistic#jsonName()
+     */
+    public JsonObject toJson() {
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty(CAPTURED_AT_JSON_NAME, capturedAt);
+        for (final Map.Entry<ProfileStatistic, String> value : values.entrySet()) {
+            jsonObject.addProperty(value.getKey().jsonName(), value.getValue());
+        }
+        if (screenshot != null) {
+            jsonObject.addProperty(SCREENSHOT_JSON_NAME, screenshot);
+        }
+        return jsonObject;
+    }
+
+    /**
+     * Creates a copy of this {@link ProfileStatistics} with the {@link File} of the saved screenshot of the profile page.
+     *
+     * @param screenshotFile the {@link File} of the screenshot
+     * @return the updated {@link ProfileStatistics}
+     */
+    public ProfileStatistics withScreenshot(final File screenshotFile) {
+        return new ProfileStatistics(capturedAt, values, screenshotFile.getAbsolutePath());
+    }
+}
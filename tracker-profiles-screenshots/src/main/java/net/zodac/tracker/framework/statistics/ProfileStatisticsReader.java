@@ -0,0 +1,70 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.statistics;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Utility class used to read previously saved {@link ProfileStatistics} of a tracker from the file system.
+ */
+public final class ProfileStatisticsReader {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private ProfileStatisticsReader() {
+
+    }
+
+    /**
+     * Reads the most recent {@link ProfileStatistics} for the tracker, from the last line of its time series file.
+     *
+     * @param trackerName the name of the tracker
+     * @return the latest {@link ProfileStatistics}, or {@link Optional#empty()} if none exist or the time series file cannot be read
+     * @see ProfileStatisticsWriter#timeSeriesFile(String)
+     */
+    public static Optional<ProfileStatistics> readLatest(final String trackerName) {
+        final Path timeSeriesFile = ProfileStatisticsWriter.timeSeriesFile(trackerName);
+        if (!Files.exists(timeSeriesFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            final List<String> lines = Files.readAllLines(timeSeriesFile, StandardCharsets.UTF_8);
+            for (int i = lines.size() - 1; i >= 0; i--) {
+                final String line = lines.get(i);
+                if (!line.isBlank()) {
+                    return Optional.of(ProfileStatistics.fromJson(JsonParser.parseString(line).getAsJsonObject()));
+                }
+            }
+            return Optional.empty();
+        } catch (final IOException | JsonParseException | IllegalStateException e) {
+            LOGGER.debug("Unable to read previous statistics from '{}'", timeSeriesFile, e);
+            LOGGER.warn("Unable to read previous statistics from '{}': {}", timeSeriesFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
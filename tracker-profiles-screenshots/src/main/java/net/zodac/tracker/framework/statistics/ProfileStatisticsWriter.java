@@ -0,0 +1,80 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.statistics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+
+/**
+ * Utility class used to save the {@link ProfileStatistics} of a tracker to the file system.
+ */
+public final class ProfileStatisticsWriter {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Gson COMPACT_GSON = new Gson();
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private ProfileStatisticsWriter() {
+
+    }
+
+    /**
+     * Saves the {@link ProfileStatistics} for a tracker in two locations:
+     * <ol>
+     *     <li>As a {@code .json} file in {@link ApplicationConfiguration#outputDirectory()}, alongside the screenshot of the tracker</li>
+     *     <li>Appended as a single line to the {@code .jsonl} time series file for the tracker in
+     *     {@link ApplicationConfiguration#statisticsDirectory()}</li>
+     * </ol>
+     *
+     * @param trackerName       the name of the tracker (used as the file name)
+     * @param profileStatistics the {@link ProfileStatistics} to save
+     * @return the {@link File} instance of the saved {@code .json} file
+     * @throws IOException thrown if an error occurs saving the statistics to the file system
+     */
+    public static File write(final String trackerName, final ProfileStatistics profileStatistics) throws IOException {
+        final Path statisticsFile = CONFIG.outputDirectory().toAbsolutePath().resolve(trackerName + ".json");
+        Files.writeString(statisticsFile, PRETTY_GSON.toJson(profileStatistics.toJson()), StandardCharsets.UTF_8);
+
+        final Path timeSeriesFile = timeSeriesFile(trackerName);
+        Files.createDirectories(timeSeriesFile.getParent());
+        Files.writeString(timeSeriesFile, COMPACT_GSON.toJson(profileStatistics.toJson()) + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        return statisticsFile.toFile();
+    }
+
+    /**
+     * Retrieves the {@link Path} to the {@code .jsonl} time series file for the tracker. Each line of the file is a JSON representation of the
+     * {@link ProfileStatistics} from a single execution.
+     *
+     * @param trackerName the name of the tracker
+     * @return the {@link Path} to the time series file
+     * @see ProfileStatistics#toJson()
+     */
+    public static Path timeSeriesFile(final String trackerName) {
+        return CONFIG.statisticsDirectory().toAbsolutePath().resolve(trackerName + ".jsonl");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Utility class used to find and measure the processes of a Chrome web browser, using {@code /proc}. Only supported on Linux, and only for web
+ * browsers running on the same host as the application.
+ */
+public final class BrowserProcesses {
+
+    private static final Path PROC_DIRECTORY = Path.of("/proc");
+    private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+    private static final String RSS_PREFIX = "VmRSS:";
+    private static final long BYTES_PER_KILOBYTE = 1024L;
+
+    private BrowserProcesses() {
+
+    }
+
+    /**
+     * Checks whether browser processes can be measured on this host.
+     *
+     * @return {@code true} if {@code /proc} is available
+     */
+    public static boolean isSupported() {
+        return Files.isDirectory(PROC_DIRECTORY.resolve("self"));
+    }
+
+    /**
+     * Finds the main process of the Chrome web browser controlled by the {@link RemoteWebDriver}. The process is identified by the
+     * {@code --user-data-dir} argument, which is unique for each web browser created by ChromeDriver.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the main {@link ProcessHandle} of the web browser, or {@link Optional#empty()} if it cannot be found
+     */
+    public static Optional<ProcessHandle> findBrowserProcess(final RemoteWebDriver driver) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+
+        final Object chromeCapability = driver.getCapabilities().getCapability("chrome");
+        if (!(chromeCapability instanceof final Map<?, ?> chrome) || !(chrome.get("userDataDir") instanceof final String userDataDir)) {
+            return Optional.empty();
+        }
+
+        final String userDataDirArgument = USER_DATA_DIR_ARGUMENT + userDataDir;
+        return ProcessHandle.allProcesses()
+            .filter(process -> hasArgument(process, userDataDirArgument))
+            .filter(process -> process.parent().map(parent -> !hasArgument(parent, userDataDirArgument)).orElse(true))
+            .findFirst();
+    }
+
+    /**
+     * Measures the current memory and CPU usage of a process and all of its descendants.
+     *
+     * @param process the root {@link ProcessHandle}
+     * @return the {@link BrowserFootprint}
+     */
+    public static BrowserFootprint measure(final ProcessHandle process) {
+        final List<ProcessHandle> processTree = Stream.concat(Stream.of(process), process.descendants()).toList();
+
+        long rssBytes = 0L;
+        long cpuNanos = 0L;
+        for (final ProcessHandle processInTree : processTree) {
+            rssBytes += readRssBytes(processInTree.pid());
+            cpuNanos += processInTree.info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+        }
+        return new BrowserFootprint(rssBytes, cpuNanos, processTree.size());
+    }
+
+    /**
+     * Measures the current total memory of all processes started by the application (like ChromeDriver and its web browsers).
+     *
+     * @return the total resident memory in bytes, or {@code 0} if not {@link #isSupported()}
+     */
+    public static long totalRssBytes() {
+        if (!isSupported()) {
+            return 0L;
+        }
+        return ProcessHandle.current().descendants().mapToLong(process -> readRssBytes(process.pid())).sum();
+    }
+
+    private static boolean hasArgument(final ProcessHandle process, final String argument) {
+        return process.info().arguments().map(arguments -> Arrays.asList(arguments).contains(argument)).orElse(false);
+    }
+
+    // The process may exit at any time, in which case it no longer uses any memory
+    private static long readRssBytes(final long pid) {
+        try (final Stream<String> lines = Files.lines(PROC_DIRECTORY.resolve(String.valueOf(pid)).resolve("status"), StandardCharsets.UTF_8)) {
+            return lines
+                .filter(line -> line.startsWith(RSS_PREFIX))
+                .findFirst()
+                .map(line -> Long.parseLong(line.substring(RSS_PREFIX.length()).replace("kB", "").strip()) * BYTES_PER_KILOBYTE)
+                .orElse(0L);
+        } catch (final IOException | UncheckedIOException | NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * The memory and CPU usage of a web browser's processes at a point in time.
+     *
+     * @param rssBytes     the total resident memory, in bytes
+     * @param cpuNanos     the total CPU time used since each process was started, in nanoseconds
+     * @param processCount the number of processes
+     */
+    public record BrowserFootprint(long rssBytes, long cpuNanos, int processCount) {
+
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.JsonObject;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Samples the memory and CPU usage of a tracker's web browser (see {@link BrowserProcesses}) while the tracker is executed, recording the peak
+ * memory and the CPU time used for the tracker.
+ *
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (final BrowserResourceSampler _ = BrowserResourceSampler.start(trackerName, driver)) {
+ *     // Execute tracker
+ * }
+ * }</pre>
+ */
+public final class BrowserResourceSampler implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500L);
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final Map<String, BrowserResourceUsage> USAGE_BY_TRACKER = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("browser-resource-sampler").daemon().factory());
+
+    private final String trackerName;
+    @Nullable
+    private final ProcessHandle browserProcess;
+    @Nullable
+    private ScheduledFuture<?> sampling;
+    private long startCpuNanos = -1L;
+    private long lastCpuNanos;
+    private long peakRssBytes;
+    private int samples;
+
+    private BrowserResourceSampler(final String trackerName, final @Nullable ProcessHandle browserProcess) {
+        this.trackerName = trackerName;
+        this.browserProcess = browserProcess;
+    }
+
+    /**
+     * Starts sampling the web browser of a tracker. If the web browser processes cannot be found (like on a non-Linux host), nothing is sampled.
+     *
+     * @param trackerName the name of the tracker
+     * @param driver      the {@link RemoteWebDriver} of the tracker
+     * @return the {@link BrowserResourceSampler}
+     */
+    public static BrowserResourceSampler start(final String trackerName, final RemoteWebDriver driver) {
+        try {
+            final BrowserResourceSampler browserResourceSampler =
+                new BrowserResourceSampler(trackerName, BrowserProcesses.findBrowserProcess(driver).orElse(null));
+            if (browserResourceSampler.browserProcess != null) {
+                browserResourceSampler.sampling =
+                    SCHEDULER.scheduleAtFixedRate(browserResourceSampler::sample, 0L, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return browserResourceSampler;
+        } catch (final WebDriverException | SecurityException e) {
+            LOGGER.debug("\t- Unable to find web browser processes for tracker '{}'", trackerName, e);
+            return new BrowserResourceSampler(trackerName, null);
+        }
+    }
+
+    /**
+     * Finds the {@link BrowserResourceUsage} of a tracker.
+     *
+     * @param trackerName the name of the tracker
+     * @return the {@link BrowserResourceUsage}, or {@link Optional#empty()} if the tracker's web browser was not sampled
+     */
+    public static Optional<BrowserResourceUsage> find(final String trackerName) {
+        return Optional.ofNullable(USAGE_BY_TRACKER.get(trackerName));
+    }
+
+    /**
+     * Retrieves the {@link BrowserResourceUsage} of all sampled trackers.
+     *
+     * @return the {@link BrowserResourceUsage} for each tracker, ordered by tracker name
+     */
+    public static Map<String, BrowserResourceUsage> usageByTracker() {
+        return new TreeMap<>(USAGE_BY_TRACKER);
+    }
+
+    /**
+     * The largest peak memory of any sampled web browser, used to estimate the memory needed by a new web browser.
+     *
+     * @return the largest peak resident memory in bytes, or {@code 0} if no web browsers have been sampled
+     */
+    public static long largestPeakRssBytes() {
+        return USAGE_BY_TRACKER.values().stream().mapToLong(BrowserResourceUsage::peakRssBytes).max().orElse(0L);
+    }
+
+    /**
+     * Checks whether a new web browser can be started without the total memory of all web browsers exceeding the budget. The memory of the new
+     * web browser is estimated as the {@link #largestPeakRssBytes()}.
+     *
+     * @param memoryBudgetMegabytes the maximum total memory of all web browsers in MB, or {@code 0} for no limit
+     * @return {@code true} if the projected total memory is within the budget
+     */
+    public static boolean hasMemoryForNewBrowser(final int memoryBudgetMegabytes) {
+        if (memoryBudgetMegabytes <= 0) {
+            return true;
+        }
+        return BrowserProcesses.totalRssBytes() + largestPeakRssBytes() <= memoryBudgetMegabytes * BYTES_PER_MEGABYTE;
+    }
+
+    /**
+     * Removes the {@link BrowserResourceUsage} of all trackers, so a new run can be sampled by a long-running application.
+     */
+    public static void reset() {
+        USAGE_BY_TRACKER.clear();
+    }
+
+    private synchronized void sample() {
+        if (browserProcess == null || !browserProcess.isAlive()) {
+            return;
+        }
+
+        final BrowserProcesses.BrowserFootprint footprint = BrowserProcesses.measure(browserProcess);
+        if (startCpuNanos < 0L) {
+            startCpuNanos = footprint.cpuNanos();
+        }
+        lastCpuNanos = Math.max(lastCpuNanos, footprint.cpuNanos());
+        peakRssBytes = Math.max(peakRssBytes, footprint.rssBytes());
+        samples++;
+    }
+
+    /**
+     * Stops sampling the web browser, and records the {@link BrowserResourceUsage} of the tracker.
+     */
+    @Override
+    public void close() {
+        if (sampling == null) {
+            return;
+        }
+
+        sampling.cancel(false);
+        sample();
+        synchronized (this) {
+            if (samples > 0) {
+                final BrowserResourceUsage usage = new BrowserResourceUsage(peakRssBytes, lastCpuNanos - startCpuNanos, samples);
+                USAGE_BY_TRACKER.put(trackerName, usage);
+                LOGGER.debug("\t- Peak web browser memory: {} MB, CPU time: {} ms", peakRssBytes / BYTES_PER_MEGABYTE,
+                    Duration.ofNanos(usage.cpuNanos()).toMillis());
+            }
+        }
+    }
+
+    /**
+     * The memory and CPU usage of a tracker's web browser while the tracker was executed.
+     *
+     * @param peakRssBytes the peak resident memory of the web browser processes, in bytes
+     * @param cpuNanos     the CPU time used by the web browser processes while the tracker was executed, in nanoseconds
+     * @param samples      the number of samples taken
+     */
+    public record BrowserResourceUsage(long peakRssBytes, long cpuNanos, int samples) {
+
+        /**
+         * Converts the {@link BrowserResourceUsage} into a {@link JsonObject}.
+         *
+         * @return the {@link JsonObject}
+         */
+        public JsonObject toJson() {
+            final JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("peakRssBytes", peakRssBytes);
+            jsonObject.addProperty("cpuNanos", cpuNanos);
+            jsonObject.addProperty("samples", samples);
+            return jsonObject;
+        }
+    }
+}
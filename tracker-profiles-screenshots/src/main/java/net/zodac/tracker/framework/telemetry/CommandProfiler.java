@@ -0,0 +1,184 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+/**
+ * Utility class used to profile the WebDriver commands issued for each tracker. Each {@link RemoteWebDriver} is decorated with a
+ * {@link CommandProfilingListener}, which records the number and latency of each command in a {@link TrackerCommandProfile}.
+ */
+public final class CommandProfiler {
+
+    private static final String REPORT_FILE_NAME = "webdriver-commands.json";
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Map<String, TrackerCommandProfile> PROFILES_BY_TRACKER = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> SUSPENDED = ThreadLocal.withInitial(() -> false);
+
+    private CommandProfiler() {
+
+    }
+
+    /**
+     * Decorates the {@link RemoteWebDriver} so each WebDriver command is recorded for the tracker.
+     *
+     * @param driver      the {@link RemoteWebDriver} to decorate
+     * @param trackerName the name of the tracker
+     * @return the decorated {@link RemoteWebDriver}
+     */
+    public static RemoteWebDriver decorate(final RemoteWebDriver driver, final String trackerName) {
+        final TrackerCommandProfile trackerCommandProfile = PROFILES_BY_TRACKER.computeIfAbsent(trackerName, name -> new TrackerCommandProfile());
+        return new EventFiringDecorator<>(RemoteWebDriver.class, new CommandProfilingListener(trackerCommandProfile)).decorate(driver);
+    }
+
+    /**
+     * Performs the {@code action} without recording any WebDriver commands it issues on the current thread. This is used for diagnostic commands
+     * (like retrieving the navigation timings of a web page), which are not part of the work being profiled, and should not count towards the
+     * baseline used by {@link #findRegressions(Path, int)}.
+     *
+     * @param action the action to perform
+     * @param <T>    the type of the result of the {@code action}
+     * @return the result of the {@code action}
+     */
+    public static <T> T withoutProfiling(final Supplier<T> action) {
+        final boolean wasSuspended = SUSPENDED.get();
+        SUSPENDED.set(true);
+        try {
+            return action.get();
+        } finally {
+            SUSPENDED.set(wasSuspended);
+        }
+    }
+
+    /**
+     * Whether WebDriver commands issued on the current thread are currently not being recorded.
+     *
+     * @return {@code true} if called within {@link #withoutProfiling(Supplier)}
+     */
+    static boolean isSuspended() {
+        return SUSPENDED.get();
+    }
+
+    /**
+     * Finds the {@link TrackerCommandProfile} for a tracker.
+     *
+     * @param trackerName the name of the tracker
+     * @return the {@link TrackerCommandProfile}, or {@link Optional#empty()} if no commands were profiled for the tracker
+     */
+    public static Optional<TrackerCommandProfile> find(final String trackerName) {
+        return Optional.ofNullable(PROFILES_BY_TRACKER.get(trackerName));
+    }
+
+    /**
+     * Removes the {@link TrackerCommandProfile} of all trackers, so a new run can be profiled by a long-running application.
+     */
+    public static void reset() {
+        PROFILES_BY_TRACKER.clear();
+    }
+
+    /**
+     * Saves the {@link TrackerCommandProfile} of each tracker as a {@value #REPORT_FILE_NAME} file. This file can be used as the baseline for
+     * {@link #findRegressions(Path, int)} in a later execution.
+     *
+     * @param outputDirectory the {@link Path} to the directory to save the file in
+     * @return the {@link File} instance of the saved {@value #REPORT_FILE_NAME} file
+     * @throws IOException thrown if an error occurs saving the file to the file system
+     */
+    public static File write(final Path outputDirectory) throws IOException {
+        final JsonObject trackers = new JsonObject();
+        for (final Map.Entry<String, TrackerCommandProfile> profile : new TreeMap<>(PROFILES_BY_TRACKER).entrySet()) {
+            trackers.add(profile.getKey(), profile.getValue().toJson());
+        }
+
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.add("trackers", trackers);
+
+        final Path reportFile = outputDirectory.toAbsolutePath().resolve(REPORT_FILE_NAME);
+        Files.writeString(reportFile, PRETTY_GSON.toJson(jsonObject), StandardCharsets.UTF_8);
+        return reportFile.toFile();
+    }
+
+    /**
+     * Compares the number of WebDriver commands issued for each tracker against a baseline {@value #REPORT_FILE_NAME} file from a previous
+     * execution. Trackers that are not in the baseline are ignored.
+     *
+     * @param baselineFile     the {@link Path} to the baseline {@value #REPORT_FILE_NAME} file
+     * @param tolerancePercent the percentage by which the number of commands may grow beyond the baseline
+     * @return the {@link CommandCountRegression} for each tracker that issued more commands than allowed
+     * @throws IOException thrown if the baseline file cannot be read or is invalid
+     */
+    public static List<CommandCountRegression> findRegressions(final Path baselineFile, final int tolerancePercent) throws IOException {
+        final JsonObject baselineTrackers;
+        try {
+            final JsonElement baseline = JsonParser.parseString(Files.readString(baselineFile, StandardCharsets.UTF_8));
+            baselineTrackers = baseline.getAsJsonObject().getAsJsonObject("trackers");
+        } catch (final JsonParseException | IllegalStateException | ClassCastException e) {
+            throw new IOException(String.format("Invalid baseline file '%s'", baselineFile), e);
+        }
+
+        final List<CommandCountRegression> regressions = new ArrayList<>();
+        if (baselineTrackers == null) {
+            return regressions;
+        }
+
+        for (final Map.Entry<String, TrackerCommandProfile> profile : new TreeMap<>(PROFILES_BY_TRACKER).entrySet()) {
+            final JsonObject baselineTracker = baselineTrackers.getAsJsonObject(profile.getKey());
+            if (baselineTracker == null || !baselineTracker.has("commandCount")) {
+                continue;
+            }
+
+            final long baselineCount = baselineTracker.get("commandCount").getAsLong();
+            final long allowedCount = baselineCount + (baselineCount * tolerancePercent / 100L);
+            final long commandCount = profile.getValue().commandCount();
+            if (commandCount > allowedCount) {
+                regressions.add(new CommandCountRegression(profile.getKey(), baselineCount, commandCount));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * A tracker which issued more WebDriver commands than allowed by the baseline.
+     *
+     * @param trackerName   the name of the tracker
+     * @param baselineCount the number of commands in the baseline
+     * @param commandCount  the number of commands issued in this execution
+     */
+    public record CommandCountRegression(String trackerName, long baselineCount, long commandCount) {
+
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * {@link WebDriverListener} that times each WebDriver command issued for a tracker, and records it in a {@link TrackerCommandProfile}. Calls that
+ * do not result in a round trip to the web browser (like {@code manage()} or {@code navigate()}, which only return a local helper object) are
+ * ignored, as are any calls made within {@link CommandProfiler#withoutProfiling(java.util.function.Supplier)}.
+ */
+class CommandProfilingListener implements WebDriverListener {
+
+    private static final Set<String> LOCAL_METHOD_NAMES = Set.of(
+        "equals",
+        "getCapabilities",
+        "getCommandExecutor",
+        "getErrorHandler",
+        "getFileDetector",
+        "getSessionId",
+        "getWrappedDriver",
+        "getWrappedElement",
+        "hashCode",
+        "manage",
+        "navigate",
+        "switchTo",
+        "timeouts",
+        "toString",
+        "window"
+    );
+
+    private final TrackerCommandProfile trackerCommandProfile;
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Constructor that takes the {@link TrackerCommandProfile} to record each command in.
+     *
+     * @param trackerCommandProfile the {@link TrackerCommandProfile}
+     */
+    CommandProfilingListener(final TrackerCommandProfile trackerCommandProfile) {
+        this.trackerCommandProfile = trackerCommandProfile;
+    }
+
+    @Override
+    public void beforeAnyCall(final Object target, final Method method, final Object[] args) {
+        if (!LOCAL_METHOD_NAMES.contains(method.getName()) && !CommandProfiler.isSuspended()) {
+            startTimes.get().push(StepTimer.elapsedNanos());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(final Object target, final Method method, final Object[] args, final Object result) {
+        recordCommand(method, true);
+    }
+
+    @Override
+    public void onError(final Object target, final Method method, final Object[] args, final InvocationTargetException e) {
+        recordCommand(method, false);
+    }
+
+    private void recordCommand(final Method method, final boolean successful) {
+        if (LOCAL_METHOD_NAMES.contains(method.getName()) || CommandProfiler.isSuspended()) {
+            return;
+        }
+
+        final Long startNanos = startTimes.get().poll();
+        if (startNanos != null) {
+            trackerCommandProfile.record(method.getName(), StepTimer.elapsedNanos() - startNanos, startNanos, successful);
+        }
+    }
+}
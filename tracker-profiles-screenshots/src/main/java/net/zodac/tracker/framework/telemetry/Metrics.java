@@ -0,0 +1,229 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utility class holding the metrics of the application, which can be exposed in the Prometheus text format by {@link MetricsServer}, or saved
+ * to a {@code .prom} file for the node-exporter textfile collector. The metrics are:
+ * <ul>
+ *     <li>{@value #TRACKERS_METRIC}: a counter of executed trackers, by tracker name and outcome ({@code success} or the exception class)</li>
+ *     <li>{@value #STEP_DURATION_METRIC}: a histogram of the duration of each {@link Step}, by tracker name and {@link Step}</li>
+ *     <li>{@value #LIVE_BROWSERS_METRIC}: a gauge of the number of web browsers currently open</li>
+ *     <li>{@value #QUEUED_ENCODES_METRIC}: a gauge of the number of screenshots currently waiting to be rendered and encoded</li>
+ * </ul>
+ *
+ * <p>
+ * Metrics are cumulative for the lifetime of the application, so they are not reset between runs in daemon mode.
+ */
+public final class Metrics {
+
+    private static final String TRACKERS_METRIC = "tracker_profiles_trackers_total";
+    private static final String STEP_DURATION_METRIC = "tracker_profiles_step_duration_seconds";
+    private static final String LIVE_BROWSERS_METRIC = "tracker_profiles_live_browsers";
+    private static final String QUEUED_ENCODES_METRIC = "tracker_profiles_queued_encodes";
+    private static final double[] STEP_DURATION_BUCKETS = {0.1D, 0.25D, 0.5D, 1.0D, 2.5D, 5.0D, 10.0D, 30.0D, 60.0D, 120.0D, 300.0D};
+    private static final double NANOS_PER_SECOND = Duration.ofSeconds(1L).toNanos();
+
+    private static final Map<OutcomeKey, LongAdder> TRACKER_OUTCOMES = new ConcurrentSkipListMap<>();
+    private static final Map<StepKey, Histogram> STEP_DURATIONS = new ConcurrentHashMap<>();
+    private static final AtomicInteger LIVE_BROWSERS = new AtomicInteger();
+    private static final AtomicInteger QUEUED_ENCODES = new AtomicInteger();
+
+    private Metrics() {
+
+    }
+
+    /**
+     * Records the duration of a completed {@link StepSpan}. If the {@link StepSpan} is a {@link Step#TRACKER}, its
+     * {@link OtlpTraceExporter#ATTRIBUTE_OUTCOME} is also counted.
+     *
+     * @param stepSpan the completed {@link StepSpan}
+     */
+    static void recordStep(final StepSpan stepSpan) {
+        STEP_DURATIONS.computeIfAbsent(new StepKey(stepSpan.trackerName(), stepSpan.step()), stepKey -> new Histogram())
+            .observe(stepSpan.durationNanos() / NANOS_PER_SECOND);
+
+        if (stepSpan.step() == Step.TRACKER) {
+            final String outcome = stepSpan.attributes().getOrDefault(OtlpTraceExporter.ATTRIBUTE_OUTCOME, "unknown");
+            TRACKER_OUTCOMES.computeIfAbsent(new OutcomeKey(stepSpan.trackerName(), outcome), outcomeKey -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Records that a web browser has been opened.
+     */
+    public static void browserOpened() {
+        LIVE_BROWSERS.incrementAndGet();
+    }
+
+    /**
+     * Records that a web browser has been closed.
+     */
+    public static void browserClosed() {
+        LIVE_BROWSERS.decrementAndGet();
+    }
+
+    /**
+     * Records that a screenshot has been queued to be rendered and encoded.
+     */
+    public static void encodeQueued() {
+        QUEUED_ENCODES.incrementAndGet();
+    }
+
+    /**
+     * Records that a queued screenshot has been rendered and encoded (or has failed).
+     */
+    public static void encodeCompleted() {
+        QUEUED_ENCODES.decrementAndGet();
+    }
+
+    /**
+     * Formats all metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics
+     */
+    public static String toPrometheusText() {
+        final StringBuilder metrics = new StringBuilder();
+
+        appendHeader(metrics, TRACKERS_METRIC, "counter", "Number of executed trackers, by outcome");
+        for (final Map.Entry<OutcomeKey, LongAdder> trackerOutcome : TRACKER_OUTCOMES.entrySet()) {
+            final OutcomeKey outcomeKey = trackerOutcome.getKey();
+            appendSample(metrics, TRACKERS_METRIC, labels("tracker", outcomeKey.trackerName(), "outcome", outcomeKey.outcome()),
+                trackerOutcome.getValue().sum());
+        }
+
+        appendHeader(metrics, STEP_DURATION_METRIC, "histogram", "Duration of each step of a tracker, in seconds");
+        for (final Map.Entry<StepKey, Histogram> stepDuration : new ConcurrentSkipListMap<>(STEP_DURATIONS).entrySet()) {
+            final StepKey stepKey = stepDuration.getKey();
+            stepDuration.getValue().append(metrics, STEP_DURATION_METRIC, stepKey.trackerName(), stepKey.step().toString());
+        }
+
+        appendHeader(metrics, LIVE_BROWSERS_METRIC, "gauge", "Number of web browsers currently open");
+        appendSample(metrics, LIVE_BROWSERS_METRIC, "", LIVE_BROWSERS.get());
+
+        appendHeader(metrics, QUEUED_ENCODES_METRIC, "gauge", "Number of screenshots waiting to be rendered and encoded");
+        appendSample(metrics, QUEUED_ENCODES_METRIC, "", QUEUED_ENCODES.get());
+
+        return metrics.toString();
+    }
+
+    /**
+     * Saves all metrics in the Prometheus text exposition format. The file is written to a temporary file first and then moved, so a collector
+     * reading the file never sees it partially written.
+     *
+     * @param metricsFile the {@link Path} to the {@code .prom} file
+     * @return the {@link File} instance of the saved file
+     * @throws IOException thrown if an error occurs saving the file to the file system
+     */
+    public static File write(final Path metricsFile) throws IOException {
+        final Path absoluteMetricsFile = metricsFile.toAbsolutePath();
+        final Path temporaryFile = absoluteMetricsFile.resolveSibling(absoluteMetricsFile.getFileName() + ".tmp");
+        Files.writeString(temporaryFile, toPrometheusText(), StandardCharsets.UTF_8);
+        Files.move(temporaryFile, absoluteMetricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return absoluteMetricsFile.toFile();
+    }
+
+    private static void appendHeader(final StringBuilder metrics, final String name, final String type, final String help) {
+        metrics.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        metrics.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSample(final StringBuilder metrics, final String name, final String labels, final Number value) {
+        metrics.append(name);
+        if (!labels.isEmpty()) {
+            metrics.append('{').append(labels).append('}');
+        }
+        metrics.append(' ').append(value).append('\n');
+    }
+
+    private static String labels(final String... namesAndValues) {
+        final StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (!labels.isEmpty()) {
+                labels.append(',');
+            }
+            labels.append(namesAndValues[i]).append("=\"").append(escapeLabelValue(namesAndValues[i + 1])).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String escapeLabelValue(final String labelValue) {
+        return labelValue
+            .replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n");
+    }
+
+    private record OutcomeKey(String trackerName, String outcome) implements Comparable<OutcomeKey> {
+
+        @Override
+        public int compareTo(final OutcomeKey other) {
+            final int trackerComparison = trackerName.compareTo(other.trackerName);
+            return trackerComparison == 0 ? outcome.compareTo(other.outcome) : trackerComparison;
+        }
+    }
+
+    private record StepKey(String trackerName, Step step) implements Comparable<StepKey> {
+
+        @Override
+        public int compareTo(final StepKey other) {
+            final int trackerComparison = trackerName.compareTo(other.trackerName);
+            return trackerComparison == 0 ? step.compareTo(other.step) : trackerComparison;
+        }
+    }
+
+    private static final class Histogram {
+
+        private final long[] bucketCounts = new long[STEP_DURATION_BUCKETS.length];
+        private long count;
+        private double sum;
+
+        synchronized void observe(final double seconds) {
+            for (int i = 0; i < STEP_DURATION_BUCKETS.length; i++) {
+                if (seconds <= STEP_DURATION_BUCKETS[i]) {
+                    bucketCounts[i]++;
+                }
+            }
+            count++;
+            sum += seconds;
+        }
+
+        synchronized void append(final StringBuilder metrics, final String name, final String trackerName, final String step) {
+            for (int i = 0; i < STEP_DURATION_BUCKETS.length; i++) {
+                final String bucketLabels = labels("tracker", trackerName, "step", step, "le", String.valueOf(STEP_DURATION_BUCKETS[i]));
+                appendSample(metrics, name + "_bucket", bucketLabels, bucketCounts[i]);
+            }
+            appendSample(metrics, name + "_bucket", labels("tracker", trackerName, "step", step, "le", "+Inf"), count);
+            appendSample(metrics, name + "_sum", labels("tracker", trackerName, "step", step), sum);
+            appendSample(metrics, name + "_count", labels("tracker", trackerName, "step", step), count);
+        }
+    }
+}
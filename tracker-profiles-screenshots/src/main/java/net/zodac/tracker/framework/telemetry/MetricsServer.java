@@ -0,0 +1,95 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A small embedded HTTP server, exposing the {@link Metrics} in the Prometheus text exposition format on {@value #METRICS_PATH}.
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String METRICS_PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+
+    private MetricsServer(final HttpServer httpServer, final ExecutorService executorService) {
+        this.httpServer = httpServer;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Starts a {@link MetricsServer} listening on all interfaces. The server uses a single daemon thread, so it does not prevent the application
+     * from exiting.
+     *
+     * @param port the port to listen on
+     * @return the started {@link MetricsServer}
+     * @throws IOException thrown if the server cannot be bound to the port
+     */
+    public static MetricsServer start(final int port) throws IOException {
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("metrics-server").daemon().factory());
+        httpServer.setExecutor(executorService);
+        httpServer.createContext(METRICS_PATH, MetricsServer::handle);
+        httpServer.start();
+
+        LOGGER.debug("Metrics available at: [http://localhost:{}{}]", httpServer.getAddress().getPort(), METRICS_PATH);
+        return new MetricsServer(httpServer, executorService);
+    }
+
+    private static void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(HTTP_METHOD_NOT_ALLOWED, -1L);
+                return;
+            }
+
+            final byte[] response = Metrics.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(HTTP_OK, -1L);
+                return;
+            }
+
+            exchange.sendResponseHeaders(HTTP_OK, response.length);
+            try (final OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.List;
+
+/**
+ * The browser-side timings of a web page, taken from the Navigation Timing and Resource Timing APIs. Any query string or fragment is removed from
+ * the URLs, in case they contain sensitive information.
+ *
+ * @param page                   the URL of the web page
+ * @param ttfbMillis             the time from the start of the navigation until the first byte of the response was received
+ * @param domContentLoadedMillis the time from the start of the navigation until the {@code DOMContentLoaded} event completed, or {@code -1} if
+ *                               it has not completed
+ * @param loadMillis             the time from the start of the navigation until the {@code load} event completed, or {@code -1} if it has not
+ *                               completed
+ * @param resourceCount          the number of resources loaded by the web page
+ * @param transferredBytes       the total number of bytes transferred for the web page and its resources
+ * @param heaviestResources      the largest resources loaded by the web page, ordered by size
+ */
+public record NavigationTiming(String page, double ttfbMillis, double domContentLoadedMillis, double loadMillis, int resourceCount,
+                               long transferredBytes, List<ResourceTiming> heaviestResources) {
+
+    /**
+     * Converts the {@link NavigationTiming} into a {@link JsonObject}.
+     *
+     * @return the {@link JsonObject}
+     */
+    public JsonObject toJson() {
+        final JsonArray resources = new JsonArray();
+        for (final ResourceTiming heaviestResource : heaviestResources) {
+            resources.add(heaviestResource.toJson());
+        }
+
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("page", page);
+        jsonObject.addProperty("ttfbMillis", ttfbMillis);
+        jsonObject.addProperty("domContentLoadedMillis", domContentLoadedMillis);
+        jsonObject.addProperty("loadMillis", loadMillis);
+        jsonObject.addProperty("resourceCount", resourceCount);
+        jsonObject.addProperty("transferredBytes", transferredBytes);
+        jsonObject.add("heaviestResources", resources);
+        return jsonObject;
+    }
+
+    /**
+     * The timing of a single resource loaded by a web page.
+     *
+     * @param url            the URL of the resource
+     * @param initiatorType  the type of element that loaded the resource (like {@code img} or {@code script})
+     * @param transferSize   the number of bytes transferred for the resource (or its encoded size, if it was cached or cross-origin)
+     * @param durationMillis the time taken to load the resource
+     */
+    public record ResourceTiming(String url, String initiatorType, long transferSize, double durationMillis) {
+
+        /**
+         * Converts the {@link ResourceTiming} into a {@link JsonObject}.
+         *
+         * @return the {@link JsonObject}
+         */
+        public JsonObject toJson() {
+            final JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("url", url);
+            jsonObject.addProperty("initiatorType", initiatorType);
+            jsonObject.addProperty("transferSize", transferSize);
+            jsonObject.addProperty("durationMillis", durationMillis);
+            return jsonObject;
+        }
+    }
+}
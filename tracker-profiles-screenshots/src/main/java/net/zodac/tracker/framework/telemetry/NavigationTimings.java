@@ -0,0 +1,76 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Utility class used to record the {@link NavigationTiming} of each web page loaded for each tracker, so they can be saved with the timings of
+ * the run by {@link TimelineReportWriter}.
+ */
+public final class NavigationTimings {
+
+    private static final Map<String, List<StepNavigationTiming>> TIMINGS_BY_TRACKER = new ConcurrentHashMap<>();
+
+    private NavigationTimings() {
+
+    }
+
+    /**
+     * Records the {@link NavigationTiming} of a web page loaded during a {@link Step} for a tracker.
+     *
+     * @param trackerName      the name of the tracker
+     * @param step             the {@link Step} that loaded the web page
+     * @param navigationTiming the {@link NavigationTiming}
+     */
+    public static void record(final String trackerName, final Step step, final NavigationTiming navigationTiming) {
+        TIMINGS_BY_TRACKER.computeIfAbsent(trackerName, name -> new CopyOnWriteArrayList<>()).add(new StepNavigationTiming(step, navigationTiming));
+    }
+
+    /**
+     * Retrieves all recorded {@link NavigationTiming}s for a tracker, in the order they were recorded.
+     *
+     * @param trackerName the name of the tracker
+     * @return the {@link NavigationTiming}s as a {@link JsonArray}, which is empty if none were recorded
+     */
+    public static JsonArray forTracker(final String trackerName) {
+        final JsonArray jsonArray = new JsonArray();
+        for (final StepNavigationTiming stepNavigationTiming : TIMINGS_BY_TRACKER.getOrDefault(trackerName, List.of())) {
+            final JsonObject jsonObject = stepNavigationTiming.navigationTiming().toJson();
+            jsonObject.addProperty("step", stepNavigationTiming.step().toString());
+            jsonArray.add(jsonObject);
+        }
+        return jsonArray;
+    }
+
+    /**
+     * Removes all recorded {@link NavigationTiming}s, so a new run can be recorded by a long-running application.
+     */
+    public static void reset() {
+        TIMINGS_BY_TRACKER.clear();
+    }
+
+    private record StepNavigationTiming(Step step, NavigationTiming navigationTiming) {
+
+    }
+}
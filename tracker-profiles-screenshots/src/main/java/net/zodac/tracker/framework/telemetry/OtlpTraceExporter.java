@@ -0,0 +1,313 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility class used to export the run as OpenTelemetry traces, in the OTLP-JSON format. Each run is a single trace, with the hierarchy:
+ * <pre>
+ * run
+ * └── tracker ({@link Step#TRACKER})
+ *     └── step (all other {@link Step}s)
+ *         └── WebDriver command (if recorded by the {@link CommandProfiler})
+ * </pre>
+ *
+ * <p>
+ * Only the names and attributes recorded by {@link StepTimer} and {@link CommandProfiler} are exported. Neither records the arguments of any
+ * WebDriver command, so the tracker credentials are never included in the traces.
+ */
+public final class OtlpTraceExporter {
+
+    /**
+     * The attribute for the outcome of the {@link Step#TRACKER} span.
+     */
+    public static final String ATTRIBUTE_OUTCOME = "tracker.outcome";
+
+    /**
+     * The attribute for the type of the tracker, on the {@link Step#TRACKER} span.
+     */
+    public static final String ATTRIBUTE_TRACKER_TYPE = "tracker.type";
+
+    /**
+     * The attribute for the URL used to connect to the tracker, on the {@link Step#OPEN} span.
+     */
+    public static final String ATTRIBUTE_TRACKER_URL = "tracker.url";
+
+    /**
+     * The value of {@link #ATTRIBUTE_OUTCOME} for a tracker that was successfully screenshot.
+     */
+    public static final String OUTCOME_SUCCESS = "success";
+
+    private static final String TRACES_FILE_NAME = "traces.otlp.json";
+    private static final String OTLP_TRACES_PATH = "/v1/traces";
+    private static final String SERVICE_NAME = "tracker-profiles-screenshots";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10L);
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_CODE_OK = 1;
+    private static final int STATUS_CODE_ERROR = 2;
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1L).toNanos();
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Gson GSON = new Gson();
+
+    private OtlpTraceExporter() {
+
+    }
+
+    /**
+     * Creates the OTLP-JSON traces for all {@link StepSpan}s recorded by {@link StepTimer}, and any WebDriver commands recorded by
+     * {@link CommandProfiler}.
+     *
+     * @return the OTLP-JSON {@code ExportTraceServiceRequest}
+     */
+    public static JsonObject createTraces() {
+        final String traceId = randomId(16);
+        final long runEndNanos = StepTimer.elapsedNanos();
+        final String runSpanId = randomId(8);
+
+        final JsonArray spans = new JsonArray();
+        spans.add(createSpan(traceId, runSpanId, null, "run", 0L, runEndNanos, SPAN_KIND_INTERNAL, Map.of(), true));
+
+        final Map<String, List<StepSpan>> spansByTracker = new LinkedHashMap<>();
+        for (final StepSpan stepSpan : StepTimer.completedSpans()) {
+            spansByTracker.computeIfAbsent(stepSpan.trackerName(), trackerName -> new ArrayList<>()).add(stepSpan);
+        }
+
+        for (final Map.Entry<String, List<StepSpan>> trackerSpans : spansByTracker.entrySet()) {
+            addTrackerSpans(spans, traceId, runSpanId, trackerSpans.getKey(), trackerSpans.getValue());
+        }
+
+        final JsonObject scope = new JsonObject();
+        scope.addProperty("name", StepTimer.class.getPackageName());
+
+        final JsonObject scopeSpans = new JsonObject();
+        scopeSpans.add("scope", scope);
+        scopeSpans.add("spans", spans);
+
+        final JsonObject resource = new JsonObject();
+        resource.add("attributes", toAttributes(Map.of("service.name", SERVICE_NAME)));
+
+        final JsonObject resourceSpans = new JsonObject();
+        resourceSpans.add("resource", resource);
+        resourceSpans.add("scopeSpans", toArray(scopeSpans));
+
+        final JsonObject traces = new JsonObject();
+        traces.add("resourceSpans", toArray(resourceSpans));
+        return traces;
+    }
+
+    /**
+     * Saves the OTLP-JSON traces as a {@value #TRACES_FILE_NAME} file.
+     *
+     * @param traces          the OTLP-JSON traces
+     * @param outputDirectory the {@link Path} to the directory to save the file in
+     * @return the {@link File} instance of the saved {@value #TRACES_FILE_NAME} file
+     * @throws IOException thrown if an error occurs saving the file to the file system
+     * @see #createTraces()
+     */
+    public static File write(final JsonObject traces, final Path outputDirectory) throws IOException {
+        final Path tracesFile = outputDirectory.toAbsolutePath().resolve(TRACES_FILE_NAME);
+        Files.writeString(tracesFile, GSON.toJson(traces), StandardCharsets.UTF_8);
+        return tracesFile.toFile();
+    }
+
+    /**
+     * Sends the OTLP-JSON traces to an OTLP HTTP collector, at {@code <endpoint>}{@value #OTLP_TRACES_PATH}.
+     *
+     * @param traces   the OTLP-JSON traces
+     * @param endpoint the base URL of the OTLP HTTP collector (like {@code http://localhost:4318})
+     * @throws IOException thrown if the traces cannot be sent, or the collector does not accept them
+     * @see #createTraces()
+     */
+    public static void send(final JsonObject traces, final String endpoint) throws IOException {
+        final URI tracesUri;
+        try {
+            tracesUri = new URI(endpoint.replaceAll("/+$", "") + OTLP_TRACES_PATH);
+        } catch (final URISyntaxException e) {
+            throw new IOException(String.format("Invalid OTLP endpoint: '%s'", endpoint), e);
+        }
+
+        final HttpRequest request = HttpRequest.newBuilder(tracesUri)
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(GSON.toJson(traces), StandardCharsets.UTF_8))
+            .build();
+
+        try (final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build()) {
+            final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException(String.format("OTLP collector at '%s' responded with HTTP %d: %s", tracesUri, response.statusCode(),
+                    response.body()));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(String.format("Interrupted sending traces to '%s'", tracesUri), e);
+        }
+    }
+
+    private static void addTrackerSpans(final JsonArray spans, final String traceId, final String runSpanId, final String trackerName,
+                                        final List<StepSpan> stepSpans) {
+        final StepSpan trackerSpan = stepSpans.stream().filter(stepSpan -> stepSpan.step() == Step.TRACKER).findFirst().orElse(null);
+        final String trackerSpanId = trackerSpan == null ? runSpanId : randomId(8);
+        if (trackerSpan != null) {
+            final Map<String, String> attributes = new LinkedHashMap<>(trackerSpan.attributes());
+            attributes.put("tracker.name", trackerName);
+            stepSpans.stream()
+                .filter(stepSpan -> stepSpan.step() == Step.OPEN && stepSpan.attributes().containsKey(ATTRIBUTE_TRACKER_URL))
+                .findFirst()
+                .ifPresent(openSpan -> attributes.put(ATTRIBUTE_TRACKER_URL, openSpan.attributes().get(ATTRIBUTE_TRACKER_URL)));
+
+            final boolean successful = OUTCOME_SUCCESS.equals(attributes.get(ATTRIBUTE_OUTCOME));
+            spans.add(createSpan(traceId, trackerSpanId, runSpanId, trackerName, trackerSpan.startNanos(), trackerSpan.endNanos(),
+                SPAN_KIND_INTERNAL, sanitiseAttributes(attributes), successful));
+        }
+
+        // Steps are ordered by their start time, so a step that started within another (like an encode within a capture) is its child
+        final List<StepSpan> timedSteps = new ArrayList<>();
+        final List<String> timedStepIds = new ArrayList<>();
+        for (final StepSpan stepSpan : stepSpans) {
+            if (stepSpan.step() == Step.TRACKER) {
+                continue;
+            }
+
+            final String stepSpanId = randomId(8);
+            final String parentSpanId = findEnclosingSpanId(timedSteps, timedStepIds, stepSpan.startNanos(), stepSpan.threadName())
+                .orElse(trackerSpanId);
+            spans.add(createSpan(traceId, stepSpanId, parentSpanId, stepSpan.step().toString(), stepSpan.startNanos(), stepSpan.endNanos(),
+                SPAN_KIND_INTERNAL, sanitiseAttributes(stepSpan.attributes()), true));
+            timedSteps.add(stepSpan);
+            timedStepIds.add(stepSpanId);
+        }
+
+        final Optional<TrackerCommandProfile> trackerCommandProfile = CommandProfiler.find(trackerName);
+        if (trackerCommandProfile.isEmpty()) {
+            return;
+        }
+
+        for (final TrackerCommandProfile.RecordedCommand command : trackerCommandProfile.get().recordedCommands()) {
+            final String parentSpanId = findEnclosingSpanId(timedSteps, timedStepIds, command.startNanos(), null).orElse(trackerSpanId);
+            spans.add(createSpan(traceId, randomId(8), parentSpanId, command.commandName(), command.startNanos(),
+                command.startNanos() + command.durationNanos(), SPAN_KIND_CLIENT, Map.of("webdriver.command", command.commandName()),
+                command.successful()));
+        }
+    }
+
+    // Finds the innermost (latest starting) step that encloses the start time, optionally limited to steps on the same thread
+    private static Optional<String> findEnclosingSpanId(final List<StepSpan> timedSteps, final List<String> timedStepIds, final long startNanos,
+                                                        final @Nullable String threadName) {
+        for (int i = timedSteps.size() - 1; i >= 0; i--) {
+            final StepSpan timedStep = timedSteps.get(i);
+            final boolean sameThread = threadName == null || threadName.equals(timedStep.threadName());
+            if (sameThread && timedStep.startNanos() <= startNanos && startNanos < timedStep.endNanos()) {
+                return Optional.of(timedStepIds.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, String> sanitiseAttributes(final Map<String, String> attributes) {
+        final Map<String, String> sanitisedAttributes = new LinkedHashMap<>(attributes);
+        sanitisedAttributes.computeIfPresent(ATTRIBUTE_TRACKER_URL, (name, url) -> sanitiseUrl(url));
+        return sanitisedAttributes;
+    }
+
+    // Removes any user information, query or fragment from the URL, in case it contains credentials or tokens
+    private static String sanitiseUrl(final String url) {
+        try {
+            final URI uri = new URI(url);
+            return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), uri.getPath(), null, null).toString();
+        } catch (final URISyntaxException e) {
+            return "";
+        }
+    }
+
+    private static JsonObject createSpan(final String traceId, final String spanId, final @Nullable String parentSpanId, final String name,
+                                         final long startNanos, final long endNanos, final int kind, final Map<String, String> attributes,
+                                         final boolean successful) {
+        final JsonObject status = new JsonObject();
+        status.addProperty("code", successful ? STATUS_CODE_OK : STATUS_CODE_ERROR);
+
+        final JsonObject span = new JsonObject();
+        span.addProperty("traceId", traceId);
+        span.addProperty("spanId", spanId);
+        if (parentSpanId != null) {
+            span.addProperty("parentSpanId", parentSpanId);
+        }
+        span.addProperty("name", name);
+        span.addProperty("kind", kind);
+        span.addProperty("startTimeUnixNano", String.valueOf(toEpochNanos(startNanos)));
+        span.addProperty("endTimeUnixNano", String.valueOf(toEpochNanos(endNanos)));
+        span.add("attributes", toAttributes(attributes));
+        span.add("status", status);
+        return span;
+    }
+
+    private static JsonArray toAttributes(final Map<String, String> attributes) {
+        final JsonArray jsonAttributes = new JsonArray();
+        for (final Map.Entry<String, String> attribute : attributes.entrySet()) {
+            final JsonObject value = new JsonObject();
+            value.addProperty("stringValue", attribute.getValue());
+
+            final JsonObject jsonAttribute = new JsonObject();
+            jsonAttribute.addProperty("key", attribute.getKey());
+            jsonAttribute.add("value", value);
+            jsonAttributes.add(jsonAttribute);
+        }
+        return jsonAttributes;
+    }
+
+    private static JsonArray toArray(final JsonObject jsonObject) {
+        final JsonArray jsonArray = new JsonArray();
+        jsonArray.add(jsonObject);
+        return jsonArray;
+    }
+
+    private static long toEpochNanos(final long elapsedNanos) {
+        final Instant runStartedAt = StepTimer.runStartedAt();
+        return (runStartedAt.getEpochSecond() * NANOS_PER_SECOND) + runStartedAt.getNano() + elapsedNanos;
+    }
+
+    private static String randomId(final int numberOfBytes) {
+        final byte[] id = new byte[numberOfBytes];
+        RANDOM.nextBytes(id);
+        return HexFormat.of().formatHex(id);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enum defining each timed step when taking a screenshot of a tracker's profile page.
+ */
+public enum Step {
+
+    /**
+     * The entire execution for a tracker, from opening the web browser until it is closed. All other {@link Step}s for the tracker are timed
+     * within this {@link Step}.
+     */
+    TRACKER,
+
+    /**
+     * Opening the tracker and navigating to the login page.
+     */
+    OPEN,
+
+    /**
+     * Logging in to the tracker.
+     */
+    LOGIN,
+
+    /**
+     * Clearing any banner on the tracker.
+     */
+    BANNER,
+
+    /**
+     * Opening the user profile page, and extracting any statistics.
+     */
+    PROFILE,
+
+    /**
+     * Redacting sensitive information from the profile page.
+     */
+    REDACT,
+
+    /**
+     * Translating the profile page to English.
+     */
+    TRANSLATE,
+
+    /**
+     * Capturing the profile page from the web browser.
+     */
+    CAPTURE,
+
+    /**
+     * Encoding a captured image and saving it to the file system. This is timed within the {@link #CAPTURE} step.
+     */
+    ENCODE,
+
+    /**
+     * Logging out of the tracker.
+     */
+    LOGOUT,
+
+    /**
+     * Rendering a DOM snapshot into a screenshot, in the background.
+     */
+    RENDER;
+
+    /**
+     * All available {@link Step}s.
+     *
+     * <p>
+     * Should be used instead of {@link Step#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<Step> ALL_VALUES = List.of(values());
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.getDefault());
+    }
+}
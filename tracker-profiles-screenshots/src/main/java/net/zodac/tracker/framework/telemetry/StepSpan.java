@@ -0,0 +1,61 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.JsonObject;
+import java.util.Map;
+
+/**
+ * A completed {@link Step} for a tracker, timed by {@link StepTimer}.
+ *
+ * @param trackerName the name of the tracker
+ * @param step        the {@link Step}
+ * @param threadName  the name of the thread that executed the {@link Step}
+ * @param startNanos  the start of the {@link Step}, in nanoseconds since the start of the run
+ * @param endNanos    the end of the {@link Step}, in nanoseconds since the start of the run
+ * @param attributes  any additional attributes describing the {@link Step} (like the URL used or the outcome)
+ */
+public record StepSpan(String trackerName, Step step, String threadName, long startNanos, long endNanos, Map<String, String> attributes) {
+
+    /**
+     * The duration of the {@link Step}.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * Converts the {@link StepSpan} into a {@link JsonObject}.
+     *
+     * @return the {@link JsonObject}
+     */
+    public JsonObject toJson() {
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("tracker", trackerName);
+        jsonObject.addProperty("step", step.toString());
+        jsonObject.addProperty("thread", threadName);
+        jsonObject.addProperty("startNanos", startNanos);
+        jsonObject.addProperty("durationNanos", durationNanos());
+        for (final Map.Entry<String, String> attribute : attributes.entrySet()) {
+            jsonObject.addProperty(attribute.getKey(), attribute.getValue());
+        }
+        return jsonObject;
+    }
+}
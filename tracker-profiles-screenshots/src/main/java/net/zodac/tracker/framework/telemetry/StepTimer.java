@@ -0,0 +1,141 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Utility class used to time each {@link Step} of the execution for each tracker. Spans can be recorded from any thread, so trackers (or
+ * background renders) executing in parallel are timed correctly.
+ *
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.LOGIN)) {
+ *     trackerHandler.login(username, password, trackerName);
+ * }
+ * }</pre>
+ */
+public final class StepTimer {
+
+    private static final Queue<StepSpan> COMPLETED_SPANS = new ConcurrentLinkedQueue<>();
+
+    private static volatile Instant runStartedAt = Instant.now();
+    private static volatile long runStartNanos = System.nanoTime();
+
+    private StepTimer() {
+
+    }
+
+    /**
+     * Starts timing a {@link Step} for a tracker. The {@link Step} is recorded once the returned {@link ActiveStep} is closed, even if the
+     * {@link Step} fails with an exception.
+     *
+     * @param trackerName the name of the tracker
+     * @param step        the {@link Step} to time
+     * @return the {@link ActiveStep}
+     */
+    public static ActiveStep start(final String trackerName, final Step step) {
+        return new ActiveStep(trackerName, step, Thread.currentThread().getName(), elapsedNanos());
+    }
+
+    /**
+     * Retrieves all completed {@link StepSpan}s, ordered by their start time.
+     *
+     * @return the completed {@link StepSpan}s
+     */
+    public static List<StepSpan> completedSpans() {
+        final List<StepSpan> completedSpans = new ArrayList<>(COMPLETED_SPANS);
+        completedSpans.sort(Comparator.comparingLong(StepSpan::startNanos));
+        return completedSpans;
+    }
+
+    /**
+     * The {@link Instant} the run was started.
+     *
+     * @return the start {@link Instant}
+     */
+    public static Instant runStartedAt() {
+        return runStartedAt;
+    }
+
+    /**
+     * The time elapsed since the run was started.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public static long elapsedNanos() {
+        return System.nanoTime() - runStartNanos;
+    }
+
+    /**
+     * Removes all completed {@link StepSpan}s and restarts the run timer, so a new run can be timed by a long-running application.
+     */
+    public static void reset() {
+        COMPLETED_SPANS.clear();
+        runStartedAt = Instant.now();
+        runStartNanos = System.nanoTime();
+    }
+
+    /**
+     * A {@link Step} that is currently being timed.
+     */
+    public static final class ActiveStep implements AutoCloseable {
+
+        private final String trackerName;
+        private final Step step;
+        private final String threadName;
+        private final long startNanos;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+
+        private ActiveStep(final String trackerName, final Step step, final String threadName, final long startNanos) {
+            this.trackerName = trackerName;
+            this.step = step;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Adds an attribute describing the {@link Step}, which is included in the recorded {@link StepSpan}. This must never be used for sensitive
+         * information, like the tracker credentials.
+         *
+         * @param name  the name of the attribute
+         * @param value the value of the attribute
+         */
+        public void addAttribute(final String name, final String value) {
+            attributes.put(name, value);
+        }
+
+        /**
+         * Stops timing the {@link Step}, and records the {@link StepSpan} (including in the {@link Metrics}).
+         */
+        @Override
+        public void close() {
+            final StepSpan stepSpan = new StepSpan(trackerName, step, threadName, startNanos, elapsedNanos(), Map.copyOf(attributes));
+            COMPLETED_SPANS.add(stepSpan);
+            Metrics.recordStep(stepSpan);
+        }
+    }
+}
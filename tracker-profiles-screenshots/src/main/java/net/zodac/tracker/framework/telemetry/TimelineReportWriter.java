@@ -0,0 +1,196 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Utility class used to write the {@link StepSpan}s recorded by {@link StepTimer} for the run, as:
+ * <ol>
+ *     <li>A machine-readable {@value #TIMINGS_FILE_NAME} file, with each {@link StepSpan}, the total time of each {@link Step} per tracker, any
+ *     {@link NavigationTiming}s recorded by {@link NavigationTimings} and the web browser usage recorded by {@link BrowserResourceSampler}</li>
+ *     <li>A Gantt-style {@value #TIMELINE_FILE_NAME} file, with a row for each tracker</li>
+ * </ol>
+ */
+public final class TimelineReportWriter {
+
+    private static final String TIMINGS_FILE_NAME = "timings.json";
+    private static final String TIMELINE_FILE_NAME = "timeline.html";
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final long NANOS_PER_MILLI = Duration.ofMillis(1L).toNanos();
+    private static final Map<Step, String> STEP_COLOURS = createStepColours();
+    private static final String BAR_FORMAT = "<div class=\"bar%s\" style=\"left: %.3f%%; width: %.3f%%; background: %s;\" title=\"%s: %s (%s)\">"
+        + "</div>";
+
+    private TimelineReportWriter() {
+
+    }
+
+    /**
+     * Writes the {@value #TIMINGS_FILE_NAME} and {@value #TIMELINE_FILE_NAME} files for all completed {@link StepSpan}s.
+     *
+     * @param outputDirectory the {@link Path} to the directory to save the files in
+     * @return the {@link File} instance of the saved {@value #TIMELINE_FILE_NAME} file
+     * @throws IOException thrown if an error occurs saving the files to the file system
+     */
+    public static File write(final Path outputDirectory) throws IOException {
+        final List<StepSpan> spans = StepTimer.completedSpans();
+        final long runDurationNanos = StepTimer.elapsedNanos();
+        final Map<String, List<StepSpan>> spansByTracker = groupByTracker(spans);
+
+        final Path timingsFile = outputDirectory.toAbsolutePath().resolve(TIMINGS_FILE_NAME);
+        Files.writeString(timingsFile, PRETTY_GSON.toJson(toJson(spansByTracker, runDurationNanos)), StandardCharsets.UTF_8);
+
+        final Path timelineFile = outputDirectory.toAbsolutePath().resolve(TIMELINE_FILE_NAME);
+        Files.writeString(timelineFile, toHtml(spansByTracker, runDurationNanos), StandardCharsets.UTF_8);
+        return timelineFile.toFile();
+    }
+
+    private static Map<String, List<StepSpan>> groupByTracker(final List<StepSpan> spans) {
+        final Map<String, List<StepSpan>> spansByTracker = new LinkedHashMap<>();
+        for (final StepSpan span : spans) {
+            spansByTracker.computeIfAbsent(span.trackerName(), trackerName -> new ArrayList<>()).add(span);
+        }
+        return spansByTracker;
+    }
+
+    private static JsonObject toJson(final Map<String, List<StepSpan>> spansByTracker, final long runDurationNanos) {
+        final JsonObject trackers = new JsonObject();
+        final JsonArray allSpans = new JsonArray();
+        for (final Map.Entry<String, List<StepSpan>> trackerSpans : spansByTracker.entrySet()) {
+            final Map<Step, Long> totalNanosByStep = new EnumMap<>(Step.class);
+            long firstStartNanos = Long.MAX_VALUE;
+            long lastEndNanos = 0L;
+            for (final StepSpan span : trackerSpans.getValue()) {
+                totalNanosByStep.merge(span.step(), span.durationNanos(), Long::sum);
+                firstStartNanos = Math.min(firstStartNanos, span.startNanos());
+                lastEndNanos = Math.max(lastEndNanos, span.endNanos());
+                allSpans.add(span.toJson());
+            }
+
+            final JsonObject steps = new JsonObject();
+            for (final Map.Entry<Step, Long> totalNanos : totalNanosByStep.entrySet()) {
+                steps.addProperty(totalNanos.getKey().toString(), totalNanos.getValue());
+            }
+
+            final JsonObject tracker = new JsonObject();
+            tracker.addProperty("elapsedNanos", lastEndNanos - firstStartNanos);
+            tracker.add("stepTotalNanos", steps);
+            final JsonArray navigationTimings = NavigationTimings.forTracker(trackerSpans.getKey());
+            if (!navigationTimings.isEmpty()) {
+                tracker.add("navigationTimings", navigationTimings);
+            }
+            BrowserResourceSampler.find(trackerSpans.getKey()).ifPresent(usage -> tracker.add("browserResources", usage.toJson()));
+            trackers.add(trackerSpans.getKey(), tracker);
+        }
+
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("runStartedAt", StepTimer.runStartedAt().toString());
+        jsonObject.addProperty("runDurationNanos", runDurationNanos);
+        jsonObject.add("trackers", trackers);
+        jsonObject.add("spans", allSpans);
+        return jsonObject;
+    }
+
+    private static String toHtml(final Map<String, List<StepSpan>> spansByTracker, final long runDurationNanos) {
+        final StringBuilder rows = new StringBuilder();
+        for (final Map.Entry<String, List<StepSpan>> trackerSpans : spansByTracker.entrySet()) {
+            rows.append("<div class=\"row\"><div class=\"label\">").append(escapeHtml(trackerSpans.getKey())).append("</div><div class=\"track\">");
+            for (final StepSpan span : trackerSpans.getValue()) {
+                final double left = 100.0D * span.startNanos() / Math.max(1L, runDurationNanos);
+                final double width = Math.max(0.1D, 100.0D * span.durationNanos() / Math.max(1L, runDurationNanos));
+                final String nested = span.step() == Step.ENCODE ? " nested" : "";
+                rows.append(String.format(Locale.ROOT, BAR_FORMAT, nested, left, width, STEP_COLOURS.get(span.step()), span.step(),
+                    formatMillis(span.durationNanos()), escapeHtml(span.threadName())));
+            }
+            rows.append("</div></div>\n");
+        }
+
+        final StringBuilder legend = new StringBuilder();
+        for (final Step step : Step.ALL_VALUES) {
+            legend.append(String.format("<span><i style=\"background: %s;\"></i>%s</span>", STEP_COLOURS.get(step), step));
+        }
+
+        return String.format("""
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+            <meta charset="UTF-8">
+            <title>Tracker Profiles Timeline</title>
+            <style>
+                body { font-family: sans-serif; margin: 20px; }
+                .legend span { margin-right: 12px; } .legend i { display: inline-block; width: 12px; height: 12px; margin-right: 4px; }
+                .row { display: flex; align-items: center; height: 24px; border-bottom: 1px solid #EEEEEE; }
+                .label { width: 200px; flex-shrink: 0; overflow: hidden; white-space: nowrap; text-overflow: ellipsis; }
+                .track { position: relative; flex-grow: 1; height: 18px; }
+                .bar { position: absolute; top: 0; height: 18px; }
+                .bar.nested { top: 5px; height: 8px; outline: 1px solid #FFFFFF; }
+            </style>
+            </head>
+            <body>
+            <h2>Run started at %s, total duration %s</h2>
+            <div class="legend">%s</div>
+            <br>
+            %s</body>
+            </html>
+            """, StepTimer.runStartedAt(), formatMillis(runDurationNanos), legend, rows);
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%,dms", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String escapeHtml(final String input) {
+        return input
+            .replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+
+    private static Map<Step, String> createStepColours() {
+        final Map<Step, String> stepColours = new EnumMap<>(Step.class);
+        stepColours.put(Step.TRACKER, "#E0E0E0");
+        stepColours.put(Step.OPEN, "#4E79A7");
+        stepColours.put(Step.LOGIN, "#F28E2B");
+        stepColours.put(Step.BANNER, "#BAB0AC");
+        stepColours.put(Step.PROFILE, "#59A14F");
+        stepColours.put(Step.REDACT, "#E15759");
+        stepColours.put(Step.TRANSLATE, "#76B7B2");
+        stepColours.put(Step.CAPTURE, "#EDC948");
+        stepColours.put(Step.ENCODE, "#B07AA1");
+        stepColours.put(Step.LOGOUT, "#9C755F");
+        stepColours.put(Step.RENDER, "#FF9DA7");
+        return stepColours;
+    }
+}
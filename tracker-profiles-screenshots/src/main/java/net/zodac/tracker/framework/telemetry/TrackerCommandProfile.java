@@ -0,0 +1,200 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The WebDriver commands issued for a single tracker, recorded by {@link CommandProfilingListener}. Each command is a round trip to the web
+ * browser. Commands are recorded by name, with a count, total latency and a latency histogram for each, along with the slowest individual commands.
+ */
+public final class TrackerCommandProfile {
+
+    private static final int MAXIMUM_RECORDED_COMMANDS = 10_000;
+    private static final int NUMBER_OF_SLOWEST_COMMANDS = 10;
+    private static final long NANOS_PER_MILLI = Duration.ofMillis(1L).toNanos();
+    private static final long[] HISTOGRAM_UPPER_BOUNDS_MILLIS = {1L, 2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, Long.MAX_VALUE};
+
+    private final Map<String, CommandStatistics> statisticsByCommand = new TreeMap<>();
+    private final List<SlowCommand> slowestCommands = new ArrayList<>();
+    private final List<RecordedCommand> recordedCommands = new ArrayList<>();
+    private long commandCount;
+
+    /**
+     * Records a completed WebDriver command.
+     *
+     * @param commandName   the name of the command
+     * @param durationNanos the latency of the command in nanoseconds
+     * @param startNanos    the start of the command, in nanoseconds since the start of the run
+     * @param successful    whether the command completed without an error
+     */
+    public synchronized void record(final String commandName, final long durationNanos, final long startNanos, final boolean successful) {
+        commandCount++;
+        if (recordedCommands.size() < MAXIMUM_RECORDED_COMMANDS) {
+            recordedCommands.add(new RecordedCommand(commandName, startNanos, durationNanos, successful));
+        }
+
+        statisticsByCommand.computeIfAbsent(commandName, name -> new CommandStatistics()).record(durationNanos);
+
+        slowestCommands.add(new SlowCommand(commandName, durationNanos, startNanos));
+        if (slowestCommands.size() > NUMBER_OF_SLOWEST_COMMANDS) {
+            slowestCommands.sort(Comparator.comparingLong(SlowCommand::durationNanos).reversed());
+            slowestCommands.removeLast();
+        }
+    }
+
+    /**
+     * The total number of WebDriver commands (or round trips) issued for the tracker.
+     *
+     * @return the number of commands
+     */
+    public synchronized long commandCount() {
+        return commandCount;
+    }
+
+    /**
+     * The number of WebDriver commands issued for the tracker, keyed by the name of the command.
+     *
+     * @return the number of each command
+     */
+    public synchronized Map<String, Long> countsByCommand() {
+        final Map<String, Long> countsByCommand = new TreeMap<>();
+        for (final Map.Entry<String, CommandStatistics> statistics : statisticsByCommand.entrySet()) {
+            countsByCommand.put(statistics.getKey(), statistics.getValue().count);
+        }
+        return countsByCommand;
+    }
+
+    /**
+     * Each WebDriver command issued for the tracker, in the order they were issued. Only the first {@value #MAXIMUM_RECORDED_COMMANDS} commands are
+     * retained.
+     *
+     * @return the {@link RecordedCommand}s
+     */
+    public synchronized List<RecordedCommand> recordedCommands() {
+        return List.copyOf(recordedCommands);
+    }
+
+    /**
+     * The slowest WebDriver commands issued for the tracker, ordered from slowest to fastest.
+     *
+     * @return the slowest {@link SlowCommand}s
+     */
+    public synchronized List<SlowCommand> slowestCommands() {
+        final List<SlowCommand> sortedCommands = new ArrayList<>(slowestCommands);
+        sortedCommands.sort(Comparator.comparingLong(SlowCommand::durationNanos).reversed());
+        return sortedCommands;
+    }
+
+    /**
+     * Converts the {@link TrackerCommandProfile} into a {@link JsonObject}.
+     *
+     * @return the {@link JsonObject}
+     */
+    public synchronized JsonObject toJson() {
+        final JsonObject commands = new JsonObject();
+        for (final Map.Entry<String, CommandStatistics> statistics : statisticsByCommand.entrySet()) {
+            commands.add(statistics.getKey(), statistics.getValue().toJson());
+        }
+
+        final JsonArray slowest = new JsonArray();
+        for (final SlowCommand slowCommand : slowestCommands()) {
+            final JsonObject slowCommandJson = new JsonObject();
+            slowCommandJson.addProperty("command", slowCommand.commandName());
+            slowCommandJson.addProperty("durationNanos", slowCommand.durationNanos());
+            slowCommandJson.addProperty("startNanos", slowCommand.startNanos());
+            slowest.add(slowCommandJson);
+        }
+
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("commandCount", commandCount);
+        jsonObject.add("commands", commands);
+        jsonObject.add("slowestCommands", slowest);
+        return jsonObject;
+    }
+
+    /**
+     * A single WebDriver command, recorded as one of the slowest commands for the tracker.
+     *
+     * @param commandName   the name of the command
+     * @param durationNanos the latency of the command in nanoseconds
+     * @param startNanos    the start of the command, in nanoseconds since the start of the run
+     */
+    public record SlowCommand(String commandName, long durationNanos, long startNanos) {
+
+    }
+
+    /**
+     * A single WebDriver command issued for the tracker.
+     *
+     * @param commandName   the name of the command
+     * @param startNanos    the start of the command, in nanoseconds since the start of the run
+     * @param durationNanos the latency of the command in nanoseconds
+     * @param successful    whether the command completed without an error
+     */
+    public record RecordedCommand(String commandName, long startNanos, long durationNanos, boolean successful) {
+
+    }
+
+    private static final class CommandStatistics {
+
+        private final long[] histogram = new long[HISTOGRAM_UPPER_BOUNDS_MILLIS.length];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void record(final long durationNanos) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+
+            final long durationMillis = durationNanos / NANOS_PER_MILLI;
+            for (int i = 0; i < HISTOGRAM_UPPER_BOUNDS_MILLIS.length; i++) {
+                if (durationMillis < HISTOGRAM_UPPER_BOUNDS_MILLIS[i]) {
+                    histogram[i]++;
+                    break;
+                }
+            }
+        }
+
+        private JsonObject toJson() {
+            final JsonObject latencyHistogram = new JsonObject();
+            for (int i = 0; i < HISTOGRAM_UPPER_BOUNDS_MILLIS.length; i++) {
+                final long upperBound = HISTOGRAM_UPPER_BOUNDS_MILLIS[i];
+                final String bucketName = upperBound == Long.MAX_VALUE
+                    ? String.format(">=%dms", HISTOGRAM_UPPER_BOUNDS_MILLIS[i - 1])
+                    : String.format("<%dms", upperBound);
+                latencyHistogram.addProperty(bucketName, histogram[i]);
+            }
+
+            final JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("count", count);
+            jsonObject.addProperty("totalNanos", totalNanos);
+            jsonObject.addProperty("maxNanos", maxNanos);
+            jsonObject.add("latencyHistogram", latencyHistogram);
+            return jsonObject;
+        }
+    }
+}
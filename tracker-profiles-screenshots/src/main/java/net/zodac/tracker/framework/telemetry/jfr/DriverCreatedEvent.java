@@ -0,0 +1,51 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder event emitted when a web browser has been created for a tracker, with the duration of the creation.
+ */
+@Name("net.zodac.tracker.DriverCreated")
+@Label("Driver Created")
+@Category({"Tracker Profiles", "Web Browser"})
+@Description("A web browser has been created for a tracker")
+@StackTrace(false)
+public final class DriverCreatedEvent extends Event {
+
+    /**
+     * The name of the tracker.
+     */
+    @Label("Tracker Name")
+    @Nullable
+    public String trackerName;
+
+    /**
+     * The type of the tracker.
+     */
+    @Label("Tracker Type")
+    @Nullable
+    public String trackerType;
+}
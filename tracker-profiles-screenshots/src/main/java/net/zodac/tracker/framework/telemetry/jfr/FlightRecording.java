@@ -0,0 +1,88 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Optional;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility class used to record the execution with the JDK Flight Recorder. The recording uses the JDK's {@code profile} settings, so the custom
+ * tracker events (like {@link TrackerStartEvent} or {@link ScreenshotEncodedEvent}) can be analysed in JDK Mission Control alongside the GC,
+ * allocation and thread data.
+ */
+public final class FlightRecording {
+
+    private static final String RECORDING_NAME = "tracker-profiles-screenshots";
+    private static final String RECORDING_FILE_NAME = "tracker-profiles.jfr";
+    private static final String RECORDING_SETTINGS = "profile";
+
+    @Nullable
+    private static Recording recording;
+
+    private FlightRecording() {
+
+    }
+
+    /**
+     * Starts a new JDK Flight Recorder recording. Does nothing if a recording has already been started.
+     *
+     * @throws IOException thrown if the recording settings cannot be read
+     */
+    public static synchronized void start() throws IOException {
+        if (recording != null) {
+            return;
+        }
+
+        try {
+            final Recording newRecording = new Recording(Configuration.getConfiguration(RECORDING_SETTINGS));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.start();
+            recording = newRecording;
+        } catch (final ParseException e) {
+            throw new IOException(String.format("Unable to parse JDK Flight Recorder settings '%s'", RECORDING_SETTINGS), e);
+        }
+    }
+
+    /**
+     * Stops the recording started by {@link #start()}, and saves it as a {@value #RECORDING_FILE_NAME} file.
+     *
+     * @param outputDirectory the {@link Path} to the directory to save the file in
+     * @return the {@link File} instance of the saved {@value #RECORDING_FILE_NAME} file, or {@link Optional#empty()} if no recording was started
+     * @throws IOException thrown if an error occurs saving the file to the file system
+     */
+    public static synchronized Optional<File> stopAndDump(final Path outputDirectory) throws IOException {
+        if (recording == null) {
+            return Optional.empty();
+        }
+
+        final Path recordingFile = outputDirectory.toAbsolutePath().resolve(RECORDING_FILE_NAME);
+        try (final Recording completedRecording = recording) {
+            completedRecording.stop();
+            completedRecording.dump(recordingFile);
+        } finally {
+            recording = null;
+        }
+        return Optional.of(recordingFile.toFile());
+    }
+}
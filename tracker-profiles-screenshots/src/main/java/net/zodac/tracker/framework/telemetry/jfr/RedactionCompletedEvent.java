@@ -0,0 +1,51 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder event emitted when the sensitive information on a tracker's profile page has been redacted, with the duration of the
+ * redaction.
+ */
+@Name("net.zodac.tracker.RedactionCompleted")
+@Label("Redaction Completed")
+@Category({"Tracker Profiles", "Tracker"})
+@Description("The sensitive information on a tracker's profile page has been redacted")
+@StackTrace(false)
+public final class RedactionCompletedEvent extends Event {
+
+    /**
+     * The name of the tracker handler.
+     */
+    @Label("Handler")
+    @Nullable
+    public String handler;
+
+    /**
+     * The number of elements that were redacted.
+     */
+    @Label("Redacted Elements")
+    public int redactedElements;
+}
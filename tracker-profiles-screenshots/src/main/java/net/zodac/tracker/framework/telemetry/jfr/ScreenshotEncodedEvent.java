@@ -0,0 +1,59 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.telemetry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder event emitted when a screenshot has been encoded and saved to the file system, with the duration of the encoding.
+ */
+@Name("net.zodac.tracker.ScreenshotEncoded")
+@Label("Screenshot Encoded")
+@Category({"Tracker Profiles", "Screenshot"})
+@Description("A screenshot has been encoded and saved to the file system")
+@StackTrace(false)
+public final class ScreenshotEncodedEvent extends Event {
+
+    /**
+     * The name of the tracker.
+     */
+    @Label("Tracker Name")
+    @Nullable
+    public String trackerName;
+
+    /**
+     * The output format of the screenshot.
+     */
+    @Label("Format")
+    @Nullable
+    public String format;
+
+    /**
+     * The size of the saved screenshot.
+     */
+    @Label("Size")
+    @DataAmount
+    public long size;
+}
@@ -0,0 +1,142 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.unredacted;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.KeySpec;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import javax.imageio.ImageIO;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+
+/**
+ * Utility class used to save an unredacted screenshot of a tracker's profile page into the private
+ * {@link ApplicationConfiguration#unredactedDirectory()}.
+ *
+ * <p>
+ * If an {@link ApplicationConfiguration#unredactedEncryptionPassword()} is provided, the screenshot is encrypted using {@code AES/GCM}, with a key
+ * derived from the password using {@code PBKDF2WithHmacSHA256} (310,000 iterations, 256-bit key). The encrypted file has the following layout, with
+ * a 128-bit GCM tag:
+ * <pre>
+ *     [magic: "TPE1" (4 bytes)][salt (16 bytes)][IV (12 bytes)][ciphertext + GCM tag]
+ * </pre>
+ */
+public final class UnredactedScreenshotWriter {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+
+    private static final byte[] ENCRYPTED_FILE_MAGIC = "TPE1".getBytes(StandardCharsets.US_ASCII);
+    private static final String ENCRYPTED_FILE_EXTENSION = ".enc";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final String KEY_ALGORITHM = "AES";
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_DERIVATION_ITERATIONS = 310_000;
+    private static final int KEY_LENGTH_BITS = 256;
+    private static final int GCM_TAG_LENGTH_BITS = 128;
+    private static final int IV_LENGTH_BYTES = 12;
+    private static final int SALT_LENGTH_BYTES = 16;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private UnredactedScreenshotWriter() {
+
+    }
+
+    /**
+     * Saves the unredacted screenshot as a {@code .png} file in the {@link ApplicationConfiguration#unredactedDirectory()}. The file name will be
+     * {@code trackerName.png}, or {@code trackerName.png.enc} if the screenshot is encrypted. The directory is created with owner-only permissions,
+     * where supported by the file system.
+     *
+     * @param screenshotImage the {@link BufferedImage} of the unredacted profile page
+     * @param trackerName     the name of the tracker (used as the file name)
+     * @return the {@link File} instance of the saved screenshot
+     * @throws IOException thrown if an error occurs encrypting or saving the screenshot to the file system
+     */
+    public static File write(final BufferedImage screenshotImage, final String trackerName) throws IOException {
+        final Path unredactedDirectory = createPrivateDirectory(CONFIG.unredactedDirectory().toAbsolutePath());
+
+        final ByteArrayOutputStream pngBytes = new ByteArrayOutputStream();
+        ImageIO.write(screenshotImage, "PNG", pngBytes);
+
+        if (CONFIG.unredactedEncryptionPassword().isEmpty()) {
+            final Path screenshot = unredactedDirectory.resolve(trackerName + ".png");
+            Files.write(screenshot, pngBytes.toByteArray());
+            return screenshot.toFile();
+        }
+
+        final Path encryptedScreenshot = unredactedDirectory.resolve(trackerName + ".png" + ENCRYPTED_FILE_EXTENSION);
+        Files.write(encryptedScreenshot, encrypt(pngBytes.toByteArray(), CONFIG.unredactedEncryptionPassword()));
+        return encryptedScreenshot.toFile();
+    }
+
+    private static byte[] encrypt(final byte[] content, final String password) throws IOException {
+        final byte[] salt = new byte[SALT_LENGTH_BYTES];
+        SECURE_RANDOM.nextBytes(salt);
+        final byte[] iv = new byte[IV_LENGTH_BYTES];
+        SECURE_RANDOM.nextBytes(iv);
+
+        try {
+            final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, deriveKey(password, salt), new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+            final byte[] cipherText = cipher.doFinal(content);
+
+            return ByteBuffer.allocate(ENCRYPTED_FILE_MAGIC.length + salt.length + iv.length + cipherText.length)
+                .put(ENCRYPTED_FILE_MAGIC)
+                .put(salt)
+                .put(iv)
+                .put(cipherText)
+                .array();
+        } catch (final GeneralSecurityException e) {
+            throw new IOException("Unable to encrypt screenshot", e);
+        }
+    }
+
+    private static SecretKey deriveKey(final String password, final byte[] salt) throws GeneralSecurityException {
+        final KeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, KEY_DERIVATION_ITERATIONS, KEY_LENGTH_BITS);
+        final byte[] key = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec).getEncoded();
+        return new SecretKeySpec(key, KEY_ALGORITHM);
+    }
+
+    private static Path createPrivateDirectory(final Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return directory;
+        }
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+        return directory;
+    }
+}
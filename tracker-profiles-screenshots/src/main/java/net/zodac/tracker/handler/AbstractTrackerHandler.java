@@ -17,18 +17,52 @@
 
 package net.zodac.tracker.handler;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import net.zodac.tracker.ProfileScreenshotter;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+import net.zodac.tracker.framework.LeakScanMode;
+import net.zodac.tracker.framework.RedactionMode;
+import net.zodac.tracker.framework.exception.LoginFailedException;
+import net.zodac.tracker.framework.exception.RedactionException;
+import net.zodac.tracker.framework.flow.PageState;
+import net.zodac.tracker.framework.flow.PageStateMachine;
 import net.zodac.tracker.framework.gui.DisplayUtils;
+import net.zodac.tracker.framework.login.LoginFailureSignature;
+import net.zodac.tracker.framework.login.LoginFailureSignatures;
+import net.zodac.tracker.framework.navigation.UrlParameter;
+import net.zodac.tracker.framework.navigation.UrlTemplate;
+import net.zodac.tracker.framework.recorder.PageRecorder;
+import net.zodac.tracker.framework.recorder.RecordedPage;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.statistics.ProfileStatistic;
+import net.zodac.tracker.framework.statistics.ProfileStatistics;
+import net.zodac.tracker.framework.telemetry.Metrics;
+import net.zodac.tracker.framework.telemetry.jfr.DriverQuitEvent;
+import net.zodac.tracker.framework.telemetry.jfr.LoginCompletedEvent;
+import net.zodac.tracker.framework.telemetry.jfr.RedactionCompletedEvent;
+import net.zodac.tracker.util.LeakScanResult;
 import net.zodac.tracker.util.PatternMatcher;
+import net.zodac.tracker.util.RedactionRuleResult;
 import net.zodac.tracker.util.ScriptExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
@@ -66,8 +100,10 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      */
     protected static final Logger LOGGER = LogManager.getLogger();
 
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
     private static final Duration MAXIMUM_LINK_RESOLUTION_TIME = Duration.of(2L, ChronoUnit.MINUTES);
     private static final Duration MAXIMUM_CLICK_RESOLUTION_TIME = Duration.of(30L, ChronoUnit.SECONDS);
+    private static final By CLOUDFLARE_CHALLENGE_SELECTOR = By.xpath("//div[@class='main-wrapper']//div[1]");
 
     /**
      * The {@link RemoteWebDriver} instance used to load web pages and perform UI actions.
@@ -80,9 +116,15 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
     protected final ScriptExecutor scriptExecutor;
 
     private final List<String> trackerUrls;
+    private final Map<String, String> urlParameters = new HashMap<>();
+    @Nullable
+    private final PageRecorder pageRecorder;
+    @Nullable
+    private String connectedUrl;
 
     /**
-     * Default constructor, only for implementation classes.
+     * Default constructor, only for implementation classes. If {@link ApplicationConfiguration#recordPages()} is {@code true}, a
+     * {@link PageRecorder} is created for the tracker.
      *
      * @param driver      a {@link RemoteWebDriver} used to load web pages and perform UI actions
      * @param trackerUrls all possible URLs to connect to the tracker home page
@@ -91,6 +133,7 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         this.driver = driver;
         this.trackerUrls = List.copyOf(trackerUrls);
         scriptExecutor = new ScriptExecutor(driver);
+        pageRecorder = CONFIG.recordPages() ? new PageRecorder(driver) : null;
     }
 
     /**
@@ -112,6 +155,7 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
                 }
 
                 unableToConnect = false;
+                connectedUrl = trackerUrl;
                 scriptExecutor.waitForPageToLoad(DEFAULT_WAIT_FOR_PAGE_LOAD);
                 break; // No need to load another page
             } catch (final WebDriverException e) {
@@ -132,6 +176,16 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         }
     }
 
+    /**
+     * The URL that was used to connect to the tracker home page in {@link #openTracker()}.
+     *
+     * @return the connected URL, or {@code null} if the tracker has not been opened yet
+     */
+    @Nullable
+    public String connectedUrl() {
+        return connectedUrl;
+    }
+
     /**
      * For some trackers the home page does not automatically redirect to the login page. In these cases, we define a {@link By} selector of the
      * {@link WebElement} to navigate to the login page, for trackers. Is {@code null} by default as we assume this navigation is unnecessary. Should
@@ -146,26 +200,26 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
 
     /**
      * For some trackers the home page does not automatically redirect to the login page. In these cases, we need to explicitly click on the login
-     * link to redirect. We'll only do this navigation if {@link #loginPageSelector()} is not {@code null}.
+     * link to redirect. This is only performed when the {@link PageState#HOME} is found, which requires {@link #loginPageSelector()} to not be
+     * {@code null}.
      *
      * @param trackerName the name of the tracker
      */
     public void navigateToLoginPage(final String trackerName) {
         final By loginLinkSelector = loginPageSelector();
-
-        if (loginLinkSelector != null) {
-            final WebElement loginLink = driver.findElement(loginLinkSelector);
-            clickButton(loginLink);
-            cloudflareCheck(trackerName);
-            scriptExecutor.waitForElementToAppear(usernameFieldSelector(), DEFAULT_WAIT_FOR_PAGE_LOAD);
-        } else {
-            cloudflareCheck(trackerName);
+        if (loginLinkSelector == null) {
+            return;
         }
+
+        final WebElement loginLink = driver.findElement(loginLinkSelector);
+        clickButton(loginLink);
+        scriptExecutor.waitForPageToLoad(DEFAULT_WAIT_FOR_PAGE_LOAD);
     }
 
     /**
      * For this {@link AbstractTrackerHandler} implementation, there is a Cloudflare check protecting the login page. This verification check must be
-     * passed to proceed. This must be done within {@link DisplayUtils#INPUT_WAIT_DURATION}.
+     * passed to proceed. This must be done within {@link DisplayUtils#INPUT_WAIT_DURATION}. This is only performed when the
+     * {@link PageState#CLOUDFLARE_CHALLENGE} is found.
      *
      * <p>
      * Manual user interactions:
@@ -176,26 +230,44 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      * @param trackerName the name of the tracker
      */
     // TODO: Can this button be automatically clicked? If the box is always in the same place, move the mouse and click?
-    private void cloudflareCheck(final String trackerName) {
-        if (!hasCloudflareCheck()) {
-            return;
-        }
-
+    public void passCloudflareCheck(final String trackerName) {
         scriptExecutor.waitForPageToLoad(DEFAULT_WAIT_FOR_PAGE_LOAD);
         LOGGER.info("\t\t >>> Waiting for user to pass the Cloudflare verification, for {} seconds",
             DisplayUtils.INPUT_WAIT_DURATION.getSeconds());
 
-        final WebElement cloudflareElement = driver.findElement(By.xpath("//div[@class='main-wrapper']//div[1]"));
+        final WebElement cloudflareElement = driver.findElement(CLOUDFLARE_CHALLENGE_SELECTOR);
         scriptExecutor.highlightElement(cloudflareElement);
         DisplayUtils.userInputConfirmation(trackerName, "Pass the Cloudflare verification");
     }
 
+    /**
+     * Pauses execution of the {@link AbstractTrackerHandler} for the user to solve a captcha. This must be done within
+     * {@link DisplayUtils#INPUT_WAIT_DURATION}. This is only performed when the {@link PageState#CAPTCHA} is found.
+     *
+     * <p>
+     * Manual user interactions:
+     * <ol>
+     *     <li>Solve the captcha</li>
+     * </ol>
+     *
+     * @param trackerName the name of the tracker
+     */
+    public void solveCaptcha(final String trackerName) {
+        LOGGER.info("\t\t >>> Waiting for user to solve the captcha, for {} seconds", DisplayUtils.INPUT_WAIT_DURATION.getSeconds());
+
+        final By captchaSelector = pageStateSelectors().get(PageState.CAPTCHA);
+        if (captchaSelector != null) {
+            scriptExecutor.highlightElement(driver.findElement(captchaSelector));
+        }
+        DisplayUtils.userInputConfirmation(trackerName, "Solve the captcha");
+    }
+
     /**
      * Checks if the tracker has a Cloudflare verification check.
      *
      * <p>
      * By default, we assume there is Cloudflare check, so this method returns {@code false}. Should be overridden otherwise, but only return to
-     * {@code true}. The common implementation to bypass the check is performed by {@link #cloudflareCheck(String)}.
+     * {@code true}. The common implementation to bypass the check is performed by {@link #passCloudflareCheck(String)}.
      *
      * @return {@code true} if there is a Cloudflare check
      */
@@ -209,8 +281,12 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      * @param username    the user's username for the tracker
      * @param password    the user's password for the tracker
      * @param trackerName the name of the tracker
+     * @throws LoginFailedException thrown if the web page shown after logging in matches one of the {@link #loginFailureSignatures()} or
+     *                              {@link LoginFailureSignatures#GENERIC} signatures
      */
     public void login(final String username, final String password, final String trackerName) {
+        final LoginCompletedEvent loginCompletedEvent = new LoginCompletedEvent();
+        loginCompletedEvent.begin();
         ScriptExecutor.explicitWait(WAIT_FOR_LOGIN_PAGE_LOAD);
         final WebElement usernameField = driver.findElement(usernameFieldSelector());
         usernameField.clear();
@@ -231,7 +307,15 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         manualCheckAfterLoginClick(trackerName);
 
         ScriptExecutor.explicitWait(WAIT_FOR_LOGIN_PAGE_LOAD);
-        scriptExecutor.waitForElementToAppear(postLoginSelector(), DEFAULT_WAIT_FOR_PAGE_LOAD);
+        final List<LoginFailureSignature> signatures = new ArrayList<>(loginFailureSignatures());
+        signatures.addAll(LoginFailureSignatures.GENERIC);
+        final LoginFailureSignature loginFailureSignature = scriptExecutor.waitForLogin(postLoginSelector(), signatures, DEFAULT_WAIT_FOR_PAGE_LOAD);
+        if (loginFailureSignature != null) {
+            throw new LoginFailedException(loginFailureSignature);
+        }
+
+        loginCompletedEvent.trackerName = trackerName;
+        loginCompletedEvent.commit();
     }
 
     /**
@@ -305,6 +389,50 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      */
     protected abstract By postLoginSelector();
 
+    /**
+     * Defines the {@link By} selectors used to identify each {@link PageState} while navigating to the user's profile page. The states are checked
+     * together by a {@link PageStateMachine}, so the flow adapts to the web page that is actually shown (for example, skipping the login if the
+     * session is already logged in).
+     *
+     * <p>
+     * By default, the states are identified by the existing selectors:
+     * <ul>
+     *     <li>{@link PageState#HOME} by {@link #loginPageSelector()}, if it is not {@code null}</li>
+     *     <li>{@link PageState#LOGIN_PAGE} by {@link #usernameFieldSelector()}</li>
+     *     <li>{@link PageState#LOGGED_IN} by {@link #postLoginSelector()}</li>
+     *     <li>{@link PageState#CLOUDFLARE_CHALLENGE} by the Cloudflare verification check, if {@link #hasCloudflareCheck()} is {@code true}</li>
+     * </ul>
+     * Should be overridden to add any other {@link PageState}, like a {@link PageState#BANNER} or {@link PageState#CAPTCHA}.
+     *
+     * @return the {@link By} selectors for each {@link PageState}
+     */
+    public Map<PageState, By> pageStateSelectors() {
+        final Map<PageState, By> pageStateSelectors = new EnumMap<>(PageState.class);
+        final By loginLinkSelector = loginPageSelector();
+        if (loginLinkSelector != null) {
+            pageStateSelectors.put(PageState.HOME, loginLinkSelector);
+        }
+        pageStateSelectors.put(PageState.LOGIN_PAGE, usernameFieldSelector());
+        pageStateSelectors.put(PageState.LOGGED_IN, postLoginSelector());
+        if (hasCloudflareCheck()) {
+            pageStateSelectors.put(PageState.CLOUDFLARE_CHALLENGE, CLOUDFLARE_CHALLENGE_SELECTOR);
+        }
+        return pageStateSelectors;
+    }
+
+    /**
+     * Defines the {@link LoginFailureSignature}s for error pages specific to the tracker, which are checked while waiting for the
+     * {@link #postLoginSelector()}. These are checked before the {@link LoginFailureSignatures#GENERIC} signatures, which apply to all trackers.
+     *
+     * <p>
+     * By default, we assume the tracker has no specific error pages, so this method returns an empty {@link List}. Should be overridden otherwise.
+     *
+     * @return the tracker-specific {@link LoginFailureSignature}s
+     */
+    protected List<LoginFailureSignature> loginFailureSignatures() {
+        return List.of();
+    }
+
     /**
      * Checks if there is a banner on the tracker web page, and closes it. This may be a cookie banner, or some other warning banner that can
      * obscure content, or expose unwanted information.
@@ -321,13 +449,26 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
     /**
      * Once logged in, navigates to the user's profile page on the tracker. Waits {@link #DEFAULT_WAIT_FOR_PAGE_LOAD} for the page to finish
      * loading.
+     *
+     * <p>
+     * If the {@link #profilePageUrlTemplate()} can be resolved, the profile page is opened directly. Otherwise, the link found by
+     * {@link #profilePageSelector()} is clicked.
+     *
+     * @param username the user's username for the tracker
      */
-    public void openProfilePage() {
-        ScriptExecutor.explicitWait(WAIT_FOR_LOGIN_PAGE_LOAD);
+    public void openProfilePage(final String username) {
+        urlParameters.put(UrlTemplate.USERNAME_PARAMETER, username);
+        final String profilePageUrl = resolveUrl(profilePageUrlTemplate());
 
-        final WebElement profilePageLink = driver.findElement(profilePageSelector());
-        scriptExecutor.removeAttribute(profilePageLink, "target"); // Removing 'target="_blank"', to ensure link opens in same tab
-        clickButton(profilePageLink);
+        if (profilePageUrl == null) {
+            ScriptExecutor.explicitWait(WAIT_FOR_LOGIN_PAGE_LOAD);
+            final WebElement profilePageLink = driver.findElement(profilePageSelector());
+            scriptExecutor.removeAttribute(profilePageLink, "target"); // Removing 'target="_blank"', to ensure link opens in same tab
+            clickButton(profilePageLink);
+        } else {
+            LOGGER.debug("\t\t- Opening profile page directly");
+            driver.navigate().to(profilePageUrl);
+        }
 
         scriptExecutor.waitForPageToLoad(DEFAULT_WAIT_FOR_PAGE_LOAD);
         scriptExecutor.moveToOrigin();
@@ -341,6 +482,20 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      */
     protected abstract By profilePageSelector();
 
+    /**
+     * Defines the {@link UrlTemplate} of the user's profile page, so it can be opened directly instead of clicking through any menus to the
+     * {@link #profilePageSelector()}.
+     *
+     * <p>
+     * By default, we assume the profile page URL is unknown, so this method returns {@code null}. Should be overridden otherwise.
+     *
+     * @return the profile page {@link UrlTemplate}, or {@code null} to click the {@link #profilePageSelector()}
+     */
+    @Nullable
+    protected UrlTemplate profilePageUrlTemplate() {
+        return null;
+    }
+
     /**
      * For certain trackers, additional actions may need to be performed after opening the profile page, but prior to the page being redacted and
      * screenshot. This might be that the page is considered 'loaded' by
@@ -354,16 +509,94 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         // Do nothing by default
     }
 
+    /**
+     * Defines the {@link By} selectors of the {@link WebElement}s on the user's profile page that contain each {@link ProfileStatistic}. The text of
+     * each {@link WebElement} is retrieved by {@link #extractProfileStatistics()}.
+     *
+     * <p>
+     * By default, we assume that no statistics can be extracted, so this method returns an empty {@link Map}. Should be overridden otherwise, and
+     * any {@link ProfileStatistic} not available on the tracker can be excluded.
+     *
+     * @return the {@link By} selectors for each {@link ProfileStatistic}
+     */
+    public Map<ProfileStatistic, By> profileStatisticSelectors() {
+        return Map.of();
+    }
+
+    /**
+     * Defines which {@link ProfileStatistic}s are meaningful when deciding if a user's profile has changed since the previous execution. If none of
+     * these {@link ProfileStatistic}s have changed, there is no need to take a new screenshot of the profile page.
+     *
+     * <p>
+     * By default, all {@link ProfileStatistic}s except {@link ProfileStatistic#BONUS_POINTS} are considered meaningful, since bonus points will
+     * usually increase constantly while seeding, regardless of any other change to the profile. Should be overridden otherwise.
+     *
+     * @return the meaningful {@link ProfileStatistic}s
+     * @see ProfileStatistics#isUnchangedFrom(ProfileStatistics, Collection)
+     */
+    public Collection<ProfileStatistic> significantProfileStatistics() {
+        return List.of(
+            ProfileStatistic.UPLOAD,
+            ProfileStatistic.DOWNLOAD,
+            ProfileStatistic.RATIO,
+            ProfileStatistic.BUFFER,
+            ProfileStatistic.USER_CLASS
+        );
+    }
+
+    /**
+     * Extracts the {@link ProfileStatistics} from the user's profile page, using the {@link By} selectors from
+     * {@link #profileStatisticSelectors()}. All {@link WebElement}s are retrieved in a single script execution.
+     *
+     * @return the {@link ProfileStatistics}
+     * @see ScriptExecutor#retrieveTextOf(Map)
+     */
+    public ProfileStatistics extractProfileStatistics() {
+        final Map<ProfileStatistic, By> profileStatisticSelectors = profileStatisticSelectors();
+        final Map<String, By> selectors = new HashMap<>();
+        for (final Map.Entry<ProfileStatistic, By> selector : profileStatisticSelectors.entrySet()) {
+            selectors.put(selector.getKey().name(), selector.getValue());
+        }
+
+        final Map<String, @Nullable String> text = scriptExecutor.retrieveTextOf(selectors);
+        final Map<ProfileStatistic, String> rawValues = new EnumMap<>(ProfileStatistic.class);
+        for (final ProfileStatistic profileStatistic : profileStatisticSelectors.keySet()) {
+            final String value = text.get(profileStatistic.name());
+            if (value != null) {
+                rawValues.put(profileStatistic, value);
+            }
+        }
+
+        return ProfileStatistics.fromRawValues(rawValues);
+    }
+
     /**
      * Retrieves a {@link Collection} of {@link WebElement}s from the user's profile page, where the inner text needs to be redacted. This is used for
      * {@link WebElement}s that has sensitive information (like an IP address), which should not be visible in the screenshot. Once found, the text
-     * in the {@link WebElement}s is redacted.
+     * in the {@link WebElement}s is redacted. Any {@link #redactionRules()} are then applied to the profile page.
+     *
+     * <p>
+     * If the {@link net.zodac.tracker.framework.ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}, the text is not changed.
+     * Instead, the {@link WebElement}s are recorded, and an opaque box is drawn over them in the screenshot.
      *
      * @return the number of {@link WebElement}s where the text has been redacted
+     * @throws RedactionException thrown if a required {@link RedactionRule} did not match any {@link WebElement}
      * @see ScriptExecutor#redactHtmlOf(WebElement)
+     * @see ScriptExecutor#applyRedactionRules(List)
+     * @see #redactionBoxes()
      */
-    // TODO: Rather than redacting the text, maybe put a solid red block over the content to hide it more explicitly?
     public int redactElements() {
+        final RedactionCompletedEvent redactionCompletedEvent = new RedactionCompletedEvent();
+        redactionCompletedEvent.begin();
+        final int redactedElements = redactElementsPotentiallyContainingSensitiveInformation() + applyRedactionRules();
+
+        redactionCompletedEvent.handler = getClass().getSimpleName();
+        redactionCompletedEvent.redactedElements = redactedElements;
+        redactionCompletedEvent.commit();
+        return redactedElements;
+    }
+
+    private int redactElementsPotentiallyContainingSensitiveInformation() {
         final Collection<By> selectors = getElementsPotentiallyContainingSensitiveInformation();
         if (selectors.isEmpty()) {
             return 0;
@@ -387,6 +620,77 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         return elementsToBeRedacted.size();
     }
 
+    private int applyRedactionRules() {
+        final List<RedactionRule> redactionRules = redactionRules();
+        final List<RedactionRuleResult> redactionRuleResults = scriptExecutor.applyRedactionRules(redactionRules);
+
+        int numberOfRedactedElements = 0;
+        final Collection<String> unmatchedRequiredRules = new ArrayList<>();
+        final Collection<String> incompleteRules = new ArrayList<>();
+        for (int i = 0; i < redactionRules.size(); i++) {
+            final RedactionRule redactionRule = redactionRules.get(i);
+            final RedactionRuleResult redactionRuleResult = i < redactionRuleResults.size() ? redactionRuleResults.get(i) : null;
+            final int matchCount = redactionRuleResult == null ? 0 : redactionRuleResult.matchCount();
+            if (redactionRuleResult != null && redactionRuleResult.remainingCount() > 0) {
+                incompleteRules.add(redactionRule.name());
+            }
+            if (matchCount == 0) {
+                if (redactionRule.required()) {
+                    unmatchedRequiredRules.add(redactionRule.name());
+                }
+                continue;
+            }
+
+            final String elementsPlural = matchCount == 1 ? "" : "s";
+            LOGGER.info("\t\t- Applied '{}' redaction rule to {} element{}", redactionRule.name(), matchCount, elementsPlural);
+            numberOfRedactedElements += matchCount;
+        }
+
+        if (!incompleteRules.isEmpty()) {
+            throw new RedactionException(String.format("Redaction rules left matching text in elements: %s", incompleteRules));
+        }
+        if (!unmatchedRequiredRules.isEmpty()) {
+            throw new RedactionException(String.format("Required redaction rules matched no elements: %s", unmatchedRequiredRules));
+        }
+        return numberOfRedactedElements;
+    }
+
+    /**
+     * Retrieves the location of all {@link WebElement}s that were redacted by {@link #redactElements()} while the
+     * {@link net.zodac.tracker.framework.ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}. This should be called after any
+     * other changes to the web page (like translation), immediately before the screenshot is taken, so the locations are accurate.
+     *
+     * @return the {@link Rectangle} of each box to be redacted, relative to the top-left of the web page
+     * @see ScriptExecutor#retrieveRedactionBoxes()
+     */
+    public List<Rectangle> redactionBoxes() {
+        return scriptExecutor.retrieveRedactionBoxes();
+    }
+
+    /**
+     * Scans the profile page for any sensitive information that was not redacted by {@link #redactElements()}. Any {@link WebElement}s that will be
+     * covered by a box are skipped. This should be called before {@link #redactionBoxes()}, since replacing any text found may change the location
+     * of the {@link WebElement}s.
+     *
+     * @param leakScanMode the {@link LeakScanMode}, defining whether any sensitive information found is also replaced in the web page
+     * @return the {@link LeakScanResult}
+     * @see ScriptExecutor#scanForLeaks(LeakScanMode)
+     */
+    public LeakScanResult scanForLeaks(final LeakScanMode leakScanMode) {
+        return scriptExecutor.scanForLeaks(leakScanMode);
+    }
+
+    /**
+     * Replaces the text of all {@link WebElement}s that were redacted by {@link #redactElements()} while the
+     * {@link net.zodac.tracker.framework.ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}. This should be called after
+     * {@link #redactionBoxes()}, before the web page is saved in any form other than an image (like a PDF or a DOM snapshot).
+     *
+     * @see ScriptExecutor#redactTextOfBoxedElements()
+     */
+    public void redactTextOfBoxedElements() {
+        scriptExecutor.redactTextOfBoxedElements();
+    }
+
     /**
      * Returns a {@link Collection} of {@link By} selectors that define all possible HTML elements that may contain sensitive data to be redacted.
      *
@@ -400,6 +704,20 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         return List.of();
     }
 
+    /**
+     * Returns the {@link RedactionRule}s for any other sensitive information on the user's profile page (like a passkey), which cannot be found by
+     * {@link #getElementsPotentiallyContainingSensitiveInformation()}. Common rules for trackers sharing a codebase are defined in
+     * {@link net.zodac.tracker.framework.redaction.RedactionRules}.
+     *
+     * <p>
+     * By default, we assume that there are no rules to apply, so this method returns an empty {@link List}. Should be overridden otherwise.
+     *
+     * @return the {@link RedactionRule}s
+     */
+    public List<RedactionRule> redactionRules() {
+        return List.of();
+    }
+
     /**
      * Checks if there is a header on the tracker's user profile, and updates it to not be fixed. This is to avoid the banner appearing multiple times
      * in the user profile screenshot as we scroll through the page.
@@ -433,15 +751,39 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
      */
     protected abstract By logoutButtonSelector();
 
+    /**
+     * Defines the {@link UrlTemplate} of the logout page, so the user can be logged out directly instead of clicking through any menus to the
+     * {@link #logoutButtonSelector()}. This should only be used if the tracker logs out with a {@code GET} request.
+     *
+     * <p>
+     * By default, we assume the logout page URL is unknown, so this method returns {@code null}. Should be overridden otherwise.
+     *
+     * @return the logout page {@link UrlTemplate}, or {@code null} to click the {@link #logoutButtonSelector()}
+     */
+    @Nullable
+    protected UrlTemplate logoutUrlTemplate() {
+        return null;
+    }
+
     /**
      * Logs out of the tracker, ending the user's session. Waits {@link #DEFAULT_WAIT_FOR_PAGE_LOAD} for the {@link #postLogoutElementSelector()} to
      * load, signifying that we have successfully logged out and been redirected to the login page.
+     *
+     * <p>
+     * If the {@link #logoutUrlTemplate()} can be resolved, the logout page is opened directly. Otherwise, the button found by
+     * {@link #logoutButtonSelector()} is clicked.
      */
     public void logout() {
-        final By logoutButtonSelector = logoutButtonSelector();
-        scriptExecutor.waitForElementToAppear(logoutButtonSelector, DEFAULT_WAIT_FOR_PAGE_LOAD);
-        final WebElement logoutButton = driver.findElement(logoutButtonSelector);
-        clickButton(logoutButton);
+        final String logoutUrl = resolveUrl(logoutUrlTemplate());
+        if (logoutUrl == null) {
+            final By logoutButtonSelector = logoutButtonSelector();
+            scriptExecutor.waitForElementToAppear(logoutButtonSelector, DEFAULT_WAIT_FOR_PAGE_LOAD);
+            final WebElement logoutButton = driver.findElement(logoutButtonSelector);
+            clickButton(logoutButton);
+        } else {
+            LOGGER.debug("\t\t- Logging out directly");
+            driver.navigate().to(logoutUrl);
+        }
 
         scriptExecutor.waitForPageToLoad(DEFAULT_WAIT_FOR_PAGE_LOAD);
         scriptExecutor.waitForElementToAppear(postLogoutElementSelector(), DEFAULT_WAIT_FOR_TRANSITIONS);
@@ -460,9 +802,104 @@ public abstract class AbstractTrackerHandler implements AutoCloseable {
         return loginPageSelector() == null ? usernameFieldSelector() : loginPageSelector();
     }
 
+    // Parameters are only resolved from the web page once, and then reused for the rest of the session (like resolving the logout URL)
+    @Nullable
+    private String resolveUrl(final @Nullable UrlTemplate urlTemplate) {
+        if (urlTemplate == null) {
+            return null;
+        }
+
+        final Map<String, UrlParameter> unresolvedParameters = new HashMap<>();
+        final Map<String, By> linkSelectors = new HashMap<>();
+        for (final UrlParameter urlParameter : urlTemplate.parameters()) {
+            if (!urlParameters.containsKey(urlParameter.name())) {
+                unresolvedParameters.put(urlParameter.name(), urlParameter);
+                linkSelectors.put(urlParameter.name(), urlParameter.selector());
+            }
+        }
+
+        if (!linkSelectors.isEmpty()) {
+            for (final Map.Entry<String, @Nullable String> link : scriptExecutor.retrieveLinksOf(linkSelectors).entrySet()) {
+                final UrlParameter urlParameter = unresolvedParameters.get(link.getKey());
+                final String href = link.getValue();
+                if (urlParameter == null || href == null) {
+                    continue;
+                }
+
+                final Matcher matcher = urlParameter.pattern().matcher(href);
+                if (matcher.find() && matcher.groupCount() > 0) {
+                    urlParameters.put(urlParameter.name(), URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        // Resolved against the tracker URL rather than the current web page, which may be nested (or on another host after a redirect)
+        final String path = urlTemplate.resolve(urlParameters);
+        if (path == null || connectedUrl == null) {
+            LOGGER.debug("\t\t- Unable to resolve URL template '{}', clicking through instead", urlTemplate.path());
+            return null;
+        }
+        return URI.create(connectedUrl).resolve(path).toString();
+    }
+
+    /**
+     * Records the current web page as the {@link RecordedPage}, if {@link ApplicationConfiguration#recordPages()} is {@code true}. Any
+     * {@link #redactionRules()} are applied to the recording, but not to the web page itself. Recording is only used to create stand-in fixtures,
+     * so any failure is logged rather than failing the tracker.
+     *
+     * @param recordedPage the {@link RecordedPage} to record the current web page as
+     * @see #saveRecordedPages(String, String, String)
+     */
+    public void recordPage(final RecordedPage recordedPage) {
+        if (pageRecorder == null) {
+            return;
+        }
+
+        try {
+            pageRecorder.record(recordedPage, redactionRules());
+            LOGGER.debug("\t\t- Recorded {} page", recordedPage);
+        } catch (final IllegalStateException | WebDriverException e) {
+            LOGGER.debug("\t\t- Unable to record {} page", recordedPage, e);
+            LOGGER.warn("\t\t- Unable to record {} page: {}", recordedPage, e.getMessage());
+        }
+    }
+
+    /**
+     * Saves any web pages recorded by {@link #recordPage(RecordedPage)}, with the user's credentials and any other sensitive information scrubbed.
+     *
+     * @param trackerName the name of the tracker
+     * @param username    the user's username for the tracker
+     * @param password    the user's password for the tracker
+     * @return the directory that the recordings were saved in, or {@code null} if no web pages were recorded or they could not be saved
+     * @see PageRecorder#save(String, String, String)
+     */
+    @Nullable
+    public File saveRecordedPages(final String trackerName, final String username, final String password) {
+        if (pageRecorder == null || !pageRecorder.hasRecordings()) {
+            return null;
+        }
+
+        try {
+            return pageRecorder.save(trackerName, username, password);
+        } catch (final IOException e) {
+            LOGGER.debug("\t- Unable to save recorded pages for tracker '{}'", trackerName, e);
+            LOGGER.warn("\t- Unable to save recorded pages for tracker '{}': {}", trackerName, e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     public void close() {
-        driver.quit();
+        final DriverQuitEvent driverQuitEvent = new DriverQuitEvent();
+        driverQuitEvent.begin();
+        try {
+            driver.quit();
+        } finally {
+            Metrics.browserClosed();
+        }
+
+        driverQuitEvent.handler = getClass().getSimpleName();
+        driverQuitEvent.commit();
     }
 
     /**
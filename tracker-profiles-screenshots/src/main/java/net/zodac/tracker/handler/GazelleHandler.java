@@ -19,7 +19,13 @@ package net.zodac.tracker.handler;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
+import net.zodac.tracker.framework.login.LoginFailureSignature;
+import net.zodac.tracker.framework.login.LoginFailureSignatures;
+import net.zodac.tracker.framework.navigation.UrlParameter;
+import net.zodac.tracker.framework.navigation.UrlTemplate;
+import net.zodac.tracker.framework.statistics.ProfileStatistic;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -33,6 +39,8 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 @TrackerHandler(name = "UHDBits", url = "https://uhdbits.org/")
 public class GazelleHandler extends AbstractTrackerHandler {
 
+    private static final By LOGOUT_LINK_SELECTOR = By.xpath("//li[@id='nav_logout']//a[1]");
+
     /**
      * Default constructor.
      *
@@ -58,11 +66,39 @@ public class GazelleHandler extends AbstractTrackerHandler {
         return By.id("userinfo");
     }
 
+    @Override
+    protected List<LoginFailureSignature> loginFailureSignatures() {
+        return List.of(LoginFailureSignatures.GAZELLE_LOGIN_BAN);
+    }
+
     @Override
     protected By profilePageSelector() {
         return By.xpath("//a[@class='username']");
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For {@link GazelleHandler}-based trackers, the profile page is {@code user.php?id=<id>}, with the user ID taken from the link to the profile
+     * page.
+     */
+    @Override
+    protected UrlTemplate profilePageUrlTemplate() {
+        return UrlTemplate.of("user.php?id={id}", UrlParameter.fromQuery("id", profilePageSelector(), "id"));
+    }
+
+    @Override
+    public Map<ProfileStatistic, By> profileStatisticSelectors() {
+        return Map.of(
+            ProfileStatistic.UPLOAD, By.xpath("//ul[contains(@class, 'stats')]/li[starts-with(normalize-space(), 'Uploaded:')]"),
+            ProfileStatistic.DOWNLOAD, By.xpath("//ul[contains(@class, 'stats')]/li[starts-with(normalize-space(), 'Downloaded:')]"),
+            ProfileStatistic.RATIO, By.xpath("//ul[contains(@class, 'stats')]/li[starts-with(normalize-space(), 'Ratio:')]"),
+            ProfileStatistic.BONUS_POINTS, By.xpath("//ul[contains(@class, 'stats')]/li[starts-with(normalize-space(), 'Bonus Points:')]"),
+            ProfileStatistic.USER_CLASS, By.xpath("//ul[contains(@class, 'stats')]/li[starts-with(normalize-space(), 'Class:')]")
+        );
+    }
+
     @Override
     public Collection<By> getElementsPotentiallyContainingSensitiveInformation() {
         return List.of(
@@ -88,6 +124,18 @@ public class GazelleHandler extends AbstractTrackerHandler {
         final WebElement logoutParent = driver.findElement(logoutParentSelector);
         scriptExecutor.moveTo(logoutParent);
 
-        return By.xpath("//li[@id='nav_logout']//a[1]");
+        return LOGOUT_LINK_SELECTOR;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For {@link GazelleHandler}-based trackers, the logout page is {@code logout.php?auth=<auth>}, with the auth key taken from the logout link.
+     * The link can be read without hovering over the profile menu.
+     */
+    @Override
+    protected UrlTemplate logoutUrlTemplate() {
+        return UrlTemplate.of("logout.php?auth={auth}", UrlParameter.fromQuery("auth", LOGOUT_LINK_SELECTOR, "auth"));
     }
 }
@@ -23,7 +23,8 @@ import java.util.List;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
 import net.zodac.tracker.framework.gui.DisplayUtils;
-import net.zodac.tracker.util.PatternMatcher;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.redaction.RedactionRules;
 import net.zodac.tracker.util.ScriptExecutor;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -111,19 +112,15 @@ public class HdBitsHandler extends AbstractTrackerHandler {
      * {@inheritDoc}
      *
      * <p>
-     * For {@link HdBitsHandler}, there is also a table entry with our passkey. We find the {@literal <}{@code tr}{@literal >} {@link WebElement}s
-     * which has a {@literal <}{@code th}{@literal >} {@link WebElement} with the text value <b>Passkey</b>. From this
-     * {@literal <}{@code tr}{@literal >}, we find the child {@literal <}{@code td}{@literal >}, which needs its content redacted.
+     * For {@link HdBitsHandler}, there is also a table with our passkey. We find the {@literal <}{@code tr}{@literal >} which has a
+     * {@literal <}{@code td}{@literal >} with the text value <b>Passkey</b>, and redact the content of the following
+     * {@literal <}{@code td}{@literal >}.
      *
-     * @see AbstractTrackerHandler#redactElements()
-     * @see ScriptExecutor#redactInnerTextOf(WebElement, String)
+     * @see RedactionRules#tableRowValue(String, String)
      */
     @Override
-    public int redactElements() {
-        final WebElement passkeyValueElement = driver.findElement(By.xpath("//tr[td[text()='Passkey']]/td[2]"));
-        scriptExecutor.redactInnerTextOf(passkeyValueElement, PatternMatcher.DEFAULT_REDACTION_TEXT);
-
-        return 1 + super.redactElements();
+    public List<RedactionRule> redactionRules() {
+        return List.of(RedactionRules.tableRowValue("passkey", "Passkey"));
     }
 
     @Override
@@ -21,8 +21,8 @@ import java.util.Collection;
 import java.util.List;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
-import net.zodac.tracker.util.PatternMatcher;
-import net.zodac.tracker.util.ScriptExecutor;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.redaction.RedactionRules;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -79,22 +79,14 @@ public class KufircHandler extends AbstractTrackerHandler {
      * {@inheritDoc}
      *
      * <p>
-     * For {@link KufircHandler}, we also need to redact a passkey {@link WebElement}. We find an element with text that is prefixed by
-     * {@value #PASSKEY_PREFIX}, signifying a {@link WebElement} with a sensitive passkey. We redact this element by replacing all text with the
-     * prefix and {@value PatternMatcher#DEFAULT_REDACTION_TEXT}.
+     * For {@link KufircHandler}, we also need to redact a passkey, in an {@literal <}{@code li}{@literal >} with text prefixed by
+     * {@value #PASSKEY_PREFIX}.
      *
-     * @see AbstractTrackerHandler#redactElements()
-     * @see ScriptExecutor#redactInnerTextOf(WebElement, String)
+     * @see RedactionRules#passkeyListItem(By)
      */
     @Override
-    public int redactElements() {
-        final int superRedactedElements = super.redactElements();
-
-        final String passkeyRedactionText = PASSKEY_PREFIX + PatternMatcher.DEFAULT_REDACTION_TEXT;
-        final WebElement passkeyElement = driver.findElement(By.xpath(String.format("//li[contains(text(), '%s')]", PASSKEY_PREFIX)));
-        scriptExecutor.redactInnerTextOf(passkeyElement, passkeyRedactionText);
-
-        return superRedactedElements + 1;
+    public List<RedactionRule> redactionRules() {
+        return List.of(RedactionRules.passkeyListItem(By.xpath(String.format("//li[contains(text(), '%s')]", PASSKEY_PREFIX))));
     }
 
     @Override
@@ -20,8 +20,8 @@ package net.zodac.tracker.handler;
 import java.util.Collection;
 import java.util.List;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
-import net.zodac.tracker.util.PatternMatcher;
-import net.zodac.tracker.util.ScriptExecutor;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.redaction.RedactionRules;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -32,8 +32,6 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 @TrackerHandler(name = "Libble", url = "https://libble.me/")
 public class LibbleHandler extends AbstractTrackerHandler {
 
-    private static final String PASSKEY_PREFIX = "Passkey: ";
-
     /**
      * Default constructor.
      *
@@ -75,21 +73,13 @@ public class LibbleHandler extends AbstractTrackerHandler {
      * {@inheritDoc}
      *
      * <p>
-     * For {@link LibbleHandler}, we also need to redact a passkey {@link WebElement}. We find an element with text that is prefixed by
-     * {@value #PASSKEY_PREFIX}, signifying a {@link WebElement} with a sensitive passkey. We redact this element by replacing all text with the
-     * prefix and {@value PatternMatcher#DEFAULT_REDACTION_TEXT}.
+     * For {@link LibbleHandler}, we also need to redact the passkey in the user statistics list.
      *
-     * @see AbstractTrackerHandler#redactElements()
-     * @see ScriptExecutor#redactInnerTextOf(WebElement, String)
+     * @see RedactionRules#GAZELLE_PASSKEY
      */
     @Override
-    public int redactElements() {
-        final By passkeyElementSelector = By.xpath(String.format("//ul[contains(@class, 'stats')]/li[contains(text(), '%s')]", PASSKEY_PREFIX));
-        final WebElement passkeyElement = driver.findElement(passkeyElementSelector);
-        final String passkeyRedactionText = PASSKEY_PREFIX + PatternMatcher.DEFAULT_REDACTION_TEXT;
-        scriptExecutor.redactInnerTextOf(passkeyElement, passkeyRedactionText);
-
-        return 1 + super.redactElements();
+    public List<RedactionRule> redactionRules() {
+        return List.of(RedactionRules.GAZELLE_PASSKEY);
     }
 
     @Override
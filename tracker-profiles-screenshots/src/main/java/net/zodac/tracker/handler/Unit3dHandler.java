@@ -19,8 +19,14 @@ package net.zodac.tracker.handler;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
+import net.zodac.tracker.framework.flow.PageState;
+import net.zodac.tracker.framework.navigation.UrlParameter;
+import net.zodac.tracker.framework.navigation.UrlTemplate;
+import net.zodac.tracker.framework.statistics.ProfileStatistic;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -38,6 +44,9 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 @TrackerHandler(name = "Unwalled", url = "https://unwalled.cc/")
 public class Unit3dHandler extends AbstractTrackerHandler {
 
+    private static final By COOKIE_BUTTON_SELECTOR = By.xpath("//button[contains(@class, 'cookie-consent__agree')]");
+    private static final By PROFILE_LINK_SELECTOR = By.xpath("//a[@class='top-nav__username']");
+
     /**
      * Default constructor.
      *
@@ -69,7 +78,7 @@ public class Unit3dHandler extends AbstractTrackerHandler {
     @Override
     public boolean canBannerBeCleared() {
         // Cookie banner
-        final WebElement cookieButton = driver.findElement(By.xpath("//button[contains(@class, 'cookie-consent__agree')]"));
+        final WebElement cookieButton = driver.findElement(COOKIE_BUTTON_SELECTOR);
         clickButton(cookieButton);
 
         // Move the mouse, or else a dropdown menu is highlighted and covers some of the page
@@ -77,6 +86,20 @@ public class Unit3dHandler extends AbstractTrackerHandler {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For {@link Unit3dHandler}-based trackers, the cookie banner is only shown until it has been accepted, so it is identified as a
+     * {@link PageState#BANNER} and only cleared if it is found.
+     */
+    @Override
+    public Map<PageState, By> pageStateSelectors() {
+        final Map<PageState, By> pageStateSelectors = super.pageStateSelectors();
+        pageStateSelectors.put(PageState.BANNER, COOKIE_BUTTON_SELECTOR);
+        return pageStateSelectors;
+    }
+
     @Override
     protected By profilePageSelector() {
         // Highlight the nav bar to make the profile button interactable
@@ -84,7 +107,47 @@ public class Unit3dHandler extends AbstractTrackerHandler {
         final WebElement profileParent = driver.findElement(profileParentSelector);
         scriptExecutor.moveTo(profileParent);
 
-        return By.xpath("//a[@class='top-nav__username']");
+        return PROFILE_LINK_SELECTOR;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For {@link Unit3dHandler}-based trackers, the profile page is {@code users/<username>}, with the username taken from the link to the profile
+     * page, so the navigation bar does not need to be hovered over. This is resolved from the home page, which is the post-login page.
+     */
+    @Override
+    protected UrlTemplate profilePageUrlTemplate() {
+        return UrlTemplate.of("users/{user}", new UrlParameter("user", PROFILE_LINK_SELECTOR, Pattern.compile("/users/([^/?#]+)")));
+    }
+
+    @Override
+    public Map<ProfileStatistic, By> profileStatisticSelectors() {
+        return Map.of(
+            ProfileStatistic.UPLOAD, By.xpath("//div[dt[normalize-space()='Upload']]/dd[1]"),
+            ProfileStatistic.DOWNLOAD, By.xpath("//div[dt[normalize-space()='Download']]/dd[1]"),
+            ProfileStatistic.RATIO, By.xpath("//div[dt[normalize-space()='Ratio']]/dd[1]"),
+            ProfileStatistic.BUFFER, By.xpath("//div[dt[normalize-space()='Buffer']]/dd[1]"),
+            ProfileStatistic.BONUS_POINTS, By.xpath("//div[dt[normalize-space()='Bonus Points']]/dd[1]"),
+            ProfileStatistic.USER_CLASS, By.xpath("//div[dt[normalize-space()='Group']]/dd[1]")
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For {@link Unit3dHandler}-based trackers, the {@link ProfileStatistic#RATIO} and {@link ProfileStatistic#BUFFER} are calculated from the
+     * upload and download values, so only the underlying values are considered meaningful.
+     */
+    @Override
+    public Collection<ProfileStatistic> significantProfileStatistics() {
+        return List.of(
+            ProfileStatistic.UPLOAD,
+            ProfileStatistic.DOWNLOAD,
+            ProfileStatistic.USER_CLASS
+        );
     }
 
     @Override
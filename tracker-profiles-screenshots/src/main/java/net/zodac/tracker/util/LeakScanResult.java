@@ -0,0 +1,42 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sensitive information found on a web page by {@link ScriptExecutor#scanForLeaks(net.zodac.tracker.framework.LeakScanMode, java.time.Duration)}.
+ * No found values are retained, only their type and location.
+ *
+ * @param findingsByType the number of matches found for each type of sensitive information
+ * @param locations      the location of each match, in the format {@code type in <tag>} or {@code type in <tag attribute>}
+ * @param complete       whether the entire web page was scanned before the time budget was exceeded
+ * @param nodesScanned   the number of HTML elements and text nodes that were scanned
+ */
+public record LeakScanResult(Map<String, Integer> findingsByType, List<String> locations, boolean complete, long nodesScanned) {
+
+    /**
+     * Checks whether any sensitive information was found on the web page.
+     *
+     * @return {@code true} if no sensitive information was found
+     */
+    public boolean isEmpty() {
+        return findingsByType.isEmpty();
+    }
+}
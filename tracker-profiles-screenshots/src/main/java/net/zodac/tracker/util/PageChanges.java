@@ -0,0 +1,38 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.util.List;
+
+/**
+ * The changes made to a web page while they were being tracked by {@link ScriptExecutor#startTrackingChanges()}.
+ *
+ * @param pageHeight    the height of the web page (in pixels) once the changes were made
+ * @param changedRanges the vertical range {@code [top, bottom]} (in pixels, relative to the top of the web page) of each changed element
+ */
+public record PageChanges(long pageHeight, List<List<Long>> changedRanges) {
+
+    /**
+     * Checks whether any visible element on the web page was changed.
+     *
+     * @return {@code true} if no visible element was changed
+     */
+    public boolean isEmpty() {
+        return changedRanges.isEmpty();
+    }
+}
@@ -17,6 +17,8 @@
 
 package net.zodac.tracker.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -33,6 +35,14 @@ public final class PatternMatcher {
     private static final Pattern IPV4 = Pattern.compile("((25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)");
     private static final Pattern IPV4_MASKED = Pattern.compile("((25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)\\.){2}x\\.x"); // Only for HDBits
     private static final Pattern IPV6 = Pattern.compile("([0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}");
+    private static final Pattern PASSKEY = Pattern.compile("\\b[0-9a-fA-F]{32}\\b");
+
+    // Word boundaries are added to the IPv4 pattern to avoid matching longer dotted values, like version numbers
+    private static final Map<String, Pattern> LEAK_PATTERNS = Map.of(
+        "email", EMAIL,
+        "ipAddress", Pattern.compile(String.format("\\b(%s)\\b|%s", IPV4.pattern(), IPV6.pattern())),
+        "passkey", PASSKEY
+    );
 
     private PatternMatcher() {
 
@@ -61,6 +71,21 @@ public final class PatternMatcher {
             || IPV6.matcher(input).find();
     }
 
+    /**
+     * Retrieves the {@link Pattern}s used to scan an entire web page for any sensitive information that was not redacted, keyed by the type of
+     * information. The {@link Pattern}s only use syntax that is shared by Java and JavaScript, so they can be evaluated in the browser.
+     *
+     * @return the source of each {@link Pattern}, keyed by the type of sensitive information
+     * @see ScriptExecutor#scanForLeaks(net.zodac.tracker.framework.LeakScanMode, java.time.Duration)
+     */
+    public static Map<String, String> leakPatterns() {
+        final Map<String, String> leakPatterns = new HashMap<>();
+        for (final Map.Entry<String, Pattern> leakPattern : LEAK_PATTERNS.entrySet()) {
+            leakPatterns.put(leakPattern.getKey(), leakPattern.getValue().pattern());
+        }
+        return leakPatterns;
+    }
+
     /**
      * Replaces any matches email addresses or IP addresses in the provided {@link String}.
      *
@@ -75,4 +100,16 @@ public final class PatternMatcher {
             .replaceAll(IPV4_MASKED.pattern(), DEFAULT_REDACTION_TEXT)
             .replaceAll(IPV6.pattern(), DEFAULT_REDACTION_TEXT);
     }
+
+    /**
+     * Replaces any email addresses, IP addresses or passkeys in the provided {@link String}. This is intended for the HTML of an entire web page,
+     * where the sensitive information may be in any element or attribute.
+     *
+     * @param input the {@link String} to clean
+     * @return the cleaned {@link String}
+     * @see #replaceEmailAndIpAddresses(String)
+     */
+    public static String replaceAllSensitiveInformation(final String input) {
+        return PASSKEY.matcher(replaceEmailAndIpAddresses(input)).replaceAll(DEFAULT_REDACTION_TEXT);
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+/**
+ * The result of applying a {@link net.zodac.tracker.framework.redaction.RedactionRule} to a web page with
+ * {@link ScriptExecutor#applyRedactionRules(java.util.List)}.
+ *
+ * @param matchCount     the number of HTML elements that were redacted
+ * @param remainingCount the number of HTML elements that still contain text matching the rule after the replacement (like a value split across
+ *                       multiple text nodes), so are not redacted
+ */
+public record RedactionRuleResult(int matchCount, int remainingCount) {
+
+}
@@ -17,14 +17,38 @@
 
 package net.zodac.tracker.util;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import javax.imageio.ImageIO;
 import net.zodac.tracker.framework.ApplicationConfiguration;
 import net.zodac.tracker.framework.Configuration;
+import net.zodac.tracker.framework.OutputFormat;
+import net.zodac.tracker.framework.telemetry.Step;
+import net.zodac.tracker.framework.telemetry.StepTimer;
+import net.zodac.tracker.framework.telemetry.jfr.ScreenshotEncodedEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Pdf;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.print.PageMargin;
+import org.openqa.selenium.print.PageSize;
+import org.openqa.selenium.print.PrintOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
@@ -35,7 +59,11 @@ import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
 public final class ScreenshotTaker {
 
     private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
     private static final Duration TIME_BETWEEN_SCROLLS = Duration.ofMillis(500L);
+    private static final double CENTIMETRES_PER_PIXEL = 2.54D / 96.0D;
+    private static final Color REDACTION_BOX_COLOUR = Color.RED;
+    private static final String DEVTOOLS_SCREENSHOT_FORMAT = "png";
 
     private ScreenshotTaker() {
 
@@ -57,14 +85,288 @@ public final class ScreenshotTaker {
      * @see ScriptExecutor#scrollToTheTop()
      */
     public static File takeScreenshot(final RemoteWebDriver driver, final String trackerName) throws IOException {
+        return takeScreenshot(driver, trackerName, OutputFormat.PNG);
+    }
+
+    /**
+     * Saves the current web page loaded by the {@link RemoteWebDriver} in the requested {@link OutputFormat}:
+     * <ul>
+     *     <li>{@link OutputFormat#PNG}: a screenshot of the browser viewport, stitched together by scrolling through the web page</li>
+     *     <li>{@link OutputFormat#PDF}: the web page printed to a single-page PDF, sized to fit the entire web page</li>
+     * </ul>
+     *
+     * <p>
+     * The file will be saved in the {@link ApplicationConfiguration#outputDirectory()}, with the file name {@code trackerName.<extension>}.
+     *
+     * @param driver       the {@link RemoteWebDriver} with the loaded web page
+     * @param trackerName  the name of the tracker having a screenshot taken (used as the file name)
+     * @param outputFormat the {@link OutputFormat} to save the web page in
+     * @return the {@link File} instance of the saved screenshot
+     * @throws IOException thrown if an error occurs saving the screenshot to the file system
+     */
+    public static File takeScreenshot(final RemoteWebDriver driver, final String trackerName, final OutputFormat outputFormat) throws IOException {
+        return takeScreenshot(driver, trackerName, outputFormat, List.of());
+    }
+
+    /**
+     * Saves the current web page loaded by the {@link RemoteWebDriver} in the requested {@link OutputFormat}, as with
+     * {@link #takeScreenshot(RemoteWebDriver, String, OutputFormat)}, with an opaque box covering each of the {@code redactionBoxes}:
+     * <ul>
+     *     <li>{@link OutputFormat#PNG}: the boxes are painted onto the image before it is saved, so the web page is not changed</li>
+     *     <li>{@link OutputFormat#PDF}: the boxes are not used, since the text under them would still be in the PDF, so the text must be redacted
+     *     with {@link ScriptExecutor#redactTextOfBoxedElements()} before the web page is printed</li>
+     * </ul>
+     *
+     * @param driver         the {@link RemoteWebDriver} with the loaded web page
+     * @param trackerName    the name of the tracker having a screenshot taken (used as the file name)
+     * @param outputFormat   the {@link OutputFormat} to save the web page in
+     * @param redactionBoxes the {@link Rectangle} of each box to redact, relative to the top-left of the web page
+     * @return the {@link File} instance of the saved screenshot
+     * @throws IOException thrown if an error occurs saving the screenshot to the file system
+     * @see ScriptExecutor#retrieveRedactionBoxes()
+     */
+    public static File takeScreenshot(final RemoteWebDriver driver, final String trackerName, final OutputFormat outputFormat,
+                                      final Collection<Rectangle> redactionBoxes) throws IOException {
+        return switch (outputFormat) {
+            case PNG -> takePngScreenshot(driver, trackerName, redactionBoxes);
+            case PDF -> printToPdf(driver, trackerName);
+        };
+    }
+
+    private static File takePngScreenshot(final RemoteWebDriver driver, final String trackerName, final Collection<Rectangle> redactionBoxes)
+        throws IOException {
         final ScriptExecutor scriptExecutor = new ScriptExecutor(driver);
         final BufferedImage screenshotImage = takeScreenshotOfEntirePage(driver, scriptExecutor);
-        final File screenshot = new File(CONFIG.outputDirectory().toAbsolutePath() + File.separator + trackerName + ".png");
-        ImageIO.write(screenshotImage, "PNG", screenshot);
+        paintRedactionBoxes(screenshotImage, redactionBoxes);
+        final File screenshot = screenshotFile(trackerName, OutputFormat.PNG);
+        encodePng(screenshotImage, screenshot, trackerName);
         scriptExecutor.scrollToTheTop();
         return screenshot;
     }
 
+    /**
+     * Captures an image of the entire web page loaded by the {@link RemoteWebDriver}, in the same way as
+     * {@link #takeScreenshot(RemoteWebDriver, String)}, but does not save it to the file system.
+     *
+     * @param driver the {@link RemoteWebDriver} with the loaded web page
+     * @return the {@link BufferedImage} of the entire web page
+     */
+    public static BufferedImage captureEntirePage(final RemoteWebDriver driver) {
+        final ScriptExecutor scriptExecutor = new ScriptExecutor(driver);
+        final BufferedImage image = takeScreenshotOfEntirePage(driver, scriptExecutor);
+        scriptExecutor.scrollToTheTop();
+        return image;
+    }
+
+    /**
+     * Captures a {@code .png} image of the entire web page loaded by the web browser in a single DevTools command, rather than scrolling through
+     * the viewport. This is much faster than {@link #captureEntirePage(RemoteWebDriver)}, but no scroll events are triggered, so it should only be
+     * used for web pages that do not need to be scrolled to load their content (like a DOM snapshot, with no scripts to re-run).
+     *
+     * @param driver the web browser with the loaded web page, supporting DevTools commands
+     * @return the encoded {@code .png} image of the entire web page
+     */
+    public static byte[] captureEntirePageWithDevTools(final HasCdp driver) {
+        final Map<String, Object> layoutMetrics = driver.executeCdpCommand("Page.getLayoutMetrics", Map.of());
+        final Map<?, ?> contentSize = (Map<?, ?>) layoutMetrics.get("cssContentSize");
+
+        final Map<String, Object> clip = Map.of(
+            "x", 0,
+            "y", 0,
+            "width", contentSize.get("width"),
+            "height", contentSize.get("height"),
+            "scale", 1
+        );
+        final Map<String, Object> screenshot = driver.executeCdpCommand("Page.captureScreenshot", Map.of(
+            "format", DEVTOOLS_SCREENSHOT_FORMAT,
+            "captureBeyondViewport", true,
+            "clip", clip
+        ));
+        return Base64.getDecoder().decode(String.valueOf(screenshot.get("data")));
+    }
+
+    /**
+     * Takes a screenshot of the current web page loaded by the {@link RemoteWebDriver}, by reusing an image of the same web page that was captured
+     * before some elements were changed. Rather than scrolling through the entire web page, only the viewport-sized tiles containing a changed
+     * element are captured again, and pasted over the {@code previousImage}. The file is saved in the same location as
+     * {@link #takeScreenshot(RemoteWebDriver, String)}.
+     *
+     * <p>
+     * This should only be used if the layout of the web page has not changed since the {@code previousImage} was captured (for example, the height
+     * of the web page is unchanged), otherwise the tiles will not line up.
+     *
+     * <p>
+     * The {@code pageChanges} and scroll positions are in CSS pixels, while the captured images are in device pixels, so the tiles are positioned
+     * using the device pixel ratio of the web browser.
+     *
+     * @param driver         the {@link RemoteWebDriver} with the loaded web page
+     * @param trackerName    the name of the tracker having a screenshot taken (used as the file name)
+     * @param previousImage  the {@link BufferedImage} of the web page before any elements were changed
+     * @param pageChanges    the {@link PageChanges} made since the {@code previousImage} was captured
+     * @param redactionBoxes the {@link Rectangle} of each box to redact, relative to the top-left of the web page
+     * @return the {@link File} instance of the saved screenshot
+     * @throws IOException thrown if an error occurs capturing a tile or saving the screenshot to the file system
+     * @see #captureEntirePage(RemoteWebDriver)
+     */
+    public static File takeScreenshotReusingUnchangedTiles(final RemoteWebDriver driver, final String trackerName, final BufferedImage previousImage,
+                                                           final PageChanges pageChanges, final Collection<Rectangle> redactionBoxes)
+        throws IOException {
+        final ScriptExecutor scriptExecutor = new ScriptExecutor(driver);
+        final long viewportHeight = scriptExecutor.viewportHeight();
+        final double devicePixelRatio = scriptExecutor.devicePixelRatio();
+        final Collection<Long> tileTops = new TreeSet<>();
+        for (final List<Long> changedRange : pageChanges.changedRanges()) {
+            final long firstTileTop = (changedRange.getFirst() / viewportHeight) * viewportHeight;
+            for (long tileTop = firstTileTop; tileTop < changedRange.getLast(); tileTop += viewportHeight) {
+                tileTops.add(tileTop);
+            }
+        }
+
+        final BufferedImage screenshotImage = new BufferedImage(previousImage.getWidth(), previousImage.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = screenshotImage.createGraphics();
+        try {
+            graphics.drawImage(previousImage, 0, 0, null);
+            scriptExecutor.disableScrolling();
+            for (final Long tileTop : tileTops) {
+                final long scrollPosition = scriptExecutor.scrollTo(tileTop);
+                ScriptExecutor.explicitWait(TIME_BETWEEN_SCROLLS);
+                final BufferedImage tile = ImageIO.read(new ByteArrayInputStream(driver.getScreenshotAs(OutputType.BYTES)));
+                graphics.drawImage(tile, 0, (int) Math.round(scrollPosition * devicePixelRatio), null);
+            }
+        } finally {
+            graphics.dispose();
+            scriptExecutor.enableScrolling("body");
+        }
+
+        final long tileHeight = Math.round(viewportHeight * devicePixelRatio);
+        LOGGER.debug("\t\t- Captured {} of {} tiles", tileTops.size(), (previousImage.getHeight() + tileHeight - 1) / tileHeight);
+        paintRedactionBoxes(screenshotImage, redactionBoxes);
+        final File screenshot = screenshotFile(trackerName, OutputFormat.PNG);
+        encodePng(screenshotImage, screenshot, trackerName);
+        scriptExecutor.scrollToTheTop();
+        return screenshot;
+    }
+
+    // Printed as a single page with the dimensions of the web page, so it is not split across multiple pages and no content is cut off
+    private static File printToPdf(final RemoteWebDriver driver, final String trackerName) throws IOException {
+        final List<Long> pageDimensions = new ScriptExecutor(driver).prepareForPrinting();
+
+        final PrintOptions printOptions = new PrintOptions();
+        printOptions.setBackground(true);
+        printOptions.setShrinkToFit(false);
+        printOptions.setPageMargin(new PageMargin(0.0D, 0.0D, 0.0D, 0.0D));
+        printOptions.setPageSize(new PageSize(pageDimensions.get(1) * CENTIMETRES_PER_PIXEL, pageDimensions.get(0) * CENTIMETRES_PER_PIXEL));
+
+        final Pdf pdf = driver.print(printOptions);
+        final File pdfFile = screenshotFile(trackerName, OutputFormat.PDF);
+        final ScreenshotEncodedEvent screenshotEncodedEvent = new ScreenshotEncodedEvent();
+        screenshotEncodedEvent.begin();
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.ENCODE)) {
+            Files.write(pdfFile.toPath(), Base64.getDecoder().decode(pdf.getContent()));
+        }
+        commit(screenshotEncodedEvent, trackerName, OutputFormat.PDF, pdfFile);
+        return pdfFile;
+    }
+
+    /**
+     * Rather than taking a new screenshot, links a previously saved screenshot into the {@code outputDirectory}. The file name will be
+     * {@code trackerName.<extension>}, using the same extension as the previous screenshot.
+     *
+     * <p>
+     * A hard link is created where possible, so no additional disk space is used. If the file system does not support hard links (or the previous
+     * screenshot is on a different file system), a symbolic link is created instead. If neither is possible, the previous screenshot is copied. If
+     * the previous screenshot is already the screenshot in the {@code outputDirectory}, it is left unchanged.
+     *
+     * @param previousScreenshot the {@link File} of the previously saved screenshot
+     * @param trackerName        the name of the tracker (used as the file name)
+     * @return the {@link File} instance of the linked screenshot
+     * @throws IOException thrown if an error occurs linking or copying the screenshot
+     */
+    public static File linkToPreviousScreenshot(final File previousScreenshot, final String trackerName) throws IOException {
+        final Path source = previousScreenshot.toPath().toAbsolutePath();
+        final String fileName = source.getFileName().toString();
+        final Path target = CONFIG.outputDirectory().toAbsolutePath().resolve(trackerName + fileName.substring(fileName.lastIndexOf('.')));
+
+        // The previous screenshot may already be in the output directory (like a rerun on the same day), in which case there is nothing to link
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            LOGGER.debug("Previous screenshot '{}' is already in the output directory", source);
+            return target.toFile();
+        }
+
+        // Linked under a temporary name and then moved into place, so an existing screenshot is only replaced once the link exists
+        final Path temporaryTarget = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.deleteIfExists(temporaryTarget);
+        linkOrCopy(source, temporaryTarget);
+        Files.move(temporaryTarget, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target.toFile();
+    }
+
+    private static void linkOrCopy(final Path source, final Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+            return;
+        } catch (final IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Unable to create hard link from '{}' to '{}'", target, source, e);
+        }
+
+        try {
+            Files.createSymbolicLink(target, source);
+            return;
+        } catch (final IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Unable to create symbolic link from '{}' to '{}'", target, source, e);
+        }
+
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Retrieves the {@link File} that a screenshot of the tracker will be saved to, in the {@link ApplicationConfiguration#outputDirectory()}. The
+     * file name will be {@code trackerName.<extension>}.
+     *
+     * @param trackerName  the name of the tracker
+     * @param outputFormat the {@link OutputFormat} of the screenshot
+     * @return the {@link File} for the screenshot
+     */
+    public static File screenshotFile(final String trackerName, final OutputFormat outputFormat) {
+        return new File(CONFIG.outputDirectory().toAbsolutePath() + File.separator + trackerName + "." + outputFormat.fileExtension());
+    }
+
+    private static void encodePng(final BufferedImage image, final File screenshot, final String trackerName) throws IOException {
+        final ScreenshotEncodedEvent screenshotEncodedEvent = new ScreenshotEncodedEvent();
+        screenshotEncodedEvent.begin();
+        try (final StepTimer.ActiveStep _ = StepTimer.start(trackerName, Step.ENCODE)) {
+            ImageIO.write(image, "PNG", screenshot);
+        }
+        commit(screenshotEncodedEvent, trackerName, OutputFormat.PNG, screenshot);
+    }
+
+    private static void commit(final ScreenshotEncodedEvent screenshotEncodedEvent, final String trackerName, final OutputFormat outputFormat,
+                               final File screenshot) {
+        screenshotEncodedEvent.end();
+        if (screenshotEncodedEvent.shouldCommit()) {
+            screenshotEncodedEvent.trackerName = trackerName;
+            screenshotEncodedEvent.format = outputFormat.toString();
+            screenshotEncodedEvent.size = screenshot.length();
+            screenshotEncodedEvent.commit();
+        }
+    }
+
+    private static void paintRedactionBoxes(final BufferedImage image, final Collection<Rectangle> redactionBoxes) {
+        if (redactionBoxes.isEmpty()) {
+            return;
+        }
+
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(REDACTION_BOX_COLOUR);
+            for (final Rectangle redactionBox : redactionBoxes) {
+                graphics.fillRect(redactionBox.getX(), redactionBox.getY(), redactionBox.getWidth(), redactionBox.getHeight());
+            }
+        } finally {
+            graphics.dispose();
+        }
+    }
+
     private static BufferedImage takeScreenshotOfEntirePage(final WebDriver driver, final ScriptExecutor scriptExecutor) {
         scriptExecutor.disableScrolling();
         final BufferedImage screenshot = new AShot()
@@ -22,14 +22,32 @@ import java.awt.Robot;
 import java.awt.event.KeyEvent;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+import net.zodac.tracker.framework.LeakScanMode;
+import net.zodac.tracker.framework.RedactionMode;
 import net.zodac.tracker.framework.exception.TranslationException;
+import net.zodac.tracker.framework.flow.PageState;
+import net.zodac.tracker.framework.login.LoginFailureSignature;
+import net.zodac.tracker.framework.redaction.RedactionRule;
+import net.zodac.tracker.framework.telemetry.NavigationTiming;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -49,16 +67,366 @@ public class ScriptExecutor {
      */
     public static final String DEFAULT_REDACTION_TEXT = "----";
 
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
     private static final Duration DEFAULT_WAIT_FOR_ALERT = Duration.of(2L, ChronoUnit.SECONDS);
     private static final Duration DEFAULT_WAIT_FOR_CONTEXT_MENU = Duration.of(500L, ChronoUnit.MILLIS);
     private static final Duration DEFAULT_WAIT_FOR_KEY_PRESS = Duration.of(250L, ChronoUnit.MILLIS);
     private static final Duration DEFAULT_WAIT_FOR_MOUSE_MOVE = Duration.of(1L, ChronoUnit.SECONDS);
     private static final Duration DEFAULT_WAIT_FOR_PAGE_LOAD = Duration.of(1L, ChronoUnit.SECONDS);
+    private static final Duration DEFAULT_LEAK_SCAN_TIME_BUDGET = Duration.of(250L, ChronoUnit.MILLIS);
     private static final Duration DEFAULT_WAIT_FOR_TRANSLATION = Duration.of(5000L, ChronoUnit.MILLIS);
+    private static final int MAX_HEAVIEST_RESOURCES = 5;
+    private static final int MAX_RECORDED_IMAGE_LENGTH = 256 * 1_024;
+    private static final String PLACEHOLDER_IMAGE = "data:image/gif;base64,R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7";
     private static final Pattern NEWLINE_PATTERN = Pattern.compile("\\r?\\n");
     private static final Logger LOGGER = LogManager.getLogger();
 
+    // Scripts
+    private static final String FIND_ELEMENTS_FUNCTION = """
+        const findElements = ([using, value], root = document) => {
+            let nodes;
+            if (using === 'xpath') {
+                const result = root.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                nodes = Array.from({ length: result.snapshotLength }, (_, i) => result.snapshotItem(i));
+            } else if (using === 'css selector') {
+                nodes = Array.from(root.querySelectorAll(value));
+            } else if (using === 'tag name') {
+                nodes = Array.from(root.getElementsByTagName(value));
+            } else if (using === 'link text') {
+                nodes = Array.from(root.getElementsByTagName('a')).filter(link => link.innerText.trim() === value);
+            } else if (using === 'partial link text') {
+                nodes = Array.from(root.getElementsByTagName('a')).filter(link => link.innerText.includes(value));
+            } else {
+                throw new Error(`Unsupported locator strategy '${using}'`);
+            }
+            return nodes.filter(node => node.nodeType === Node.ELEMENT_NODE);
+        };
+        """;
+    private static final String APPLY_REDACTION_RULES_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const [rules, boxMode] = arguments;
+        const matchCounts = [];
+        const remainingCounts = [];
+        const elementsToBox = [];
+        for (const [locator, patternSource, patternFlags, replacement] of rules) {
+            const pattern = patternSource === null ? null : new RegExp(patternSource, patternFlags);
+            let matchCount = 0;
+            let remainingCount = 0;
+            for (const element of findElements(locator)) {
+                if (pattern !== null && element.innerText.search(pattern) === -1) {
+                    continue;
+                }
+
+                if (boxMode) {
+                    matchCount++;
+                    elementsToBox.push(element);
+                } else if (pattern === null) {
+                    matchCount++;
+                    element.innerText = replacement;
+                } else {
+                    let replaced = false;
+                    const walker = document.createTreeWalker(element, NodeFilter.SHOW_TEXT);
+                    for (let node = walker.nextNode(); node; node = walker.nextNode()) {
+                        const value = node.nodeValue.replace(pattern, replacement);
+                        if (value !== node.nodeValue) {
+                            node.nodeValue = value;
+                            replaced = true;
+                        }
+                    }
+                    if (element.innerText.search(pattern) !== -1) {
+                        remainingCount++;
+                    } else if (replaced) {
+                        matchCount++;
+                    }
+                }
+            }
+            matchCounts.push(matchCount);
+            remainingCounts.push(remainingCount);
+        }
+        return { matchCounts: matchCounts, remainingCounts: remainingCounts, elementsToBox: elementsToBox };
+        """;
+    private static final String RECORD_PAGE_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const [rules, maxImageLength, originPlaceholder, placeholderImage] = arguments;
+        const copy = document.implementation.createHTMLDocument('');
+        copy.replaceChild(copy.importNode(document.documentElement, true), copy.documentElement);
+
+        const liveLinks = Array.from(document.querySelectorAll('link'));
+        const copyLinks = Array.from(copy.querySelectorAll('link'));
+        liveLinks.forEach((link, i) => {
+            let cssText = null;
+            try {
+                cssText = link.sheet ? Array.from(link.sheet.cssRules, rule => rule.cssText).join('\\n') : null;
+            } catch (e) {
+                cssText = null;
+            }
+            if (cssText === null) {
+                copyLinks[i].remove();
+            } else {
+                const style = copy.createElement('style');
+                style.textContent = cssText;
+                copyLinks[i].replaceWith(style);
+            }
+        });
+
+        const copyImages = Array.from(copy.images);
+        Array.from(document.images).forEach((image, i) => {
+            let dataUrl = null;
+            if (image.complete && image.naturalWidth > 0) {
+                try {
+                    const canvas = document.createElement('canvas');
+                    canvas.width = image.naturalWidth;
+                    canvas.height = image.naturalHeight;
+                    canvas.getContext('2d').drawImage(image, 0, 0);
+                    dataUrl = canvas.toDataURL('image/png');
+                } catch (e) {
+                    dataUrl = null;
+                }
+            }
+            if (dataUrl === null || dataUrl.length > maxImageLength) {
+                copyImages[i].setAttribute('width', image.width);
+                copyImages[i].setAttribute('height', image.height);
+                dataUrl = placeholderImage;
+            }
+            copyImages[i].removeAttribute('srcset');
+            copyImages[i].setAttribute('src', dataUrl);
+        });
+
+        copy.querySelectorAll('script, iframe').forEach(element => element.remove());
+        copy.querySelectorAll('input[type=password], input[type=hidden]').forEach(input => input.setAttribute('value', ''));
+        for (const [locator, patternSource, patternFlags, replacement] of rules) {
+            const pattern = patternSource === null ? null : new RegExp(patternSource, patternFlags);
+            for (const element of findElements(locator, copy)) {
+                if (pattern === null) {
+                    element.textContent = replacement;
+                } else {
+                    const walker = copy.createTreeWalker(element, NodeFilter.SHOW_TEXT);
+                    for (let node = walker.nextNode(); node; node = walker.nextNode()) {
+                        node.nodeValue = node.nodeValue.replace(pattern, replacement);
+                    }
+                }
+            }
+        }
+
+        for (const attribute of ['href', 'src', 'action']) {
+            copy.querySelectorAll(`[${attribute}]`).forEach(element => {
+                const value = element.getAttribute(attribute);
+                if (value.startsWith(location.origin)) {
+                    element.setAttribute(attribute, originPlaceholder + value.substring(location.origin.length));
+                } else if (value.startsWith('/') && !value.startsWith('//')) {
+                    element.setAttribute(attribute, originPlaceholder + value);
+                }
+            });
+        }
+        return '<!DOCTYPE html>\\n' + copy.documentElement.outerHTML;
+        """;
+    private static final String RETRIEVE_TEXT_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const text = {};
+        for (const [key, locator] of Object.entries(arguments[0])) {
+            const element = findElements(locator)[0];
+            text[key] = element ? element.innerText : null;
+        }
+        return text;
+        """;
+    private static final String FIND_PAGE_STATES_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const isVisible = element => element.getClientRects().length > 0;
+        return arguments[0]
+            .filter(([_, locator, visibleOnly]) => findElements(locator).some(element => !visibleOnly || isVisible(element)))
+            .map(([state]) => state);
+        """;
+    private static final String PROBE_LOGIN_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const [postLoginLocator, signatures] = arguments;
+        if (findElements(postLoginLocator).length > 0) {
+            return -1;
+        }
+
+        for (const [index, [locator, patternSource, patternFlags]] of signatures.entries()) {
+            const pattern = patternSource === null ? null : new RegExp(patternSource, patternFlags);
+            if (findElements(locator).some(element => pattern === null || pattern.test(element.innerText))) {
+                return index;
+            }
+        }
+        return null;
+        """;
+    private static final String RETRIEVE_LINKS_SCRIPT = FIND_ELEMENTS_FUNCTION + """
+        const links = {};
+        for (const [key, locator] of Object.entries(arguments[0])) {
+            const element = findElements(locator)[0];
+            links[key] = element ? element.getAttribute('href') : null;
+        }
+        return links;
+        """;
+    private static final String PREPARE_FOR_PRINTING_SCRIPT = """
+        for (const element of document.querySelectorAll('body *')) {
+            const position = window.getComputedStyle(element).position;
+            if (position === 'fixed' || position === 'sticky') {
+                element.setAttribute('data-print-static', '');
+            }
+        }
+        const style = document.createElement('style');
+        style.textContent = `
+            @media print {
+                [data-print-static] { position: static !important; }
+                * { -webkit-print-color-adjust: exact !important; print-color-adjust: exact !important; }
+            }
+        `;
+        document.head.appendChild(style);
+        return [document.documentElement.scrollWidth, document.documentElement.scrollHeight];
+        """;
+    private static final String RETRIEVE_REDACTION_BOXES_SCRIPT = """
+        const boxes = [];
+        const ratio = window.devicePixelRatio || 1;
+        for (const element of arguments[0]) {
+            for (const rect of element.getClientRects()) {
+                if (rect.width > 0 && rect.height > 0) {
+                    const left = Math.floor((rect.left + window.scrollX) * ratio);
+                    const top = Math.floor((rect.top + window.scrollY) * ratio);
+                    boxes.push([
+                        left,
+                        top,
+                        Math.ceil((rect.right + window.scrollX) * ratio) - left,
+                        Math.ceil((rect.bottom + window.scrollY) * ratio) - top
+                    ]);
+                }
+            }
+        }
+        return boxes;
+        """;
+    private static final int MAX_LEAK_LOCATIONS = 20;
+    private static final String SCAN_FOR_LEAKS_SCRIPT = """
+        const [patternSources, redact, timeBudget, redactionText, maxLocations, boxedElements] = arguments;
+        const deadline = performance.now() + timeBudget;
+        const patterns = Object.entries(patternSources).map(([type, source]) => [type, new RegExp(source, 'g')]);
+        const skippedTags = new Set(['NOSCRIPT', 'SCRIPT', 'STYLE', 'TEMPLATE']);
+        const skippedAttributes = new Set(['class', 'id', 'integrity', 'nonce', 'src', 'srcset', 'style']);
+        const skippedElements = new Set(boxedElements);
+        const findings = {};
+        const locations = [];
+
+        const scan = (value, location) => {
+            let updated = value;
+            for (const [type, pattern] of patterns) {
+                const matches = updated.match(pattern);
+                if (!matches) {
+                    continue;
+                }
+                findings[type] = (findings[type] || 0) + matches.length;
+                if (locations.length < maxLocations) {
+                    locations.push(`${type} in ${location}`);
+                }
+                if (redact) {
+                    updated = updated.replace(pattern, redactionText);
+                }
+            }
+            return updated;
+        };
+
+        const walker = document.createTreeWalker(document.body, NodeFilter.SHOW_ELEMENT | NodeFilter.SHOW_TEXT, {
+            acceptNode: node => node.nodeType === Node.ELEMENT_NODE && (skippedTags.has(node.tagName) || skippedElements.has(node))
+                ? NodeFilter.FILTER_REJECT
+                : NodeFilter.FILTER_ACCEPT
+        });
+
+        let nodesScanned = 0;
+        let complete = true;
+        for (let node = walker.currentNode; node; node = walker.nextNode()) {
+            if (++nodesScanned % 64 === 0 && performance.now() > deadline) {
+                complete = false;
+                break;
+            }
+
+            if (node.nodeType === Node.TEXT_NODE) {
+                const updated = scan(node.nodeValue, `<${node.parentElement ? node.parentElement.tagName.toLowerCase() : 'body'}>`);
+                if (updated !== node.nodeValue) {
+                    node.nodeValue = updated;
+                }
+                continue;
+            }
+
+            for (const attribute of Array.from(node.attributes)) {
+                if (skippedAttributes.has(attribute.name)) {
+                    continue;
+                }
+                const updated = scan(attribute.value, `<${node.tagName.toLowerCase()} ${attribute.name}>`);
+                if (updated !== attribute.value) {
+                    node.setAttribute(attribute.name, updated);
+                }
+            }
+        }
+        return { findings: findings, locations: locations, complete: complete, nodesScanned: nodesScanned };
+        """;
+    private static final String RETRIEVE_NAVIGATION_TIMING_SCRIPT = """
+        const withoutQuery = url => {
+            try {
+                const parsed = new URL(url);
+                return parsed.origin + parsed.pathname;
+            } catch (e) {
+                return '';
+            }
+        };
+        const navigation = performance.getEntriesByType('navigation')[0];
+        const resources = performance.getEntriesByType('resource');
+        const heaviestResources = resources
+            .map(resource => ({
+                url: withoutQuery(resource.name),
+                initiatorType: resource.initiatorType,
+                transferSize: resource.transferSize || resource.encodedBodySize || 0,
+                duration: resource.duration
+            }))
+            .sort((first, second) => (second.transferSize - first.transferSize) || (second.duration - first.duration))
+            .slice(0, arguments[0]);
+        const sinceStart = time => navigation && time > 0 ? time - navigation.startTime : -1;
+        return {
+            page: withoutQuery(location.href),
+            ttfb: navigation ? sinceStart(navigation.responseStart) : -1,
+            domContentLoaded: navigation ? sinceStart(navigation.domContentLoadedEventEnd) : -1,
+            load: navigation ? sinceStart(navigation.loadEventEnd) : -1,
+            resourceCount: resources.length,
+            transferredBytes: resources.reduce((total, resource) => total + (resource.transferSize || 0), navigation ? navigation.transferSize : 0),
+            heaviestResources: heaviestResources
+        };
+        """;
+    private static final String START_TRACKING_CHANGES_SCRIPT = """
+        window.trackedChanges = [];
+        window.trackedChangesObserver = new MutationObserver(mutations => {
+            for (const mutation of mutations) {
+                const added = mutation.type === 'childList' ? Array.from(mutation.addedNodes) : [];
+                window.trackedChanges.push(...(added.length === 0 ? [mutation.target] : added));
+            }
+        });
+        window.trackedChangesObserver.observe(document.documentElement, {
+            attributes: true, characterData: true, childList: true, subtree: true
+        });
+        return document.documentElement.scrollHeight;
+        """;
+    private static final String STOP_TRACKING_CHANGES_SCRIPT = """
+        const observer = window.trackedChangesObserver;
+        const changes = window.trackedChanges || [];
+        if (observer) {
+            for (const mutation of observer.takeRecords()) {
+                const added = mutation.type === 'childList' ? Array.from(mutation.addedNodes) : [];
+                changes.push(...(added.length === 0 ? [mutation.target] : added));
+            }
+            observer.disconnect();
+        }
+
+        const ranges = [];
+        for (const node of changes) {
+            const element = node.nodeType === Node.ELEMENT_NODE ? node : node.parentElement;
+            if (!element || !element.isConnected) {
+                continue;
+            }
+            const rect = element.getBoundingClientRect();
+            if (rect.width > 0 && rect.height > 0) {
+                ranges.push([Math.floor(rect.top + window.scrollY), Math.ceil(rect.bottom + window.scrollY)]);
+            }
+        }
+        delete window.trackedChanges;
+        delete window.trackedChangesObserver;
+        return { pageHeight: document.documentElement.scrollHeight, ranges: ranges };
+        """;
+
     private final RemoteWebDriver driver;
+    private final List<WebElement> elementsToRedactWithBox = new ArrayList<>();
+    private final List<Runnable> textRedactionsOfBoxedElements = new ArrayList<>();
 
     /**
      * Constructor that takes in a {@link RemoteWebDriver}.
@@ -79,6 +447,90 @@ public class ScriptExecutor {
         alert.accept();
     }
 
+    /**
+     * Applies all {@link RedactionRule}s to the current web page in a single script execution, rather than performing a
+     * {@link RemoteWebDriver#findElement(By)} and script execution for each HTML element to be redacted.
+     *
+     * <p>
+     * If the {@link ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}, the text is not changed. Instead, the matching
+     * {@link WebElement}s are recorded, and an opaque box is drawn over them in the screenshot.
+     *
+     * <p>
+     * Text matching a {@link RedactionRule#pattern()} is replaced within each text node, so child HTML elements are retained. A match split across
+     * multiple text nodes cannot be replaced this way, so once the replacements are made the text of each HTML element is checked again, and any
+     * HTML element that still matches is reported as remaining rather than redacted.
+     *
+     * @param redactionRules the {@link RedactionRule}s to apply
+     * @return the {@link RedactionRuleResult} of each {@link RedactionRule}, in the same order as the input
+     * @see #retrieveRedactionBoxes()
+     */
+    public List<RedactionRuleResult> applyRedactionRules(final List<RedactionRule> redactionRules) {
+        if (redactionRules.isEmpty()) {
+            return List.of();
+        }
+
+        final boolean boxMode = CONFIG.redactionMode() == RedactionMode.BOX;
+        final List<List<@Nullable Object>> scriptRules = toScriptRules(redactionRules);
+        final Object result = driver.executeScript(APPLY_REDACTION_RULES_SCRIPT, scriptRules, boxMode);
+        if (!(result instanceof final Map<?, ?> resultMap)) {
+            throw new IllegalStateException(String.format("Unable to apply redaction rules to web page, found: %s", result));
+        }
+
+        if (resultMap.get("elementsToBox") instanceof final List<?> elementsToBox) {
+            for (final Object element : elementsToBox) {
+                if (element instanceof final WebElement webElement) {
+                    elementsToRedactWithBox.add(webElement);
+                }
+            }
+        }
+
+        if (boxMode) {
+            textRedactionsOfBoxedElements.add(() -> driver.executeScript(APPLY_REDACTION_RULES_SCRIPT, scriptRules, false));
+        }
+
+        final List<Integer> matchCounts = toCounts(resultMap.get("matchCounts"));
+        final List<Integer> remainingCounts = toCounts(resultMap.get("remainingCounts"));
+        final List<RedactionRuleResult> redactionRuleResults = new ArrayList<>();
+        for (int i = 0; i < matchCounts.size(); i++) {
+            redactionRuleResults.add(new RedactionRuleResult(matchCounts.get(i), i < remainingCounts.size() ? remainingCounts.get(i) : 0));
+        }
+        return redactionRuleResults;
+    }
+
+    private static List<Integer> toCounts(final @Nullable Object result) {
+        final List<Integer> counts = new ArrayList<>();
+        if (result instanceof final List<?> resultCounts) {
+            for (final Object count : resultCounts) {
+                counts.add(((Number) count).intValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Retrieves the HTML of the current web page so it can be replayed offline, without changing the web page itself. The HTML is taken from a copy
+     * of the current DOM, where:
+     * <ul>
+     *     <li>Stylesheets are inlined, and any other linked resources are removed</li>
+     *     <li>Images are inlined as data URLs, or replaced by a blank placeholder of the same size if they cannot be read or are too large</li>
+     *     <li>Scripts and frames are removed, and any password or hidden fields are cleared</li>
+     *     <li>The {@link RedactionRule}s are applied to the text, regardless of the {@link ApplicationConfiguration#redactionMode()}</li>
+     *     <li>Any URL on the tracker is prefixed by the {@code originPlaceholder} instead of the tracker's origin</li>
+     * </ul>
+     *
+     * @param redactionRules    the {@link RedactionRule}s to apply
+     * @param originPlaceholder the text to replace the origin of the tracker with in all URLs
+     * @return the HTML of the copy of the web page
+     */
+    public String retrieveHtmlForRecording(final List<RedactionRule> redactionRules, final String originPlaceholder) {
+        final Object result = driver.executeScript(RECORD_PAGE_SCRIPT, toScriptRules(redactionRules), MAX_RECORDED_IMAGE_LENGTH, originPlaceholder,
+            PLACEHOLDER_IMAGE);
+        if (!(result instanceof final String html)) {
+            throw new IllegalStateException(String.format("Unable to retrieve HTML of web page, found: %s", result));
+        }
+        return html;
+    }
+
     /**
      * Disables scrolling on the current webpage, to remove the scrollbar from the screenshot.
      */
@@ -150,15 +602,43 @@ public class ScriptExecutor {
         moveTo(0, 0);
     }
 
+    /**
+     * Prepares the current web page to be printed to a PDF. Any fixed or sticky elements (like headers) would otherwise be printed over the content
+     * of the page, so a print-only stylesheet is added to make them static. Background colours and images are also forced to be printed.
+     *
+     * @return the {@code [width, height]} of the web page in pixels, to be used as the page size when printing
+     */
+    public List<Long> prepareForPrinting() {
+        final Object result = driver.executeScript(PREPARE_FOR_PRINTING_SCRIPT);
+        if (result instanceof final List<?> dimensions && dimensions.size() == 2) {
+            return List.of(((Number) dimensions.get(0)).longValue(), ((Number) dimensions.get(1)).longValue());
+        }
+        throw new IllegalStateException(String.format("Unable to retrieve dimensions of web page, found: %s", result));
+    }
+
     /**
      * Updates the text of the provided {@link WebElement} and replaces the value with {@code #redactionText}. This can be valuable when trying to
      * hide/redact sensitive information like IP addresses.
      *
+     * <p>
+     * If the {@link ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}, the web page is not updated. Instead, the
+     * {@link WebElement} is recorded, to be retrieved by {@link #retrieveRedactionBoxes()}.
+     *
      * @param element       the {@link WebElement} to redact
      * @param redactionText the text to replace the existing text in the {@link WebElement}
      */
     public void redactInnerTextOf(final WebElement element, final String redactionText) {
         LOGGER.info("\t\t- Found: '{}' in <{}>", NEWLINE_PATTERN.matcher(element.getText()).replaceAll(""), element.getTagName());
+        if (CONFIG.redactionMode() == RedactionMode.BOX) {
+            elementsToRedactWithBox.add(element);
+            textRedactionsOfBoxedElements.add(() -> replaceInnerTextOf(element, redactionText));
+            return;
+        }
+
+        replaceInnerTextOf(element, redactionText);
+    }
+
+    private void replaceInnerTextOf(final WebElement element, final String redactionText) {
         driver.executeScript(String.format("arguments[0].innerText = '%s'", redactionText), element);
     }
 
@@ -167,12 +647,25 @@ public class ScriptExecutor {
      * {@link PatternMatcher#replaceEmailAndIpAddresses(String)}. This can be valuable when trying to hide/redact sensitive information. This will
      * attempt to retain all other text and HTML elements in the provided {@link WebElement}.
      *
+     * <p>
+     * If the {@link ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX}, the web page is not updated. Instead, the
+     * {@link WebElement} is recorded, to be retrieved by {@link #retrieveRedactionBoxes()}.
+     *
      * @param element the {@link WebElement} to redact
      * @see PatternMatcher#replaceEmailAndIpAddresses(String)
      */
     public void redactHtmlOf(final WebElement element) {
         LOGGER.info("\t\t- Found: '{}' in <{}>", NEWLINE_PATTERN.matcher(element.getText()).replaceAll(""), element.getTagName());
+        if (CONFIG.redactionMode() == RedactionMode.BOX) {
+            elementsToRedactWithBox.add(element);
+            textRedactionsOfBoxedElements.add(() -> replaceHtmlOf(element));
+            return;
+        }
+
+        replaceHtmlOf(element);
+    }
 
+    private void replaceHtmlOf(final WebElement element) {
         String htmlContent = (String) driver.executeScript("return arguments[0].outerHTML", element);
         if (htmlContent == null) {
             htmlContent = "";
@@ -190,7 +683,14 @@ public class ScriptExecutor {
         return escapeForJavaScriptString(PatternMatcher.replaceEmailAndIpAddresses(elementText));
     }
 
-    private static String escapeForJavaScriptString(final String input) {
+    /**
+     * Escapes the {@code input} so it can be safely embedded within a single-quoted (or double-quoted) JavaScript string literal. Carriage returns
+     * are removed and line feeds are replaced by an escaped {@code \n}.
+     *
+     * @param input the {@link String} to escape
+     * @return the escaped {@link String}
+     */
+    public static String escapeForJavaScriptString(final String input) {
         return input
             .replace("\\", "\\\\")
             .replace("'", "\\'")
@@ -199,6 +699,56 @@ public class ScriptExecutor {
             .replace("\n", "\\n");
     }
 
+    /**
+     * Retrieves the location of every {@link WebElement} recorded for redaction while the {@link ApplicationConfiguration#redactionMode()} is
+     * {@link RedactionMode#BOX}, in a single script execution. An element spanning multiple lines may have multiple boxes.
+     *
+     * @return the {@link Rectangle} of each box to be redacted in device pixels (matching a screenshot), relative to the top-left of the web page
+     * @see #redactInnerTextOf(WebElement, String)
+     * @see #redactHtmlOf(WebElement)
+     */
+    public List<Rectangle> retrieveRedactionBoxes() {
+        if (elementsToRedactWithBox.isEmpty()) {
+            return List.of();
+        }
+
+        final Object result = driver.executeScript(RETRIEVE_REDACTION_BOXES_SCRIPT, elementsToRedactWithBox);
+        final List<Rectangle> redactionBoxes = new ArrayList<>();
+        if (result instanceof final List<?> boxes) {
+            for (final Object box : boxes) {
+                if (box instanceof final List<?> dimensions && dimensions.size() == 4) {
+                    redactionBoxes.add(new Rectangle(
+                        ((Number) dimensions.get(0)).intValue(),
+                        ((Number) dimensions.get(1)).intValue(),
+                        ((Number) dimensions.get(3)).intValue(),
+                        ((Number) dimensions.get(2)).intValue()
+                    ));
+                }
+            }
+        }
+        return redactionBoxes;
+    }
+
+    /**
+     * Replaces the text of every {@link WebElement} recorded for redaction while the {@link ApplicationConfiguration#redactionMode()} is
+     * {@link RedactionMode#BOX}, in the same way as {@link RedactionMode#TEXT}. This is used for output that is not an image of the web page (like a
+     * PDF or a DOM snapshot), where a box drawn over the text would still leave the text itself in the file.
+     *
+     * <p>
+     * This should be called after {@link #retrieveRedactionBoxes()}, since replacing the text may change the location of the {@link WebElement}s.
+     * Each recorded {@link WebElement} is only redacted once, so any later calls have no effect.
+     *
+     * @see #redactInnerTextOf(WebElement, String)
+     * @see #redactHtmlOf(WebElement)
+     * @see #applyRedactionRules(List)
+     */
+    public void redactTextOfBoxedElements() {
+        for (final Runnable textRedaction : textRedactionsOfBoxedElements) {
+            textRedaction.run();
+        }
+        textRedactionsOfBoxedElements.clear();
+    }
+
     /**
      * Remove an HTML attribute from the {@link WebElement}.
      *
@@ -210,6 +760,209 @@ public class ScriptExecutor {
         driver.executeScript(script, element);
     }
 
+    /**
+     * Retrieves the inner text of multiple {@link WebElement}s in a single script execution, rather than performing a
+     * {@link RemoteWebDriver#findElement(By)} and {@link WebElement#getText()} for each {@link WebElement}. Only the first {@link WebElement} for
+     * each {@link By} selector is used.
+     *
+     * @param selectors the {@link By} selectors of the {@link WebElement}s, keyed by a name for the text to be retrieved
+     * @return the text of each {@link WebElement} keyed by the same name as the input, or {@code null} if no {@link WebElement} was found
+     */
+    public Map<String, @Nullable String> retrieveTextOf(final Map<String, By> selectors) {
+        final Map<String, List<String>> locators = new HashMap<>();
+        for (final Map.Entry<String, By> selector : selectors.entrySet()) {
+            locators.put(selector.getKey(), toLocator(selector.getValue()));
+        }
+
+        final Object result = driver.executeScript(RETRIEVE_TEXT_SCRIPT, locators);
+        final Map<String, @Nullable String> text = new HashMap<>();
+        if (result instanceof final Map<?, ?> resultMap) {
+            for (final Map.Entry<?, ?> entry : resultMap.entrySet()) {
+                text.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Retrieves the {@code href} of multiple links in a single script execution, rather than performing a {@link RemoteWebDriver#findElement(By)}
+     * and {@link WebElement#getDomAttribute(String)} for each link. Only the first {@link WebElement} for each {@link By} selector is used, and the
+     * link does not need to be visible.
+     *
+     * @param selectors the {@link By} selectors of the links, keyed by a name for the {@code href} to be retrieved
+     * @return the {@code href} of each link keyed by the same name as the input, or {@code null} if no link was found
+     */
+    public Map<String, @Nullable String> retrieveLinksOf(final Map<String, By> selectors) {
+        final Map<String, List<String>> locators = new HashMap<>();
+        for (final Map.Entry<String, By> selector : selectors.entrySet()) {
+            locators.put(selector.getKey(), toLocator(selector.getValue()));
+        }
+
+        final Object result = driver.executeScript(RETRIEVE_LINKS_SCRIPT, locators);
+        final Map<String, @Nullable String> links = new HashMap<>();
+        if (result instanceof final Map<?, ?> resultMap) {
+            for (final Map.Entry<?, ?> entry : resultMap.entrySet()) {
+                links.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Finds which {@link PageState}s the current web page is in, by checking the {@link By} selector of every {@link PageState} in a single script
+     * execution. A {@link PageState} that is an obstacle is only found if one of its {@link WebElement}s is visible.
+     *
+     * @param selectors the {@link By} selectors used to identify each {@link PageState}
+     * @return the {@link PageState}s found on the web page
+     * @see PageState#isObstacle()
+     */
+    public Set<PageState> findPageStates(final Map<PageState, By> selectors) {
+        final List<List<Object>> states = new ArrayList<>();
+        for (final Map.Entry<PageState, By> selector : selectors.entrySet()) {
+            states.add(List.of(selector.getKey().name(), toLocator(selector.getValue()), selector.getKey().isObstacle()));
+        }
+
+        final Set<PageState> foundStates = EnumSet.noneOf(PageState.class);
+        if (driver.executeScript(FIND_PAGE_STATES_SCRIPT, states) instanceof final List<?> stateNames) {
+            for (final Object stateName : stateNames) {
+                foundStates.add(PageState.valueOf(String.valueOf(stateName)));
+            }
+        }
+        return foundStates;
+    }
+
+    /**
+     * Converts each {@link RedactionRule} into the {@code [locator, patternSource, patternFlags, replacement]} form evaluated by the redaction
+     * scripts in the browser. The {@code patternSource} is {@code null} if the {@link RedactionRule} has no {@link Pattern}, and the
+     * {@code patternFlags} are always global, so every match within an element is replaced.
+     *
+     * @param redactionRules the {@link RedactionRule}s to convert
+     * @return the converted {@link RedactionRule}s, in the same order as the input
+     * @throws IllegalArgumentException thrown if the {@link By} selector of any {@link RedactionRule} cannot be converted
+     * @see #toLocator(By)
+     */
+    private static List<List<@Nullable Object>> toScriptRules(final List<RedactionRule> redactionRules) {
+        final List<List<@Nullable Object>> rules = new ArrayList<>();
+        for (final RedactionRule redactionRule : redactionRules) {
+            final Pattern pattern = redactionRule.pattern();
+            final String patternFlags = pattern != null && (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "gi" : "g";
+            rules.add(Arrays.asList(toLocator(redactionRule.selector()), pattern == null ? null : pattern.pattern(), patternFlags,
+                redactionRule.replacement()));
+        }
+        return rules;
+    }
+
+    /**
+     * Converts a {@link By} selector into the {@code [using, value]} pair used by the W3C WebDriver specification, so it can be evaluated in the
+     * browser.
+     *
+     * @param selector the {@link By} selector
+     * @return the {@code [using, value]} pair
+     * @throws IllegalArgumentException thrown if the {@link By} selector cannot be converted
+     */
+    private static List<String> toLocator(final By selector) {
+        if (!(selector instanceof final By.Remotable remotableSelector)) {
+            throw new IllegalArgumentException(String.format("Unable to evaluate selector in the browser: %s", selector));
+        }
+
+        final By.Remotable.Parameters parameters = remotableSelector.getRemoteParameters();
+        return List.of(parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    /**
+     * Retrieves the browser-side timings of the current web page from the Navigation Timing and Resource Timing APIs, in a single script
+     * execution. This can be used to tell whether a slow web page is caused by the server (time to first byte) or by the resources it loads.
+     *
+     * @return the {@link NavigationTiming}
+     */
+    public NavigationTiming retrieveNavigationTiming() {
+        final Object result = driver.executeScript(RETRIEVE_NAVIGATION_TIMING_SCRIPT, MAX_HEAVIEST_RESOURCES);
+        if (!(result instanceof final Map<?, ?> resultMap)) {
+            throw new IllegalStateException(String.format("Unable to retrieve navigation timing of web page, found: %s", result));
+        }
+
+        final List<NavigationTiming.ResourceTiming> heaviestResources = new ArrayList<>();
+        if (resultMap.get("heaviestResources") instanceof final List<?> resources) {
+            for (final Object resource : resources) {
+                if (resource instanceof final Map<?, ?> resourceMap) {
+                    heaviestResources.add(new NavigationTiming.ResourceTiming(
+                        String.valueOf(resourceMap.get("url")),
+                        String.valueOf(resourceMap.get("initiatorType")),
+                        toNumber(resourceMap.get("transferSize")).longValue(),
+                        toNumber(resourceMap.get("duration")).doubleValue()
+                    ));
+                }
+            }
+        }
+
+        return new NavigationTiming(
+            String.valueOf(resultMap.get("page")),
+            toNumber(resultMap.get("ttfb")).doubleValue(),
+            toNumber(resultMap.get("domContentLoaded")).doubleValue(),
+            toNumber(resultMap.get("load")).doubleValue(),
+            toNumber(resultMap.get("resourceCount")).intValue(),
+            toNumber(resultMap.get("transferredBytes")).longValue(),
+            heaviestResources
+        );
+    }
+
+    private static Number toNumber(final @Nullable Object value) {
+        return value instanceof final Number number ? number : -1;
+    }
+
+    /**
+     * Scans every text node and HTML attribute of the current web page for any sensitive information that was not redacted, in a single script
+     * execution. The scan is abandoned once the {@code timeBudget} is exceeded, so a very large web page may only be partially scanned.
+     *
+     * <p>
+     * Any {@link WebElement} recorded for redaction while the {@link ApplicationConfiguration#redactionMode()} is {@link RedactionMode#BOX} is
+     * skipped, along with its children. Its text is intentionally left in the web page to be covered by a box, so it is neither reported nor
+     * replaced, and the layout of the web page is not changed under the box.
+     *
+     * @param leakScanMode the {@link LeakScanMode}, defining whether any sensitive information found is also replaced in the web page
+     * @param timeBudget   the maximum {@link Duration} of the scan
+     * @return the {@link LeakScanResult}
+     * @see PatternMatcher#leakPatterns()
+     */
+    public LeakScanResult scanForLeaks(final LeakScanMode leakScanMode, final Duration timeBudget) {
+        final boolean redact = leakScanMode == LeakScanMode.REDACT;
+        final Object result = driver.executeScript(SCAN_FOR_LEAKS_SCRIPT, PatternMatcher.leakPatterns(), redact, timeBudget.toMillis(),
+            DEFAULT_REDACTION_TEXT, MAX_LEAK_LOCATIONS, elementsToRedactWithBox);
+        if (!(result instanceof final Map<?, ?> resultMap)) {
+            throw new IllegalStateException(String.format("Unable to scan web page for sensitive information, found: %s", result));
+        }
+
+        final Map<String, Integer> findingsByType = new TreeMap<>();
+        if (resultMap.get("findings") instanceof final Map<?, ?> findings) {
+            for (final Map.Entry<?, ?> finding : findings.entrySet()) {
+                findingsByType.put(String.valueOf(finding.getKey()), ((Number) finding.getValue()).intValue());
+            }
+        }
+
+        final List<String> locations = new ArrayList<>();
+        if (resultMap.get("locations") instanceof final List<?> foundLocations) {
+            for (final Object location : foundLocations) {
+                locations.add(String.valueOf(location));
+            }
+        }
+
+        final boolean complete = Boolean.TRUE.equals(resultMap.get("complete"));
+        final long nodesScanned = ((Number) Objects.requireNonNull(resultMap.get("nodesScanned"))).longValue();
+        return new LeakScanResult(findingsByType, locations, complete, nodesScanned);
+    }
+
+    /**
+     * Scans every text node and HTML attribute of the current web page for any sensitive information that was not redacted, using the default
+     * time budget.
+     *
+     * @param leakScanMode the {@link LeakScanMode}, defining whether any sensitive information found is also replaced in the web page
+     * @return the {@link LeakScanResult}
+     * @see #scanForLeaks(LeakScanMode, Duration)
+     */
+    public LeakScanResult scanForLeaks(final LeakScanMode leakScanMode) {
+        return scanForLeaks(leakScanMode, DEFAULT_LEAK_SCAN_TIME_BUDGET);
+    }
+
     /**
      * Scrolls the page back to the top of the screen.
      */
@@ -218,6 +971,54 @@ public class ScriptExecutor {
         explicitWait(Duration.ofSeconds(1L)); // Wait 1 second to scroll back to the top
     }
 
+    /**
+     * Scrolls the page to the vertical position provided. If the position is beyond the bottom of the page, the browser will scroll as far as
+     * possible.
+     *
+     * @param y the vertical position (in pixels) to scroll to
+     * @return the actual vertical position (in pixels) of the top of the viewport after scrolling
+     */
+    public long scrollTo(final long y) {
+        final Object scrollPosition = driver.executeScript(String.format("window.scrollTo(0, %d); return window.scrollY;", y));
+        return ((Number) Objects.requireNonNull(scrollPosition)).longValue();
+    }
+
+    /**
+     * Starts tracking any changes made to the current web page, using a {@code MutationObserver}. The changes can be retrieved using
+     * {@link #stopTrackingChanges()}.
+     *
+     * @return the height of the web page (in pixels) before any changes are made
+     */
+    public long startTrackingChanges() {
+        final Object pageHeight = driver.executeScript(START_TRACKING_CHANGES_SCRIPT);
+        return ((Number) Objects.requireNonNull(pageHeight)).longValue();
+    }
+
+    /**
+     * Stops tracking changes made to the current web page, and retrieves the location of each changed element that is still visible on the page.
+     *
+     * @return the {@link PageChanges}
+     * @see #startTrackingChanges()
+     */
+    public PageChanges stopTrackingChanges() {
+        final Object result = driver.executeScript(STOP_TRACKING_CHANGES_SCRIPT);
+        if (!(result instanceof final Map<?, ?> resultMap)) {
+            throw new IllegalStateException(String.format("Unable to retrieve changes to web page, found: %s", result));
+        }
+
+        final List<List<Long>> changedRanges = new ArrayList<>();
+        if (resultMap.get("ranges") instanceof final List<?> ranges) {
+            for (final Object range : ranges) {
+                if (range instanceof final List<?> topAndBottom && topAndBottom.size() == 2) {
+                    changedRanges.add(List.of(((Number) topAndBottom.get(0)).longValue(), ((Number) topAndBottom.get(1)).longValue()));
+                }
+            }
+        }
+
+        final long pageHeight = ((Number) Objects.requireNonNull(resultMap.get("pageHeight"))).longValue();
+        return new PageChanges(pageHeight, changedRanges);
+    }
+
     /**
      * Stops the loading of the current web page.
      */
@@ -288,6 +1089,26 @@ public class ScriptExecutor {
         driver.executeScript(script, element);
     }
 
+    /**
+     * Retrieves the height of the browser viewport.
+     *
+     * @return the viewport height (in pixels)
+     */
+    public long viewportHeight() {
+        final Object viewportHeight = driver.executeScript("return window.innerHeight;");
+        return ((Number) Objects.requireNonNull(viewportHeight)).longValue();
+    }
+
+    /**
+     * Retrieves the ratio of device pixels (used by screenshots) to CSS pixels (used by scroll positions and element rectangles).
+     *
+     * @return the device pixel ratio
+     */
+    public double devicePixelRatio() {
+        final Object devicePixelRatio = driver.executeScript("return window.devicePixelRatio || 1;");
+        return ((Number) Objects.requireNonNull(devicePixelRatio)).doubleValue();
+    }
+
     /**
      * Waits for the page that the {@link WebDriver} is loading to find the wanted {@link WebElement}. If the {@code timeout} {@link Duration} is
      * exceeded, the execution will continue.
@@ -306,6 +1127,42 @@ public class ScriptExecutor {
         }
     }
 
+    /**
+     * Waits for the login to a tracker to complete, by waiting for the post-login {@link WebElement} to be found. While waiting, the web page is
+     * also checked for any of the {@link LoginFailureSignature}s, so a failed login is identified as soon as the error page is shown instead of
+     * waiting for the {@code timeout} {@link Duration} to be exceeded. The post-login {@link WebElement} and all {@link LoginFailureSignature}s are
+     * checked in a single script execution each time the web page is polled.
+     *
+     * @param postLoginSelector the {@link By} selector for the {@link WebElement} that is only shown after a successful login
+     * @param signatures        the {@link LoginFailureSignature}s to check, in order of priority
+     * @param timeout           the maximum {@link Duration} to wait
+     * @return the first matching {@link LoginFailureSignature}, or {@code null} if the login was successful
+     * @throws TimeoutException thrown if neither the post-login {@link WebElement} nor any {@link LoginFailureSignature} is found in time
+     */
+    @Nullable
+    public LoginFailureSignature waitForLogin(final By postLoginSelector, final List<LoginFailureSignature> signatures, final Duration timeout) {
+        final List<String> postLoginLocator = toLocator(postLoginSelector);
+        final List<List<@Nullable Object>> scriptSignatures = new ArrayList<>();
+        for (final LoginFailureSignature signature : signatures) {
+            final Pattern pattern = signature.pattern();
+            final String patternFlags = pattern != null && (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "i" : "";
+            scriptSignatures.add(Arrays.asList(toLocator(signature.selector()), pattern == null ? null : pattern.pattern(), patternFlags));
+        }
+
+        try {
+            final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
+            final Number result = wait.until(_ -> {
+                final Object probeResult = driver.executeScript(PROBE_LOGIN_SCRIPT, postLoginLocator, scriptSignatures);
+                return probeResult instanceof final Number index ? index : null;
+            });
+            final int index = result.intValue();
+            return index < 0 ? null : signatures.get(index);
+        } catch (final TimeoutException e) {
+            LOGGER.trace("Page source: {}", driver.getPageSource());
+            throw e;
+        }
+    }
+
     /**
      * Waits for the page that the {@link RemoteWebDriver} is loading to completely load. If the {@code timeout} {@link Duration} is exceeded, the
      * execution will continue.
@@ -0,0 +1,76 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import net.zodac.tracker.framework.ApplicationConfiguration;
+import net.zodac.tracker.framework.Configuration;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Utility class used to take a DOM snapshot of a website, which can be rendered into a screenshot at a later point, without needing to keep the
+ * original web page open.
+ */
+public final class SnapshotTaker {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+
+    private SnapshotTaker() {
+
+    }
+
+    /**
+     * Checks whether the {@link RemoteWebDriver} is able to take a DOM snapshot. This requires access to the Chrome DevTools Protocol, which is not
+     * available when attached to an existing web browser session.
+     *
+     * @param driver the {@link RemoteWebDriver} to check
+     * @return {@code true} if a DOM snapshot can be taken
+     */
+    public static boolean isSupported(final RemoteWebDriver driver) {
+        return driver instanceof HasCdp;
+    }
+
+    /**
+     * Takes a DOM snapshot of the current web page loaded by the {@link RemoteWebDriver}, using the DevTools {@code Page.captureSnapshot} command.
+     * The snapshot includes the current state of the DOM (so any redactions or translations are kept), along with any stylesheets and images,
+     * and is saved as a {@code .mhtml} file in the {@link ApplicationConfiguration#outputDirectory()}. The file name will be
+     * {@code trackerName.mhtml}.
+     *
+     * @param driver      the {@link RemoteWebDriver} with the loaded web page
+     * @param trackerName the name of the tracker having a snapshot taken (used as the file name)
+     * @return the {@link File} instance of the saved snapshot
+     * @throws IOException                   thrown if an error occurs saving the snapshot to the file system
+     * @throws UnsupportedOperationException thrown if the {@link RemoteWebDriver} does not support the Chrome DevTools Protocol
+     * @see #isSupported(RemoteWebDriver)
+     */
+    public static File takeSnapshot(final RemoteWebDriver driver, final String trackerName) throws IOException {
+        if (!(driver instanceof final HasCdp cdpDriver)) {
+            throw new UnsupportedOperationException(String.format("Unable to take snapshot with driver: %s", driver.getClass().getSimpleName()));
+        }
+
+        final Map<String, Object> result = cdpDriver.executeCdpCommand("Page.captureSnapshot", Map.of("format", "mhtml"));
+        final File snapshot = new File(CONFIG.outputDirectory().toAbsolutePath() + File.separator + trackerName + ".mhtml");
+        Files.writeString(snapshot.toPath(), String.valueOf(result.get("data")), StandardCharsets.UTF_8);
+        return snapshot;
+    }
+}
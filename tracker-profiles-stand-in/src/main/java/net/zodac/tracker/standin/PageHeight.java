@@ -0,0 +1,111 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Enum defining the height of the profile page served by each {@link StandInSite}, as a multiple of the web browser viewport height.
+ */
+public enum PageHeight {
+
+    /**
+     * The profile page fits within a single viewport.
+     */
+    SHORT(1),
+
+    /**
+     * The profile page is 5 times the viewport height.
+     */
+    TALL(5),
+
+    /**
+     * The profile page is 20 times the viewport height.
+     */
+    VERY_TALL(20);
+
+    /**
+     * All available {@link PageHeight}s.
+     *
+     * <p>
+     * Should be used instead of {@link PageHeight#values()}, as that recalculates the array for each call,
+     * while this method uses a static {@link Collection}.
+     */
+    public static final Collection<PageHeight> ALL_VALUES = List.of(values());
+
+    private static final int FULL_VIEWPORT_HEIGHT = 100;
+    private static final String FILLER_FORMAT = "<div class=\"stand-in-filler\" style=\"height: %dvh;\"></div>%n";
+
+    private final int viewportHeights;
+
+    PageHeight(final int viewportHeights) {
+        this.viewportHeights = viewportHeights;
+    }
+
+    /**
+     * Finds a {@link PageHeight} based on the input {@link String}. The search is case-insensitive, and any {@code -} is treated as a {@code _}.
+     *
+     * @param input the {@link PageHeight} as a {@link String}
+     * @return the matching {@link PageHeight}, or {@code null} if none is found
+     */
+    @Nullable
+    public static PageHeight find(final String input) {
+        return ALL_VALUES
+            .stream()
+            .filter(pageHeight -> pageHeight.name().equalsIgnoreCase(input.strip().replace('-', '_')))
+            .findAny()
+            .orElse(null);
+    }
+
+    /**
+     * Adds an empty element to the end of the HTML page, so the page is (at least) {@link #viewportHeights()} times the height of the viewport.
+     *
+     * @param html the HTML page
+     * @return the HTML page with the filler element
+     */
+    public String pad(final String html) {
+        if (viewportHeights <= 1) {
+            return html;
+        }
+
+        final String filler = String.format(FILLER_FORMAT, (viewportHeights - 1) * FULL_VIEWPORT_HEIGHT);
+        final int endOfBody = html.lastIndexOf("</body>");
+        return endOfBody == -1 ? (html + filler) : (html.substring(0, endOfBody) + filler + html.substring(endOfBody));
+    }
+
+    /**
+     * The height of the profile page, as a multiple of the viewport height.
+     *
+     * @return the number of viewport heights
+     */
+    public int viewportHeights() {
+        return viewportHeights;
+    }
+
+    /**
+     * Converts the {@link PageHeight} to lower-case, with any {@code _} replaced by a {@code -}.
+     *
+     * @return the formatted {@link PageHeight}
+     */
+    public String toLowerCase() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
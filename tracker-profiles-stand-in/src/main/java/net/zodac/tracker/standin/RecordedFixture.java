@@ -0,0 +1,101 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The pages of a real tracker, recorded by the application with {@code RECORD_PAGES} enabled, to be served in place of the bundled pages of a
+ * {@link StandInSite}. Each recorded page is served with the time to first byte of the real tracker as its latency.
+ *
+ * @param trackerName the name of the tracker the pages were recorded from
+ * @param pages       the content of each recorded page, keyed by page name
+ * @param latencies   the {@link Duration} to wait before serving each recorded page, keyed by page name (missing if no latency was recorded)
+ */
+record RecordedFixture(String trackerName, Map<String, String> pages, Map<String, Duration> latencies) {
+
+    private static final String FIXTURE_FILE_NAME = "fixture.json";
+    private static final String ORIGIN_PLACEHOLDER = "{{origin}}";
+
+    /**
+     * Finds the {@link RecordedFixture} for a {@link StandInSite}, in a subdirectory of {@code fixturesDirectory} named after any of the
+     * {@link StandInSite#trackerNames()} (case-insensitive). Any recorded URL is rewritten to point to the {@link StandInSite}.
+     *
+     * @param fixturesDirectory the directory containing the recordings of each tracker
+     * @param standInSite       the {@link StandInSite} to find a {@link RecordedFixture} for
+     * @return the {@link RecordedFixture}, or {@code null} if no recordings exist for the {@link StandInSite}
+     * @throws UncheckedIOException thrown if a {@link RecordedFixture} exists but cannot be loaded
+     */
+    @Nullable
+    static RecordedFixture find(final Path fixturesDirectory, final StandInSite standInSite) {
+        final File[] trackerDirectories = fixturesDirectory.toFile().listFiles(File::isDirectory);
+        if (trackerDirectories == null) {
+            return null;
+        }
+
+        for (final File trackerDirectory : trackerDirectories) {
+            final boolean isMatchingTracker = standInSite.trackerNames().stream().anyMatch(name -> name.equalsIgnoreCase(trackerDirectory.getName()));
+            if (isMatchingTracker && new File(trackerDirectory, FIXTURE_FILE_NAME).isFile()) {
+                return load(trackerDirectory.toPath(), standInSite);
+            }
+        }
+        return null;
+    }
+
+    private static RecordedFixture load(final Path trackerDirectory, final StandInSite standInSite) {
+        try {
+            final JsonObject fixture = JsonParser.parseString(Files.readString(trackerDirectory.resolve(FIXTURE_FILE_NAME), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+            if (!fixture.has("trackerName") || !fixture.has("pages")) {
+                throw new IOException(String.format("Invalid %s in '%s', requires 'trackerName' and 'pages'", FIXTURE_FILE_NAME, trackerDirectory));
+            }
+
+            final String origin = "/" + standInSite.contextPath();
+            final Map<String, String> pages = new HashMap<>();
+            final Map<String, Duration> latencies = new HashMap<>();
+            for (final Map.Entry<String, JsonElement> page : fixture.getAsJsonObject("pages").entrySet()) {
+                final String pageName = page.getKey();
+                final String html = Files.readString(trackerDirectory.resolve(pageName), StandardCharsets.UTF_8);
+                pages.put(pageName, html.replace(ORIGIN_PLACEHOLDER, origin));
+
+                final JsonElement latencyMillis = page.getValue().getAsJsonObject().get("latencyMillis");
+                if (latencyMillis != null) {
+                    latencies.put(pageName, Duration.ofMillis(latencyMillis.getAsLong()));
+                }
+            }
+            return new RecordedFixture(fixture.get("trackerName").getAsString(), Map.copyOf(pages), Map.copyOf(latencies));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final IllegalStateException | JsonParseException e) {
+            throw new UncheckedIOException(new IOException(String.format("Invalid %s in '%s'", FIXTURE_FILE_NAME, trackerDirectory), e));
+        }
+    }
+}
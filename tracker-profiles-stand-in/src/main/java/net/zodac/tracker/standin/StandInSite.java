@@ -0,0 +1,183 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin;
+
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Enum defining the stand-in tracker sites, each mimicking the pages of a family of tracker handlers. Each site is served under its own
+ * {@link #contextPath()}, with its pages saved as resources under {@code /sites/<contextPath>/}.
+ */
+public enum StandInSite {
+
+    /**
+     * Mimics {@code Gazelle}-based trackers, with a landing page linking to the login page.
+     */
+    GAZELLE("gazelle", List.of("Orpheus", "Redacted", "SecretCinema", "UHDBits"), false,
+        "landing.html", "/login.php", "/index.php", "/logout.php", "/", Map.of(
+            "/index.php", "home.html",
+            "/user.php", "profile.html"
+        )),
+
+    /**
+     * Mimics {@code UNIT3D}-based trackers, redirecting to the login page, with a cookie banner and a fixed header.
+     */
+    UNIT3D("unit3d", List.of("Aither", "FearNoPeer", "HDUnited", "LST", "ReelFlix", "SeedPool", "Unwalled"), false,
+        null, "/login", "/", "/logout", "/login", Map.of(
+            "/", "home.html",
+            "/users/benchmark_user", "profile.html"
+        )),
+
+    /**
+     * Mimics the {@code AvistaZ} network of trackers, with a landing page linking to the login page, a captcha field and a fixed header.
+     */
+    AVISTAZ("avistaz", List.of("AvistaZ", "CinemaZ", "PrivateHD"), true,
+        "landing.html", "/auth/login", "/home", "/logout", "/", Map.of(
+            "/home", "home.html",
+            "/profile/benchmark_user", "profile.html"
+        )),
+
+    /**
+     * Mimics {@code TBDev}-based trackers, redirecting to the login page.
+     */
+    TBDEV("tbdev", List.of("BwTorrents"), false,
+        null, "/login.php", "/index.php", "/logout.php", "/login.php", Map.of(
+            "/index.php", "home.html",
+            "/userdetails.php", "profile.html"
+        ));
+
+    /**
+     * The page served when the login page is requested with a {@code GET} request.
+     */
+    public static final String LOGIN_PAGE = "login.html";
+
+    /**
+     * The page served as the user's profile page, which is padded to the configured {@link PageHeight}.
+     */
+    public static final String PROFILE_PAGE = "profile.html";
+
+    private final String contextPath;
+    private final List<String> trackerNames;
+    private final boolean requiresManualInput;
+    @Nullable
+    private final String landingPage;
+    private final String loginPath;
+    private final String homePath;
+    private final String logoutPath;
+    private final String postLogoutPath;
+    private final Map<String, String> authenticatedPages;
+
+    StandInSite(final String contextPath, final List<String> trackerNames, final boolean requiresManualInput, @Nullable final String landingPage,
+                final String loginPath, final String homePath, final String logoutPath, final String postLogoutPath,
+                final Map<String, String> authenticatedPages) {
+        this.contextPath = contextPath;
+        this.trackerNames = trackerNames;
+        this.requiresManualInput = requiresManualInput;
+        this.landingPage = landingPage;
+        this.loginPath = loginPath;
+        this.homePath = homePath;
+        this.logoutPath = logoutPath;
+        this.postLogoutPath = postLogoutPath;
+        this.authenticatedPages = authenticatedPages;
+    }
+
+    /**
+     * The context path of the site, without any leading or trailing {@code /}.
+     *
+     * @return the context path
+     */
+    public String contextPath() {
+        return contextPath;
+    }
+
+    /**
+     * The names of the trackers whose handler can be executed against this {@link StandInSite}.
+     *
+     * @return the tracker names
+     */
+    public List<String> trackerNames() {
+        return trackerNames;
+    }
+
+    /**
+     * Whether the handlers for this {@link StandInSite} require manual input (like a Cloudflare verification or captcha), so cannot be executed
+     * unattended.
+     *
+     * @return {@code true} if manual input is required
+     */
+    public boolean requiresManualInput() {
+        return requiresManualInput;
+    }
+
+    /**
+     * The page served on {@code /} before logging in. If {@code null}, the user is instead redirected to the {@link #loginPath()}.
+     *
+     * @return the landing page resource name, or {@code null} if there is no landing page
+     */
+    @Nullable
+    public String landingPage() {
+        return landingPage;
+    }
+
+    /**
+     * The path (relative to the {@link #contextPath()}) that serves the {@link #LOGIN_PAGE}, and accepts the login form submission.
+     *
+     * @return the login path
+     */
+    public String loginPath() {
+        return loginPath;
+    }
+
+    /**
+     * The path (relative to the {@link #contextPath()}) that the user is redirected to after logging in.
+     *
+     * @return the home path
+     */
+    public String homePath() {
+        return homePath;
+    }
+
+    /**
+     * The path (relative to the {@link #contextPath()}) that ends the user's session, for both {@code GET} and {@code POST} requests.
+     *
+     * @return the logout path
+     */
+    public String logoutPath() {
+        return logoutPath;
+    }
+
+    /**
+     * The path (relative to the {@link #contextPath()}) that the user is redirected to after logging out.
+     *
+     * @return the post-logout path
+     */
+    public String postLogoutPath() {
+        return postLogoutPath;
+    }
+
+    /**
+     * The pages that can only be viewed once logged in, keyed by their path (relative to the {@link #contextPath()}).
+     *
+     * @return the authenticated page resource names, keyed by path
+     */
+    public Map<String, String> authenticatedPages() {
+        return authenticatedPages;
+    }
+}
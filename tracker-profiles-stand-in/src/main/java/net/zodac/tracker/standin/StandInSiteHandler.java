@@ -0,0 +1,261 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link HttpHandler} serving the pages of a single {@link StandInSite}. A session cookie is set once the login form is submitted with any non-blank
+ * password, and the {@link StandInSite#authenticatedPages()} redirect to the login page without it. Every response is delayed by a fixed latency,
+ * to mimic a remote tracker, and the {@link StandInSite#PROFILE_PAGE} is padded to the configured {@link PageHeight}.
+ *
+ * <p>
+ * If a {@link RecordedFixture} is provided, its pages are served in place of the bundled pages of the {@link StandInSite}, delayed by the latency
+ * recorded for each page instead. The routing of the {@link StandInSite} is unchanged, so redirects still use the fixed latency.
+ */
+final class StandInSiteHandler implements HttpHandler {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String CONTENT_TYPE = "text/html; charset=utf-8";
+    private static final String PASSWORD_FIELD = "password";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
+    private final StandInSite standInSite;
+    private final Duration latency;
+    private final String sessionCookieName;
+    private final Map<String, byte[]> pages;
+    private final Map<String, Duration> pageLatencies;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor for a {@link StandInSiteHandler}, loading all pages of the {@link StandInSite}.
+     *
+     * @param standInSite     the {@link StandInSite} to serve
+     * @param latency         the {@link Duration} to wait before responding to each request without a recorded latency
+     * @param pageHeight      the {@link PageHeight} of the {@link StandInSite#PROFILE_PAGE}
+     * @param recordedFixture the {@link RecordedFixture} whose pages replace those of the {@link StandInSite}, or {@code null} to only serve the
+     *                        bundled pages
+     * @throws UncheckedIOException thrown if any page of the {@link StandInSite} cannot be loaded
+     */
+    StandInSiteHandler(final StandInSite standInSite, final Duration latency, final PageHeight pageHeight,
+                       @Nullable final RecordedFixture recordedFixture) {
+        this.standInSite = standInSite;
+        this.latency = latency;
+        sessionCookieName = "stand_in_" + standInSite.contextPath();
+        pages = loadPages(standInSite, pageHeight, recordedFixture);
+        pageLatencies = recordedFixture == null ? Map.of() : recordedFixture.latencies();
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String path = relativePath(exchange);
+            final boolean isPost = "POST".equals(exchange.getRequestMethod());
+            final String sessionId = findSessionId(exchange);
+            final boolean loggedIn = sessionId != null && sessions.contains(sessionId);
+            LOGGER.trace("[{}] {} {} (logged in: {})", standInSite.contextPath(), exchange.getRequestMethod(), path, loggedIn);
+
+            if (path.equals(standInSite.logoutPath())) {
+                if (sessionId != null) {
+                    sessions.remove(sessionId);
+                }
+                exchange.getResponseHeaders().add("Set-Cookie", sessionCookie("", 0));
+                redirect(exchange, standInSite.postLogoutPath());
+            } else if (path.equals(standInSite.loginPath())) {
+                handleLogin(exchange, isPost, loggedIn);
+            } else {
+                handlePage(exchange, path, loggedIn);
+            }
+        }
+    }
+
+    private void handlePage(final HttpExchange exchange, final String path, final boolean loggedIn) throws IOException {
+        final String authenticatedPage = standInSite.authenticatedPages().get(path);
+        final String landingPage = standInSite.landingPage();
+        final boolean isRoot = "/".equals(path);
+
+        if (loggedIn && authenticatedPage != null) {
+            sendPage(exchange, authenticatedPage);
+        } else if (loggedIn && isRoot) {
+            redirect(exchange, standInSite.homePath());
+        } else if (isRoot && landingPage != null) {
+            sendPage(exchange, landingPage);
+        } else if (isRoot || authenticatedPage != null) {
+            redirect(exchange, standInSite.loginPath());
+        } else if (waitForLatency(exchange, latency)) {
+            exchange.sendResponseHeaders(HTTP_NOT_FOUND, -1L);
+        }
+    }
+
+    private void handleLogin(final HttpExchange exchange, final boolean isPost, final boolean loggedIn) throws IOException {
+        if (!isPost) {
+            if (loggedIn) {
+                redirect(exchange, standInSite.homePath());
+            } else {
+                sendPage(exchange, StandInSite.LOGIN_PAGE);
+            }
+            return;
+        }
+
+        final String password = parseForm(exchange).getOrDefault(PASSWORD_FIELD, "");
+        if (password.isBlank()) {
+            redirect(exchange, standInSite.loginPath());
+            return;
+        }
+
+        final String sessionId = UUID.randomUUID().toString();
+        sessions.add(sessionId);
+        exchange.getResponseHeaders().add("Set-Cookie", sessionCookie(sessionId, -1));
+        redirect(exchange, standInSite.homePath());
+    }
+
+    // Responds with a 503 if interrupted, in which case no other response should be sent
+    private static boolean waitForLatency(final HttpExchange exchange, final Duration latency) throws IOException {
+        if (latency.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(latency);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted waiting to respond to request", e);
+            exchange.sendResponseHeaders(HTTP_SERVICE_UNAVAILABLE, -1L);
+            return false;
+        }
+    }
+
+    private String relativePath(final HttpExchange exchange) {
+        final String relativePath = exchange.getRequestURI().getPath().substring(standInSite.contextPath().length() + 1);
+        return relativePath.isEmpty() ? "/" : relativePath;
+    }
+
+    @Nullable
+    private String findSessionId(final HttpExchange exchange) {
+        final List<String> cookieHeaders = exchange.getRequestHeaders().getOrDefault("Cookie", List.of());
+        for (final String cookieHeader : cookieHeaders) {
+            for (final String cookie : cookieHeader.split(";")) {
+                final String[] nameAndValue = cookie.strip().split("=", 2);
+                if (nameAndValue.length == 2 && nameAndValue[0].equals(sessionCookieName) && !nameAndValue[1].isEmpty()) {
+                    return nameAndValue[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private String sessionCookie(final String value, final int maxAgeInSeconds) {
+        final String maxAge = maxAgeInSeconds < 0 ? "" : ("; Max-Age=" + maxAgeInSeconds);
+        return String.format("%s=%s; Path=/%s; HttpOnly%s", sessionCookieName, value, standInSite.contextPath(), maxAge);
+    }
+
+    private void redirect(final HttpExchange exchange, final String path) throws IOException {
+        if (!waitForLatency(exchange, latency)) {
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Location", "/" + standInSite.contextPath() + path);
+        exchange.sendResponseHeaders(HTTP_FOUND, -1L);
+    }
+
+    private void sendPage(final HttpExchange exchange, final String pageName) throws IOException {
+        if (!waitForLatency(exchange, pageLatencies.getOrDefault(pageName, latency))) {
+            return;
+        }
+
+        final byte[] page = Objects.requireNonNull(pages.get(pageName));
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(HTTP_OK, page.length);
+        try (final OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(page);
+        }
+    }
+
+    private static Map<String, String> parseForm(final HttpExchange exchange) throws IOException {
+        final String body;
+        try (final InputStream requestBody = exchange.getRequestBody()) {
+            body = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        final Map<String, String> form = new HashMap<>();
+        for (final String field : body.split("&")) {
+            final String[] nameAndValue = field.split("=", 2);
+            if (nameAndValue.length == 2) {
+                form.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8), URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static Map<String, byte[]> loadPages(final StandInSite standInSite, final PageHeight pageHeight,
+                                                 @Nullable final RecordedFixture recordedFixture) {
+        final Map<String, byte[]> pages = new HashMap<>();
+        pages.put(StandInSite.LOGIN_PAGE, loadPage(standInSite, StandInSite.LOGIN_PAGE, recordedFixture));
+        final String landingPage = standInSite.landingPage();
+        if (landingPage != null) {
+            pages.put(landingPage, loadPage(standInSite, landingPage, recordedFixture));
+        }
+        for (final String pageName : standInSite.authenticatedPages().values()) {
+            pages.put(pageName, loadPage(standInSite, pageName, recordedFixture));
+        }
+
+        final byte[] profilePage = Objects.requireNonNull(pages.get(StandInSite.PROFILE_PAGE));
+        pages.put(StandInSite.PROFILE_PAGE, pageHeight.pad(new String(profilePage, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8));
+        return Map.copyOf(pages);
+    }
+
+    private static byte[] loadPage(final StandInSite standInSite, final String pageName, @Nullable final RecordedFixture recordedFixture) {
+        final String recordedPage = recordedFixture == null ? null : recordedFixture.pages().get(pageName);
+        if (recordedPage != null) {
+            return recordedPage.getBytes(StandardCharsets.UTF_8);
+        }
+
+        final String resourceName = String.format("/sites/%s/%s", standInSite.contextPath(), pageName);
+        try (final InputStream inputStream = StandInSiteHandler.class.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IOException(String.format("Unable to find page '%s'", resourceName));
+            }
+            return inputStream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An embedded HTTP server serving each {@link StandInSite}, so the tracker handlers can be executed end-to-end without connecting to a real
+ * tracker. Each tracker to be executed should have its URL overridden using the {@code TRACKER_URL_OVERRIDES} environment variable of the
+ * application, pointing to the {@link StandInSite} of the same family.
+ *
+ * <p>
+ * The server is configured using the following environment variables:
+ * <ul>
+ *     <li>{@value #PORT_ENVIRONMENT_VARIABLE}: the port to listen on (defaults to {@value #DEFAULT_PORT})</li>
+ *     <li>{@value #LATENCY_ENVIRONMENT_VARIABLE}: the latency in milliseconds added to each response (defaults to {@value #DEFAULT_LATENCY})</li>
+ *     <li>{@value #PAGE_HEIGHT_ENVIRONMENT_VARIABLE}: the {@link PageHeight} of each profile page (defaults to {@value #DEFAULT_PAGE_HEIGHT})</li>
+ *     <li>{@value #FIXTURES_DIRECTORY_ENVIRONMENT_VARIABLE}: the directory of pages recorded by the application, served in place of the bundled
+ *     pages of the matching {@link StandInSite} (optional)</li>
+ * </ul>
+ */
+public final class StandInTrackerServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String PORT_ENVIRONMENT_VARIABLE = "STAND_IN_PORT";
+    private static final String LATENCY_ENVIRONMENT_VARIABLE = "STAND_IN_LATENCY";
+    private static final String PAGE_HEIGHT_ENVIRONMENT_VARIABLE = "STAND_IN_PAGE_HEIGHT";
+    private static final String FIXTURES_DIRECTORY_ENVIRONMENT_VARIABLE = "STAND_IN_FIXTURES_DIRECTORY";
+    private static final int DEFAULT_PORT = 8090;
+    private static final int DEFAULT_LATENCY = 150;
+    private static final String DEFAULT_PAGE_HEIGHT = "short";
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+
+    private StandInTrackerServer(final HttpServer httpServer, final ExecutorService executorService) {
+        this.httpServer = httpServer;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Starts the {@link StandInTrackerServer}, and serves each {@link StandInSite} until the application is stopped.
+     *
+     * @param args unused
+     * @throws IOException          thrown if the server cannot be bound to the port
+     * @throws InterruptedException thrown if interrupted while serving the {@link StandInSite}s
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int port = getIntegerEnvironmentVariable(PORT_ENVIRONMENT_VARIABLE, DEFAULT_PORT);
+        final Duration latency = Duration.ofMillis(getIntegerEnvironmentVariable(LATENCY_ENVIRONMENT_VARIABLE, DEFAULT_LATENCY));
+        final PageHeight pageHeight = getPageHeight();
+        final String fixturesDirectory = System.getenv(FIXTURES_DIRECTORY_ENVIRONMENT_VARIABLE);
+
+        final CountDownLatch shutdownLatch = new CountDownLatch(1);
+        try (final StandInTrackerServer _ = start(port, latency, pageHeight, fixturesDirectory == null ? null : Path.of(fixturesDirectory))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(shutdownLatch::countDown));
+            shutdownLatch.await();
+        }
+    }
+
+    /**
+     * Starts a {@link StandInTrackerServer} listening on all interfaces. Each request is handled on its own virtual thread, so the latency of one
+     * request does not delay any other.
+     *
+     * @param port       the port to listen on (or {@code 0} to use any free port)
+     * @param latency    the {@link Duration} to wait before responding to each request
+     * @param pageHeight the {@link PageHeight} of each profile page
+     * @return the started {@link StandInTrackerServer}
+     * @throws IOException thrown if the server cannot be bound to the port
+     * @see #start(int, Duration, PageHeight, Path)
+     */
+    public static StandInTrackerServer start(final int port, final Duration latency, final PageHeight pageHeight) throws IOException {
+        return start(port, latency, pageHeight, null);
+    }
+
+    /**
+     * Starts a {@link StandInTrackerServer} listening on all interfaces. Each request is handled on its own virtual thread, so the latency of one
+     * request does not delay any other.
+     *
+     * <p>
+     * If a {@code fixturesDirectory} is provided, any {@link StandInSite} with recorded pages for one of its {@link StandInSite#trackerNames()}
+     * serves those pages instead of its bundled pages, with the recorded latency of each page.
+     *
+     * @param port              the port to listen on (or {@code 0} to use any free port)
+     * @param latency           the {@link Duration} to wait before responding to each request without a recorded latency
+     * @param pageHeight        the {@link PageHeight} of each profile page
+     * @param fixturesDirectory the {@link Path} to the directory of recorded pages, or {@code null} to only serve the bundled pages
+     * @return the started {@link StandInTrackerServer}
+     * @throws IOException thrown if the server cannot be bound to the port
+     */
+    public static StandInTrackerServer start(final int port, final Duration latency, final PageHeight pageHeight,
+                                             @Nullable final Path fixturesDirectory) throws IOException {
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer.setExecutor(executorService);
+
+        final Collection<String> replayedTrackers = new ArrayList<>();
+        for (final StandInSite standInSite : StandInSite.values()) {
+            final RecordedFixture recordedFixture = fixturesDirectory == null ? null : RecordedFixture.find(fixturesDirectory, standInSite);
+            if (recordedFixture != null) {
+                replayedTrackers.add(String.format("%s (%s)", standInSite, recordedFixture.trackerName()));
+            }
+            httpServer.createContext("/" + standInSite.contextPath(), new StandInSiteHandler(standInSite, latency, pageHeight, recordedFixture));
+        }
+        httpServer.start();
+
+        final StandInTrackerServer standInTrackerServer = new StandInTrackerServer(httpServer, executorService);
+        LOGGER.info("Stand-in trackers available with {}ms latency and {} profile pages:", latency.toMillis(), pageHeight.toLowerCase());
+        final Collection<String> exampleOverrides = new ArrayList<>();
+        for (final StandInSite standInSite : StandInSite.values()) {
+            final String url = standInTrackerServer.url(standInSite);
+            LOGGER.info("\t- {}: [{}]", standInSite, url);
+            exampleOverrides.add(String.format("%s=%s", standInSite.trackerNames().getFirst(), url));
+        }
+        LOGGER.info("Example: TRACKER_URL_OVERRIDES={}", String.join(",", exampleOverrides));
+        if (!replayedTrackers.isEmpty()) {
+            LOGGER.info("Replaying recorded pages for: {}", String.join(", ", replayedTrackers));
+        }
+        return standInTrackerServer;
+    }
+
+    /**
+     * The URL of the {@link StandInSite} served by this {@link StandInTrackerServer}.
+     *
+     * @param standInSite the {@link StandInSite}
+     * @return the URL of the {@link StandInSite}, ending with a {@code /}
+     */
+    public String url(final StandInSite standInSite) {
+        return String.format("http://localhost:%d/%s/", httpServer.getAddress().getPort(), standInSite.contextPath());
+    }
+
+    private static PageHeight getPageHeight() {
+        final String pageHeightRaw = Objects.requireNonNullElse(System.getenv(PAGE_HEIGHT_ENVIRONMENT_VARIABLE), DEFAULT_PAGE_HEIGHT);
+        final PageHeight pageHeight = PageHeight.find(pageHeightRaw);
+        if (pageHeight == null) {
+            throw new IllegalArgumentException(String.format("Invalid page height found: '%s'", pageHeightRaw));
+        }
+        return pageHeight;
+    }
+
+    private static int getIntegerEnvironmentVariable(final String environmentVariableName, final int defaultValue) {
+        final String environmentVariable = System.getenv(environmentVariableName);
+        if (environmentVariable == null) {
+            return defaultValue;
+        }
+
+        try {
+            final int value = Integer.parseInt(environmentVariable);
+            if (value < 0) {
+                throw new IllegalArgumentException(String.format("Require a non-negative value for %s, found: %d", environmentVariableName, value));
+            }
+            return value;
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: '%s'", environmentVariableName, environmentVariable), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.stream.Stream;
+import net.zodac.tracker.standin.PageHeight;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Configuration for the {@link ThroughputBenchmark}, loaded from environment variables.
+ *
+ * @param applicationJar    the {@link Path} to the executable application JAR, run for each worker
+ * @param baselineFile      the {@link Path} to the baseline results, which the new results are compared against
+ * @param latency           the {@link Duration} added to each response from the stand-in trackers
+ * @param outputDirectory   the {@link Path} to the directory within which each worker's output and the results will be saved
+ * @param pageHeight        the {@link PageHeight} of each stand-in profile page
+ * @param parallelism       the number of workers (application executions) run at the same time
+ * @param saveBaseline      whether to replace the baseline results with the new results (a missing baseline is always saved)
+ * @param tolerance         the percentage by which a result may be worse than the baseline before it is reported as a regression
+ * @param trackers          the total number of synthetic trackers to execute
+ */
+record BenchmarkConfiguration(
+    Path applicationJar,
+    Path baselineFile,
+    Duration latency,
+    Path outputDirectory,
+    PageHeight pageHeight,
+    int parallelism,
+    boolean saveBaseline,
+    int tolerance,
+    int trackers
+) {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // Default values
+    private static final String DEFAULT_APPLICATION_JAR_DIRECTORY = "tracker-profiles-screenshots" + File.separator + "target";
+    private static final String DEFAULT_BASELINE_FILE = "throughput-baseline.json";
+    private static final int DEFAULT_LATENCY = 150;
+    private static final String DEFAULT_OUTPUT_DIRECTORY = File.separator + "tmp" + File.separator + "tracker-profiles-benchmark";
+    private static final String DEFAULT_PAGE_HEIGHT = "short";
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_TOLERANCE = 10;
+    private static final int DEFAULT_TRACKERS = 12;
+
+    /**
+     * Loads the {@link BenchmarkConfiguration} defined by environment variables.
+     *
+     * @return the {@link BenchmarkConfiguration}
+     * @throws IllegalArgumentException thrown if any environment variable is invalid, or no application JAR can be found
+     */
+    static BenchmarkConfiguration load() {
+        final Path outputDirectory = Paths.get(getOrDefault("BENCHMARK_OUTPUT_DIRECTORY", DEFAULT_OUTPUT_DIRECTORY));
+        final BenchmarkConfiguration benchmarkConfiguration = new BenchmarkConfiguration(
+            getApplicationJar(),
+            Paths.get(getOrDefault("BENCHMARK_BASELINE_FILE", outputDirectory.resolve(DEFAULT_BASELINE_FILE).toString())),
+            Duration.ofMillis(getIntegerEnvironmentVariable("STAND_IN_LATENCY", DEFAULT_LATENCY, 0)),
+            outputDirectory,
+            getPageHeight(),
+            getIntegerEnvironmentVariable("BENCHMARK_PARALLELISM", DEFAULT_PARALLELISM, 1),
+            Boolean.parseBoolean(getOrDefault("BENCHMARK_SAVE_BASELINE", Boolean.toString(false))),
+            getIntegerEnvironmentVariable("BENCHMARK_TOLERANCE", DEFAULT_TOLERANCE, 0),
+            getIntegerEnvironmentVariable("BENCHMARK_TRACKERS", DEFAULT_TRACKERS, 1)
+        );
+
+        benchmarkConfiguration.print();
+        return benchmarkConfiguration;
+    }
+
+    private static Path getApplicationJar() {
+        final String applicationJar = System.getenv("BENCHMARK_APPLICATION_JAR");
+        if (applicationJar != null) {
+            return Paths.get(applicationJar);
+        }
+
+        final Path applicationJarDirectory = Paths.get(DEFAULT_APPLICATION_JAR_DIRECTORY);
+        try (final Stream<Path> files = Files.list(applicationJarDirectory)) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith("tracker-profiles-screenshots-"))
+                .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException(
+                    String.format("No application JAR found in '%s', set BENCHMARK_APPLICATION_JAR", applicationJarDirectory.toAbsolutePath())));
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(
+                String.format("Unable to find application JAR in '%s', set BENCHMARK_APPLICATION_JAR", applicationJarDirectory.toAbsolutePath()), e);
+        }
+    }
+
+    private static PageHeight getPageHeight() {
+        final String pageHeightRaw = getOrDefault("STAND_IN_PAGE_HEIGHT", DEFAULT_PAGE_HEIGHT);
+        final PageHeight pageHeight = PageHeight.find(pageHeightRaw);
+        if (pageHeight == null) {
+            throw new IllegalArgumentException(String.format("Invalid page height found: '%s'", pageHeightRaw));
+        }
+        return pageHeight;
+    }
+
+    private static int getIntegerEnvironmentVariable(final String environmentVariableName, final int defaultValue, final int minimumValue) {
+        final String environmentVariable = getOrDefault(environmentVariableName, Integer.toString(defaultValue));
+        try {
+            final int value = Integer.parseInt(environmentVariable);
+            if (value < minimumValue) {
+                throw new IllegalArgumentException(
+                    String.format("Require a value of at least %d for %s, found: %d", minimumValue, environmentVariableName, value));
+            }
+            return value;
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: '%s'", environmentVariableName, environmentVariable), e);
+        }
+    }
+
+    private static String getOrDefault(final String environmentVariableName, final String defaultValue) {
+        final String environmentVariable = System.getenv(environmentVariableName);
+        if (environmentVariable != null) {
+            return environmentVariable;
+        }
+        return defaultValue;
+    }
+
+    private void print() {
+        LOGGER.debug("Loaded benchmark configuration:");
+        LOGGER.debug("\t- applicationJar={}", applicationJar);
+        LOGGER.debug("\t- baselineFile={}", baselineFile);
+        LOGGER.debug("\t- latency={}", latency);
+        LOGGER.debug("\t- outputDirectory={}", outputDirectory);
+        LOGGER.debug("\t- pageHeight={}", pageHeight);
+        LOGGER.debug("\t- parallelism={}", parallelism);
+        LOGGER.debug("\t- saveBaseline={}", saveBaseline);
+        LOGGER.debug("\t- tolerance={}", tolerance);
+        LOGGER.debug("\t- trackers={}", trackers);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically samples the total resident memory (RSS) of a set of processes and all of their descendants (like the web browsers started by each
+ * application execution), keeping the peak value. RSS is read from {@code /proc/<pid>/status}, so is only supported on Linux.
+ */
+final class ProcessTreeSampler implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final long SAMPLE_INTERVAL_MILLIS = 250L;
+    private static final Path PROC_DIRECTORY = Paths.get("/proc");
+    private static final String RSS_FIELD = "VmRSS:";
+    private static final long BYTES_PER_KILOBYTE = 1_024L;
+
+    private final Collection<ProcessHandle> processes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong peakRssBytes = new AtomicLong();
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("process-tree-sampler").daemon().factory());
+
+    /**
+     * Starts sampling every {@value #SAMPLE_INTERVAL_MILLIS}ms, if supported on this platform.
+     */
+    void start() {
+        if (!Files.isDirectory(PROC_DIRECTORY)) {
+            LOGGER.warn("Unable to sample process memory, '{}' is not available", PROC_DIRECTORY);
+            return;
+        }
+        scheduler.scheduleAtFixedRate(this::sample, 0L, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a process (and its descendants) to be sampled. The process is no longer sampled once it exits.
+     *
+     * @param process the {@link ProcessHandle} to sample
+     */
+    void add(final ProcessHandle process) {
+        processes.add(process);
+    }
+
+    /**
+     * The highest total RSS of all sampled processes seen at any one time.
+     *
+     * @return the peak RSS in bytes, or {@code 0} if not supported
+     */
+    long peakRssBytes() {
+        return peakRssBytes.get();
+    }
+
+    private void sample() {
+        processes.removeIf(process -> !process.isAlive());
+        long totalRssBytes = 0L;
+        for (final ProcessHandle process : processes) {
+            final List<ProcessHandle> processTree = Stream.concat(Stream.of(process), process.descendants()).toList();
+            for (final ProcessHandle processHandle : processTree) {
+                totalRssBytes += rssBytes(processHandle.pid());
+            }
+        }
+        peakRssBytes.accumulateAndGet(totalRssBytes, Math::max);
+    }
+
+    // The process may exit between being listed and being read, in which case it no longer uses any memory
+    private static long rssBytes(final long pid) {
+        try {
+            for (final String line : Files.readAllLines(PROC_DIRECTORY.resolve(Long.toString(pid)).resolve("status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith(RSS_FIELD)) {
+                    final String rssKilobytes = line.substring(RSS_FIELD.length()).strip().split("\\s+")[0];
+                    return Long.parseLong(rssKilobytes) * BYTES_PER_KILOBYTE;
+                }
+            }
+        } catch (final IOException | NumberFormatException e) {
+            LOGGER.trace("Unable to read RSS of process {}", pid, e);
+        }
+        return 0L;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
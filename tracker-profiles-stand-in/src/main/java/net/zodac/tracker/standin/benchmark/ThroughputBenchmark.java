@@ -0,0 +1,293 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import net.zodac.tracker.standin.StandInSite;
+import net.zodac.tracker.standin.StandInTrackerServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * End-to-end throughput benchmark, executing synthetic trackers through the real application against a {@link StandInTrackerServer}.
+ *
+ * <p>
+ * The {@link BenchmarkConfiguration#trackers()} are split into batches, each executed by a separate run of the application JAR (a worker), with
+ * {@link BenchmarkConfiguration#parallelism()} workers run at the same time. Each synthetic tracker is a real tracker name whose handler matches a
+ * {@link StandInSite}, with its URL overridden to point at the stand-in site. Any other application environment variables (like
+ * {@code DEFERRED_RENDERING} or {@code OUTPUT_FORMATS}) are passed through to each worker, so different configurations can be compared.
+ *
+ * <p>
+ * Once all workers complete, the {@code timings.json} of each worker is used to calculate the per-tracker latency, and the results are saved as
+ * {@value #RESULTS_FILE_NAME}. The results are compared against the {@link BenchmarkConfiguration#baselineFile()}, and the application exits with
+ * a non-zero code if any result has regressed.
+ */
+public final class ThroughputBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String RESULTS_FILE_NAME = "throughput-results.json";
+    private static final String TIMINGS_FILE_NAME = "timings.json";
+    private static final String TRACKER_INPUT_FILE_NAME = "trackers.csv";
+    private static final String WORKER_LOG_FILE_NAME = "application.log";
+    private static final String TRACKER_STEP = "TRACKER";
+    private static final String ATTRIBUTE_OUTCOME = "tracker.outcome";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final int MEDIAN_PERCENTILE = 50;
+    private static final int TAIL_PERCENTILE = 95;
+    private static final double MILLIS_PER_MINUTE = Duration.ofMinutes(1L).toMillis();
+    private static final long NANOS_PER_MILLI = Duration.ofMillis(1L).toNanos();
+
+    private ThroughputBenchmark() {
+
+    }
+
+    /**
+     * Executes the benchmark, then saves and compares the results.
+     *
+     * @param args unused
+     * @throws ExecutionException   thrown if a worker could not be executed
+     * @throws InterruptedException thrown if interrupted while waiting for the workers
+     * @throws IOException          thrown if an error occurs reading or writing the benchmark files
+     */
+    public static void main(final String[] args) throws ExecutionException, InterruptedException, IOException {
+        final BenchmarkConfiguration config = BenchmarkConfiguration.load();
+        final Path runDirectory = config.outputDirectory().resolve("run-" + System.currentTimeMillis());
+        Files.createDirectories(runDirectory);
+
+        final ThroughputResult result = execute(config, runDirectory);
+        printResult(result);
+        Files.writeString(runDirectory.resolve(RESULTS_FILE_NAME), PRETTY_GSON.toJson(result.toJson()), StandardCharsets.UTF_8);
+
+        final List<String> regressions = compareAgainstBaseline(config, result);
+        if (config.saveBaseline() || !Files.exists(config.baselineFile())) {
+            Files.writeString(config.baselineFile(), PRETTY_GSON.toJson(result.toJson()), StandardCharsets.UTF_8);
+            LOGGER.info("Baseline saved at: [{}]", config.baselineFile().toAbsolutePath());
+        }
+
+        System.exit(regressions.isEmpty() ? 0 : 1); // NOPMD: DoNotTerminateVM - exit code used to flag regressions
+    }
+
+    private static ThroughputResult execute(final BenchmarkConfiguration config, final Path runDirectory)
+        throws ExecutionException, InterruptedException, IOException {
+        final List<List<String>> batches = createBatches(config.trackers(), config.parallelism());
+        final String batchesPlural = batches.size() == 1 ? "" : "es";
+        LOGGER.info(">>> Executing {} synthetic trackers in {} batch{}, {} at a time <<<", config.trackers(), batches.size(), batchesPlural,
+            config.parallelism());
+
+        final List<Path> workerDirectories = new ArrayList<>();
+        final long wallTimeNanos;
+        final long peakRssBytes;
+        try (final StandInTrackerServer standInTrackerServer = StandInTrackerServer.start(0, config.latency(), config.pageHeight());
+             final ProcessTreeSampler processTreeSampler = new ProcessTreeSampler();
+             final ExecutorService executorService = Executors.newFixedThreadPool(config.parallelism())) {
+            processTreeSampler.start();
+            final long startNanos = System.nanoTime();
+
+            final List<Future<Path>> workers = new ArrayList<>();
+            for (int i = 0; i < batches.size(); i++) {
+                final Path workerDirectory = runDirectory.resolve("worker-" + i);
+                final List<String> trackerNames = batches.get(i);
+                workers.add(executorService.submit(() -> runWorker(config, standInTrackerServer, processTreeSampler, workerDirectory, trackerNames)));
+            }
+
+            for (final Future<Path> worker : workers) {
+                workerDirectories.add(worker.get());
+            }
+            wallTimeNanos = System.nanoTime() - startNanos;
+            peakRssBytes = processTreeSampler.peakRssBytes();
+        }
+
+        return createResult(config, workerDirectories, wallTimeNanos, peakRssBytes);
+    }
+
+    // Each batch is run by a single application execution, so a tracker name may only appear once per batch
+    private static List<List<String>> createBatches(final int numberOfTrackers, final int parallelism) {
+        final List<String> trackerNames = Stream.of(StandInSite.values())
+            .filter(standInSite -> !standInSite.requiresManualInput())
+            .flatMap(standInSite -> standInSite.trackerNames().stream())
+            .toList();
+        final int batchSize = Math.min(trackerNames.size(), (numberOfTrackers + parallelism - 1) / parallelism);
+
+        final List<List<String>> batches = new ArrayList<>();
+        for (int batchStart = 0; batchStart < numberOfTrackers; batchStart += batchSize) {
+            final List<String> batch = new ArrayList<>();
+            for (int i = batchStart; i < Math.min(batchStart + batchSize, numberOfTrackers); i++) {
+                batch.add(trackerNames.get(i % trackerNames.size()));
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static Path runWorker(final BenchmarkConfiguration config, final StandInTrackerServer standInTrackerServer,
+                                  final ProcessTreeSampler processTreeSampler, final Path workerDirectory, final List<String> trackerNames)
+        throws IOException, InterruptedException {
+        Files.createDirectories(workerDirectory);
+        final Path trackerInputFile = workerDirectory.resolve(TRACKER_INPUT_FILE_NAME);
+        final StringBuilder trackerInput = new StringBuilder("trackerName,username,password\n");
+        final Collection<String> trackerUrlOverrides = new ArrayList<>();
+        for (final String trackerName : trackerNames) {
+            trackerInput.append(trackerName).append(",benchmark_user,benchmark_password\n");
+            trackerUrlOverrides.add(trackerName + "=" + standInTrackerServer.url(findStandInSite(trackerName)));
+        }
+        Files.writeString(trackerInputFile, trackerInput, StandardCharsets.UTF_8);
+
+        final String javaCommand = ProcessHandle.current().info().command().orElse("java");
+        final ProcessBuilder processBuilder = new ProcessBuilder(javaCommand, "-jar", config.applicationJar().toAbsolutePath().toString())
+            .redirectErrorStream(true)
+            .redirectOutput(workerDirectory.resolve(WORKER_LOG_FILE_NAME).toFile());
+
+        final Map<String, String> environment = processBuilder.environment();
+        environment.remove("DAEMON_INTERVAL");
+        environment.remove("METRICS_PORT");
+        environment.put("FORCE_UI_BROWSER", Boolean.toString(false));
+        environment.put("OPEN_OUTPUT_DIRECTORY", Boolean.toString(false));
+        environment.put("OUTPUT_DIRECTORY_PARENT_PATH", workerDirectory.toAbsolutePath().toString());
+        environment.put("TRACKER_EXECUTION_ORDER", "headless");
+        environment.put("TRACKER_INPUT_FILE_PATH", trackerInputFile.toAbsolutePath().toString());
+        environment.put("TRACKER_URL_OVERRIDES", String.join(",", trackerUrlOverrides));
+
+        LOGGER.info("\t- Starting {}: {}", workerDirectory.getFileName(), trackerNames);
+        final Process process = processBuilder.start();
+        processTreeSampler.add(process.toHandle());
+        final int exitCode = process.waitFor();
+        LOGGER.info("\t- Completed {} with exit code {}", workerDirectory.getFileName(), exitCode);
+        return workerDirectory;
+    }
+
+    private static StandInSite findStandInSite(final String trackerName) {
+        return Stream.of(StandInSite.values())
+            .filter(standInSite -> standInSite.trackerNames().contains(trackerName))
+            .findAny()
+            .orElseThrow(() -> new IllegalStateException(String.format("No stand-in site for tracker '%s'", trackerName)));
+    }
+
+    private static ThroughputResult createResult(final BenchmarkConfiguration config, final Collection<Path> workerDirectories,
+                                                 final long wallTimeNanos, final long peakRssBytes) throws IOException {
+        final List<Long> trackerDurationsMillis = new ArrayList<>();
+        long bytesWritten = 0L;
+        for (final Path workerDirectory : workerDirectories) {
+            try (final Stream<Path> files = Files.walk(workerDirectory)) {
+                for (final Path file : files.filter(Files::isRegularFile).toList()) {
+                    final String fileName = file.getFileName().toString();
+                    if (TIMINGS_FILE_NAME.equals(fileName)) {
+                        trackerDurationsMillis.addAll(findSuccessfulTrackerDurations(file));
+                    }
+                    if (!TRACKER_INPUT_FILE_NAME.equals(fileName) && !WORKER_LOG_FILE_NAME.equals(fileName)) {
+                        bytesWritten += Files.size(file);
+                    }
+                }
+            }
+        }
+
+        final long wallTimeMillis = wallTimeNanos / NANOS_PER_MILLI;
+        final List<Long> sortedDurations = trackerDurationsMillis.stream().sorted().toList();
+        return new ThroughputResult(
+            config.trackers(),
+            config.parallelism(),
+            config.latency().toMillis(),
+            config.pageHeight().viewportHeights(),
+            sortedDurations.size(),
+            wallTimeMillis,
+            sortedDurations.size() * MILLIS_PER_MINUTE / Math.max(1L, wallTimeMillis),
+            percentile(sortedDurations, MEDIAN_PERCENTILE),
+            percentile(sortedDurations, TAIL_PERCENTILE),
+            peakRssBytes,
+            bytesWritten
+        );
+    }
+
+    private static List<Long> findSuccessfulTrackerDurations(final Path timingsFile) throws IOException {
+        final JsonObject timings = JsonParser.parseString(Files.readString(timingsFile, StandardCharsets.UTF_8)).getAsJsonObject();
+        final List<Long> trackerDurationsMillis = new ArrayList<>();
+        for (final JsonElement spanElement : timings.getAsJsonArray("spans")) {
+            final JsonObject span = spanElement.getAsJsonObject();
+            final JsonElement outcome = span.get(ATTRIBUTE_OUTCOME);
+            if (TRACKER_STEP.equals(span.get("step").getAsString()) && outcome != null && OUTCOME_SUCCESS.equals(outcome.getAsString())) {
+                trackerDurationsMillis.add(span.get("durationNanos").getAsLong() / NANOS_PER_MILLI);
+            }
+        }
+        return trackerDurationsMillis;
+    }
+
+    // Nearest-rank percentile of the sorted values
+    private static long percentile(final List<Long> sortedValues, final int percentile) {
+        if (sortedValues.isEmpty()) {
+            return 0L;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0D * sortedValues.size());
+        return sortedValues.get(Math.max(0, rank - 1));
+    }
+
+    private static void printResult(final ThroughputResult result) {
+        LOGGER.info("");
+        LOGGER.info(">>> Throughput results <<<");
+        LOGGER.info("\t- Successful trackers: {}/{}", result.successfulTrackers(), result.trackers());
+        LOGGER.info("\t- Wall time: {}ms", result.wallTimeMillis());
+        LOGGER.info("\t- Trackers/minute: {}", String.format("%.2f", result.trackersPerMinute()));
+        LOGGER.info("\t- Per-tracker latency: p50={}ms, p95={}ms", result.p50Millis(), result.p95Millis());
+        LOGGER.info("\t- Peak RSS: {}MB", result.peakRssBytes() / (1_024L * 1_024L));
+        LOGGER.info("\t- Bytes written: {}", result.bytesWritten());
+    }
+
+    private static List<String> compareAgainstBaseline(final BenchmarkConfiguration config, final ThroughputResult result) throws IOException {
+        final File baselineFile = config.baselineFile().toFile();
+        if (!baselineFile.exists()) {
+            LOGGER.info("No baseline found at: [{}]", baselineFile.getAbsolutePath());
+            return List.of();
+        }
+
+        final ThroughputResult baseline =
+            ThroughputResult.fromJson(JsonParser.parseString(Files.readString(baselineFile.toPath(), StandardCharsets.UTF_8)).getAsJsonObject());
+        if (!result.isComparableTo(baseline)) {
+            LOGGER.warn("Baseline was executed with different trackers, parallelism, latency or page height, skipping comparison");
+            return List.of();
+        }
+
+        final List<String> regressions = result.findRegressions(baseline, config.tolerance());
+        if (regressions.isEmpty()) {
+            LOGGER.info("No regressions against baseline (tolerance: {}%)", config.tolerance());
+        } else {
+            LOGGER.warn("Regressions against baseline (tolerance: {}%):", config.tolerance());
+            for (final String regression : regressions) {
+                LOGGER.warn("\t- {}", regression);
+            }
+        }
+        return regressions;
+    }
+}
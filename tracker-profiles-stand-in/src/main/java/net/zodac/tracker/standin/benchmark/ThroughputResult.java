@@ -0,0 +1,147 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.standin.benchmark;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The results of a single {@link ThroughputBenchmark} execution.
+ *
+ * @param trackers           the total number of synthetic trackers executed
+ * @param parallelism        the number of workers run at the same time
+ * @param latencyMillis      the latency added to each response from the stand-in trackers, in milliseconds
+ * @param pageHeight         the height of each stand-in profile page, as a multiple of the viewport height
+ * @param successfulTrackers the number of trackers that successfully saved a screenshot
+ * @param wallTimeMillis     the total time taken for all workers to complete, in milliseconds
+ * @param trackersPerMinute  the number of successful trackers completed per minute
+ * @param p50Millis          the median time taken for a single tracker, in milliseconds
+ * @param p95Millis          the 95th percentile time taken for a single tracker, in milliseconds
+ * @param peakRssBytes       the peak total RSS of all workers and their web browsers, in bytes (or {@code 0} if not supported)
+ * @param bytesWritten       the total size of all files written by the workers, in bytes
+ */
+record ThroughputResult(
+    int trackers,
+    int parallelism,
+    long latencyMillis,
+    int pageHeight,
+    int successfulTrackers,
+    long wallTimeMillis,
+    double trackersPerMinute,
+    long p50Millis,
+    long p95Millis,
+    long peakRssBytes,
+    long bytesWritten
+) {
+
+    private static final double ONE_HUNDRED_PERCENT = 100.0D;
+
+    /**
+     * Converts the {@link ThroughputResult} into a {@link JsonObject}.
+     *
+     * @return the {@link JsonObject}
+     */
+    JsonObject toJson() {
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("trackers", trackers);
+        jsonObject.addProperty("parallelism", parallelism);
+        jsonObject.addProperty("latencyMillis", latencyMillis);
+        jsonObject.addProperty("pageHeight", pageHeight);
+        jsonObject.addProperty("successfulTrackers", successfulTrackers);
+        jsonObject.addProperty("wallTimeMillis", wallTimeMillis);
+        jsonObject.addProperty("trackersPerMinute", trackersPerMinute);
+        jsonObject.addProperty("p50Millis", p50Millis);
+        jsonObject.addProperty("p95Millis", p95Millis);
+        jsonObject.addProperty("peakRssBytes", peakRssBytes);
+        jsonObject.addProperty("bytesWritten", bytesWritten);
+        return jsonObject;
+    }
+
+    /**
+     * Converts a {@link JsonObject} created by {@link #toJson()} back into a {@link ThroughputResult}.
+     *
+     * @param jsonObject the {@link JsonObject}
+     * @return the {@link ThroughputResult}
+     */
+    static ThroughputResult fromJson(final JsonObject jsonObject) {
+        return new ThroughputResult(
+            jsonObject.get("trackers").getAsInt(),
+            jsonObject.get("parallelism").getAsInt(),
+            jsonObject.get("latencyMillis").getAsLong(),
+            jsonObject.get("pageHeight").getAsInt(),
+            jsonObject.get("successfulTrackers").getAsInt(),
+            jsonObject.get("wallTimeMillis").getAsLong(),
+            jsonObject.get("trackersPerMinute").getAsDouble(),
+            jsonObject.get("p50Millis").getAsLong(),
+            jsonObject.get("p95Millis").getAsLong(),
+            jsonObject.get("peakRssBytes").getAsLong(),
+            jsonObject.get("bytesWritten").getAsLong()
+        );
+    }
+
+    /**
+     * Checks whether the {@code baseline} was executed with the same number of trackers, parallelism, latency and page height, so the results can
+     * be compared.
+     *
+     * @param baseline the baseline {@link ThroughputResult}
+     * @return {@code true} if the results are comparable
+     */
+    boolean isComparableTo(final ThroughputResult baseline) {
+        return trackers == baseline.trackers
+            && parallelism == baseline.parallelism
+            && latencyMillis == baseline.latencyMillis
+            && pageHeight == baseline.pageHeight;
+    }
+
+    /**
+     * Compares this {@link ThroughputResult} against the {@code baseline}, finding any result that is worse than the baseline by more than the
+     * {@code tolerance}. A lower {@link #trackersPerMinute()} or {@link #successfulTrackers()} is worse, and a higher value for any other result is
+     * worse.
+     *
+     * @param baseline  the baseline {@link ThroughputResult}
+     * @param tolerance the percentage by which a result may be worse than the baseline
+     * @return a description of each regression, or an empty {@link List} if there are none
+     */
+    List<String> findRegressions(final ThroughputResult baseline, final int tolerance) {
+        final List<String> regressions = new ArrayList<>();
+        if (successfulTrackers < baseline.successfulTrackers) {
+            regressions.add(String.format("successfulTrackers: %d (baseline: %d)", successfulTrackers, baseline.successfulTrackers));
+        }
+        if (baseline.trackersPerMinute > 0.0D && trackersPerMinute < baseline.trackersPerMinute * (1.0D - toleranceRatio(tolerance))) {
+            regressions.add(String.format(Locale.ROOT, "trackersPerMinute: %.2f (baseline: %.2f)", trackersPerMinute, baseline.trackersPerMinute));
+        }
+        addIfHigher(regressions, "p50Millis", p50Millis, baseline.p50Millis, tolerance);
+        addIfHigher(regressions, "p95Millis", p95Millis, baseline.p95Millis, tolerance);
+        addIfHigher(regressions, "peakRssBytes", peakRssBytes, baseline.peakRssBytes, tolerance);
+        addIfHigher(regressions, "bytesWritten", bytesWritten, baseline.bytesWritten, tolerance);
+        return regressions;
+    }
+
+    private static void addIfHigher(final List<String> regressions, final String name, final long value, final long baselineValue,
+                                    final int tolerance) {
+        if (baselineValue > 0L && value > baselineValue * (1.0D + toleranceRatio(tolerance))) {
+            regressions.add(String.format("%s: %d (baseline: %d)", name, value, baselineValue));
+        }
+    }
+
+    private static double toleranceRatio(final int tolerance) {
+        return tolerance / ONE_HUNDRED_PERCENT;
+    }
+}